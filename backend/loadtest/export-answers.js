@@ -0,0 +1,61 @@
+// 답변 이력 CSV 내보내기 부하 테스트 (k6)
+//
+// 서버를 고정 힙으로 띄운 뒤(예: JAVA_TOOL_OPTIONS=-Xmx256m) seed-export-answers.sql로 수백만 행을 만들고 실행합니다.
+// 내보내기가 동시에 여러 개 돌아도 힙 사용량(jvm.memory.used)이 행 수와 무관하게 일정해야 합니다.
+// VUS가 export.max-concurrent보다 많으면 초과 요청은 503으로 바로 거부되어야 합니다 (export_rejected).
+//
+//   k6 run -e BASE_URL=http://localhost:8080/api -e USERNAME=teacher123 -e PASSWORD=... \
+//          -e STUDENT_ID=1 -e GZIP=true export-answers.js
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter, Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api';
+const STUDENT_ID = __ENV.STUDENT_ID || '1';
+const GZIP = __ENV.GZIP === 'true';
+
+const exportBytes = new Trend('export_bytes');
+const heapUsed = new Trend('jvm_heap_used_bytes');
+const exportRejected = new Counter('export_rejected');
+
+export const options = {
+    scenarios: {
+        export: { executor: 'constant-vus', vus: Number(__ENV.VUS || 4), duration: __ENV.DURATION || '5m' },
+        heap: { executor: 'constant-arrival-rate', rate: 1, timeUnit: '5s', duration: __ENV.DURATION || '5m',
+                preAllocatedVUs: 1, exec: 'sampleHeap' },
+    },
+    thresholds: {
+        'checks{scenario:export}': ['rate==1'],
+    },
+};
+
+export function setup() {
+    const res = http.post(`${BASE_URL}/auth/login`,
+        JSON.stringify({ username: __ENV.USERNAME, password: __ENV.PASSWORD }),
+        { headers: { 'Content-Type': 'application/json' } });
+    check(res, { 'login 200': (r) => r.status === 200 });
+    return { token: res.json('data.access_token') };
+}
+
+export default function (data) {
+    const res = http.get(`${BASE_URL}/sessions/history/students/${STUDENT_ID}/export?gzip=${GZIP}`, {
+        headers: { Authorization: `Bearer ${data.token}` },
+        responseType: 'binary',
+        timeout: '10m',
+    });
+    check(res, { 'export 200 or busy 503': (r) => r.status === 200 || r.status === 503 });
+    if (res.status === 503) {
+        exportRejected.add(1);
+        return;
+    }
+    exportBytes.add(res.body ? res.body.byteLength : 0);
+}
+
+export function sampleHeap(data) {
+    const res = http.get(`${BASE_URL}/actuator/metrics/jvm.memory.used?tag=area:heap`, {
+        headers: { Authorization: `Bearer ${data.token}` },
+    });
+    if (res.status === 200) {
+        heapUsed.add(res.json('measurements.0.value'));
+    }
+}
@@ -0,0 +1,78 @@
+// 9시 로그인 폭주 중 다른 API 지연 시간 부하 테스트 (k6)
+//
+// probe_baseline(폭주 전)과 probe_storm(폭주 중)의 GET /scenarios 지연 시간을 비교합니다.
+// 비밀번호 해시가 전용 풀에서만 돌면 두 값이 거의 같아야 하고, 폭주 중 로그인은 503(AUTH_SERVER_BUSY)으로 빠르게 거절됩니다.
+// 요청마다 X-Forwarded-For를 바꿔 IP 제한 대신 해시 풀의 동작을 측정합니다 (내부망에서 실행해야 서버가 이 헤더를 믿음).
+//
+//   k6 run -e BASE_URL=http://localhost:8080/api -e ORG_ID=1 -e USERS=200 -e PASSWORD='loadtest1234!' login-storm.js
+import http from 'k6/http';
+import { check } from 'k6';
+import { Counter } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api';
+const USERS = Number(__ENV.USERS || 200);
+const PASSWORD = __ENV.PASSWORD || 'loadtest1234!';
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+const loginBusy = new Counter('login_busy');
+const loginLimited = new Counter('login_rate_limited');
+
+export const options = {
+    scenarios: {
+        probe_baseline: { executor: 'constant-arrival-rate', exec: 'probe', rate: 20, timeUnit: '1s',
+                          duration: '30s', preAllocatedVUs: 20 },
+        storm: { executor: 'ramping-arrival-rate', exec: 'login', startTime: '30s', startRate: 10, timeUnit: '1s',
+                 preAllocatedVUs: 200, maxVUs: 1000,
+                 stages: [{ target: Number(__ENV.STORM_RATE || 300), duration: '30s' },
+                          { target: Number(__ENV.STORM_RATE || 300), duration: '60s' }] },
+        probe_storm: { executor: 'constant-arrival-rate', exec: 'probe', startTime: '30s', rate: 20, timeUnit: '1s',
+                       duration: '90s', preAllocatedVUs: 20 },
+    },
+    thresholds: {
+        'http_req_duration{scenario:probe_baseline}': ['p(95)<' + (__ENV.PROBE_P95_MS || 200)],
+        'http_req_duration{scenario:probe_storm}': ['p(95)<' + (__ENV.PROBE_P95_MS || 200)],
+        'checks{scenario:probe_storm}': ['rate>0.99'],
+    },
+};
+
+export function setup() {
+    for (let i = 0; i < USERS; i++) {
+        // 이미 있으면 409로 실패하므로 결과는 확인하지 않음
+        http.post(`${BASE_URL}/auth/signup`, JSON.stringify({
+            org_id: Number(__ENV.ORG_ID || 1),
+            username: `loadtest${i}`,
+            password: PASSWORD,
+            full_name: `부하테스트${i}`,
+            email: `loadtest${i}@example.com`,
+        }), { headers: { ...JSON_HEADERS, 'X-Forwarded-For': randomIp() } });
+    }
+    const res = http.post(`${BASE_URL}/auth/login`,
+        JSON.stringify({ username: 'loadtest0', password: PASSWORD }), { headers: JSON_HEADERS });
+    check(res, { 'setup login 200': (r) => r.status === 200 });
+    return { token: res.json('data.access_token') };
+}
+
+export function login() {
+    const res = http.post(`${BASE_URL}/auth/login`,
+        JSON.stringify({ username: `loadtest${Math.floor(Math.random() * USERS)}`, password: PASSWORD }),
+        { headers: { ...JSON_HEADERS, 'X-Forwarded-For': randomIp() } });
+    if (res.status === 503) {
+        loginBusy.add(1);
+    } else if (res.status === 429) {
+        loginLimited.add(1);
+    }
+    check(res, { 'login 200 or fast reject': (r) => r.status === 200 || r.status === 503 || r.status === 429 });
+}
+
+export function probe(data) {
+    const res = http.get(`${BASE_URL}/scenarios`, { headers: { Authorization: `Bearer ${data.token}` } });
+    check(res, { 'probe 200': (r) => r.status === 200 });
+}
+
+function randomIp() {
+    return `10.${rand(256)}.${rand(256)}.${rand(254) + 1}`;
+}
+
+function rand(n) {
+    return Math.floor(Math.random() * n);
+}
@@ -0,0 +1,28 @@
+-- 답변 이력 내보내기 부하 테스트용 데이터 (MySQL 8)
+-- 학생 한 명에게 세션 @sessions개 × 세션당 답변 @answers_per_session개를 만듭니다. (기본 20만 × 10 = 200만 행)
+-- 사용: mysql a202 -e "SET @student_id=1, @scenario_id=1, @sessions=200000, @answers_per_session=10; SOURCE seed-export-answers.sql"
+
+SET @student_id = COALESCE(@student_id, 1);
+SET @scenario_id = COALESCE(@scenario_id, 1);
+SET @sessions = COALESCE(@sessions, 200000);
+SET @answers_per_session = COALESCE(@answers_per_session, 10);
+SET SESSION cte_max_recursion_depth = 10000000;
+
+SET @first_session_id = (SELECT COALESCE(MAX(id), 0) + 1 FROM sessions);
+
+INSERT INTO sessions (student_id, scenario_id, std_full_name, scn_title, session_status,
+                      answer_count, correct_count, average_similarity, ended_at, created_at, updated_at)
+WITH RECURSIVE n(i) AS (SELECT 1 UNION ALL SELECT i + 1 FROM n WHERE i < @sessions)
+SELECT @student_id, @scenario_id, 'loadtest', 'loadtest', 'COMPLETED',
+       @answers_per_session, @answers_per_session DIV 2, 0.5,
+       NOW() - INTERVAL i MINUTE + INTERVAL 10 MINUTE, NOW() - INTERVAL i MINUTE, NOW() - INTERVAL i MINUTE
+FROM n;
+
+INSERT INTO answers (session_id, seq_no, correct_option_no, selected_option_no, is_correct, attempt_no,
+                     similarity_score, transcribed_text, created_at)
+WITH RECURSIVE n(i) AS (SELECT 1 UNION ALL SELECT i + 1 FROM n WHERE i < @answers_per_session)
+SELECT s.id, n.i, 1, 1 + (n.i % 2), n.i % 2 = 0, 1,
+       0.5, CONCAT('"따옴표", 쉼표와 줄바꿈\n포함 ', n.i), s.created_at + INTERVAL n.i SECOND
+FROM sessions s
+CROSS JOIN n
+WHERE s.id >= @first_session_id AND s.student_id = @student_id;
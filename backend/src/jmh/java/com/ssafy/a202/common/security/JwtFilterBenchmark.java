@@ -0,0 +1,85 @@
+package com.ssafy.a202.common.security;
+
+import com.ssafy.a202.domain.user.cache.UserLivenessCache;
+import com.ssafy.a202.domain.user.entity.UserRole;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터의 요청당 오버헤드 벤치마크
+ *
+ * <ul>
+ *   <li>{@code legacyFiveParses}: 기존 필터처럼 검증 1회 + 클레임 조회 4회를 각각 파싱</li>
+ *   <li>{@code parseOnce}: 서명 검증과 클레임 추출을 한 번에</li>
+ *   <li>{@code filterCached}: 검증 캐시, 블랙리스트, 삭제 사용자 확인까지 포함한 실제 필터 한 번</li>
+ * </ul>
+ *
+ * <p>Redis·DB는 호출되지 않습니다. 블랙리스트 Bloom filter가 비어 있고 삭제 사용자 집합도 비어 있기 때문입니다.
+ * 실행: {@code gradle jmh -Pjmh.includes=JwtFilterBenchmark}</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final String SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-0123456789";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JwtProvider jwtProvider;
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        jwtProvider = new JwtProvider(SECRET, 3_600_000L, 1_209_600_000L);
+        filter = new JwtAuthenticationFilter(
+                new VerifiedTokenCache(jwtProvider, meterRegistry, 10_000),
+                new UserLivenessCache(null, null, null, meterRegistry),
+                new TokenBlacklist(null, null, meterRegistry, 100_000, 0.01)
+        );
+        token = jwtProvider.generateAccessToken(1L, "teacher123", UserRole.TEACHER);
+    }
+
+    @Benchmark
+    public void legacyFiveParses(Blackhole blackhole) {
+        jwtProvider.validateToken(token);
+        blackhole.consume(jwtProvider.getTokenTypeFromToken(token));
+        blackhole.consume(jwtProvider.getUserIdFromToken(token));
+        blackhole.consume(jwtProvider.getUsernameFromToken(token));
+        blackhole.consume(jwtProvider.getRoleFromToken(token));
+    }
+
+    @Benchmark
+    public JwtClaims parseOnce() {
+        return jwtProvider.parse(token);
+    }
+
+    @Benchmark
+    public void filterCached(Blackhole blackhole) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/scenarios");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), NO_OP_CHAIN);
+        blackhole.consume(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+}
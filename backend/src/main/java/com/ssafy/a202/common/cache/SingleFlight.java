@@ -0,0 +1,82 @@
+package com.ssafy.a202.common.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키에 대한 동시 로딩을 하나로 합치는 유틸리티 (single-flight)
+ *
+ * <p>같은 키로 동시에 {@link #execute}가 호출되면 처음 들어온 스레드(leader)만 로더를 실행하고,
+ * 나머지 스레드는 그 결과(또는 예외)를 그대로 공유합니다. 로딩이 끝나면 키는 즉시 제거되므로
+ * 결과를 보관하지 않으며, 캐시 앞단의 미스 경로에 사용합니다.</p>
+ *
+ * <p>메트릭: {@code singleflight.calls{name, role=leader|coalesced}}</p>
+ *
+ * <pre>
+ * SingleFlight&lt;Long, ScenarioDetailResponse&gt; flight = new SingleFlight&lt;&gt;("scenario.detail", meterRegistry);
+ * ScenarioDetailResponse response = flight.execute(scenarioId, () -&gt; loader.load(scenarioId));
+ * </pre>
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaderCounter;
+    private final Counter coalescedCounter;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.leaderCounter = Counter.builder("singleflight.calls")
+                .tag("name", name)
+                .tag("role", "leader")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("singleflight.calls")
+                .tag("name", name)
+                .tag("role", "coalesced")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키에 대한 로딩이 진행 중이면 그 결과를 기다리고, 아니면 직접 로더를 실행합니다.
+     * 로더가 던진 RuntimeException은 기다리던 모든 호출자에게 그대로 전달됩니다.
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+
+        if (existing != null) {
+            coalescedCounter.increment();
+            return await(existing);
+        }
+
+        leaderCounter.increment();
+        try {
+            V value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
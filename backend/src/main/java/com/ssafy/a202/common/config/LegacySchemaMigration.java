@@ -0,0 +1,97 @@
+package com.ssafy.a202.common.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * ddl-auto(update)가 처리하지 못하는 스키마 변경을 기동 시 한 번 적용합니다.
+ *
+ * <p>Hibernate의 update 모드는 컬럼을 추가만 하고 기존 컬럼의 NOT NULL 제약을 풀지 않습니다.
+ * 여기 등록한 단계는 {@code information_schema}로 현재 상태를 먼저 확인하므로 여러 번 실행해도 안전하며,
+ * MySQL이 아닌 DB(테스트용 H2 등)에서는 실행하지 않습니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "schema.legacy-migration.enabled", havingValue = "true")
+public class LegacySchemaMigration implements ApplicationRunner {
+
+    /**
+     * 시나리오 버전 도입으로 신규 행에서는 채우지 않는 스냅샷 컬럼 (기존 행의 값은 그대로 유지)
+     */
+    private static final List<NullableColumn> SNAPSHOT_COLUMNS = List.of(
+            new NullableColumn("sessions", "scn_title", "VARCHAR(255)"),
+            new NullableColumn("sessions", "scn_description", "VARCHAR(255)"),
+            new NullableColumn("sessions", "scn_difficulty_level", "VARCHAR(255)"),
+            new NullableColumn("answers", "seq_question", "VARCHAR(255)")
+    );
+
+    private static final int BACKFILL_CHUNK = 10_000;
+
+    private static final String SESSION_OWNER_RANGE_SQL =
+            "SELECT MIN(id), MAX(id) FROM sessions WHERE user_id IS NULL";
+
+    /**
+     * 세션에 비정규화한 담임 교사/기관을 도입 이전 행에 채웁니다. (ID 범위 단위로 잘라 락 범위를 제한)
+     */
+    private static final String BACKFILL_SESSION_OWNER_SQL = """
+            UPDATE sessions s JOIN students st ON st.id = s.student_id
+            SET s.user_id = st.user_id, s.org_id = st.org_id
+            WHERE s.user_id IS NULL AND s.id BETWEEN ? AND ?
+            """;
+
+    private static final String IS_NOT_NULL_SQL = """
+            SELECT COUNT(*) FROM information_schema.columns
+            WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ? AND is_nullable = 'NO'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!isMySql()) {
+            return;
+        }
+        for (NullableColumn column : SNAPSHOT_COLUMNS) {
+            Integer notNull = jdbcTemplate.queryForObject(IS_NOT_NULL_SQL, Integer.class, column.table(), column.column());
+            if (notNull != null && notNull > 0) {
+                jdbcTemplate.execute("ALTER TABLE " + column.table() + " MODIFY " + column.column() + " " + column.type() + " NULL");
+                log.info("Schema migration: {}.{} is now nullable", column.table(), column.column());
+            }
+        }
+        backfillSessionOwners();
+    }
+
+    private void backfillSessionOwners() {
+        IdRange range = jdbcTemplate.queryForObject(SESSION_OWNER_RANGE_SQL, (rs, rowNum) ->
+                new IdRange(rs.getObject(1, Long.class), rs.getObject(2, Long.class)));
+        if (range == null || range.min() == null) {
+            return;
+        }
+        int updated = 0;
+        for (long from = range.min(); from <= range.max(); from += BACKFILL_CHUNK) {
+            updated += jdbcTemplate.update(BACKFILL_SESSION_OWNER_SQL, from, from + BACKFILL_CHUNK - 1);
+        }
+        log.info("Schema migration: backfilled sessions.user_id/org_id for {} rows", updated);
+    }
+
+    private boolean isMySql() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return product != null && product.toLowerCase().contains("mysql");
+    }
+
+    private record NullableColumn(String table, String column, String type) {
+    }
+
+    private record IdRange(Long min, Long max) {
+    }
+}
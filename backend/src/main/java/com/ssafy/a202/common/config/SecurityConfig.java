@@ -82,6 +82,9 @@ public class SecurityConfig {
         // 허용할 헤더
         configuration.setAllowedHeaders(List.of("*"));
 
+        // 조건부 요청(If-None-Match)에 사용할 수 있도록 ETag 헤더 노출
+        configuration.setExposedHeaders(List.of("ETag"));
+
         // 인증 정보 포함 허용 (쿠키, Authorization 헤더 등)
         configuration.setAllowCredentials(true);
 
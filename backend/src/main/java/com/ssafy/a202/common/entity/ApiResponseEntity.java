@@ -1,5 +1,6 @@
 package com.ssafy.a202.common.entity;
 
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
@@ -15,6 +16,13 @@ public record ApiResponseEntity<T>(
                 .body(ApiResponse.success(successCode, data));
     }
 
+    public static <T> ResponseEntity<ApiResponse<T>> success(SuccessCode successCode, T data, CacheControl cacheControl) {
+        return ResponseEntity
+                .status(HttpStatus.OK)
+                .cacheControl(cacheControl)
+                .body(ApiResponse.success(successCode, data));
+    }
+
     public static <T> ResponseEntity<ApiResponse<T>> success(T data) {
         return ResponseEntity
                 .status(HttpStatus.OK)
@@ -33,6 +41,22 @@ public record ApiResponseEntity<T>(
                 .body(ApiResponse.success());
     }
 
+    /**
+     * 조건부 GET에서 클라이언트 캐시가 최신일 때 본문 없이 304를 반환합니다.
+     */
+    public static <T> ResponseEntity<ApiResponse<T>> notModified(String etag) {
+        return ResponseEntity
+                .status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .build();
+    }
+
+    public static <T> ResponseEntity<ApiResponse<T>> accepted(SuccessCode successCode, T data) {
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(successCode, data));
+    }
+
     public static <T> ResponseEntity<ApiResponse<T>> created(String location, SuccessCode successCode, T data) {
         return ResponseEntity
                 .created(URI.create(location))
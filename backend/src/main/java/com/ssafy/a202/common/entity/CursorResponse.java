@@ -0,0 +1,33 @@
+package com.ssafy.a202.common.entity;
+
+import java.util.List;
+
+/**
+ * 커서(키셋) 기반 페이징 응답
+ *
+ * @param contents      현재 페이지 목록
+ * @param size          요청한 페이지 크기
+ * @param nextCursor    다음 페이지 커서 (마지막 페이지면 null)
+ * @param hasNext       다음 페이지 존재 여부
+ * @param totalElements 전체 개수 (요청한 경우에만 채워지며, 기본값은 null)
+ */
+public record CursorResponse<T>(
+        List<T> contents,
+        int size,
+        String nextCursor,
+        boolean hasNext,
+        Long totalElements
+) {
+    /** 한 번에 조회할 수 있는 최대 페이지 크기 */
+    public static final int MAX_SIZE = 100;
+
+    public static <T> CursorResponse<T> of(List<T> responseList, int size, KeysetCursor nextCursor, Long totalElements) {
+        return new CursorResponse<>(
+                responseList,
+                size,
+                nextCursor == null ? null : nextCursor.encode(),
+                nextCursor != null,
+                totalElements
+        );
+    }
+}
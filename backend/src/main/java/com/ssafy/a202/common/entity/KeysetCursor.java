@@ -0,0 +1,53 @@
+package com.ssafy.a202.common.entity;
+
+import com.ssafy.a202.common.exception.CustomException;
+import com.ssafy.a202.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (created_at, id) 기반 키셋 페이징 커서
+ *
+ * <p>클라이언트에는 Base64(URL-safe)로 인코딩한 불투명 문자열로 전달합니다.
+ * 정렬은 항상 {@code created_at DESC, id DESC}이며, 다음 페이지는
+ * {@code created_at < :createdAt OR (created_at = :createdAt AND id < :id)} 조건으로 조회합니다.</p>
+ */
+public record KeysetCursor(
+        LocalDateTime createdAt,
+        Long id
+) {
+    private static final String DELIMITER = "|";
+
+    public static KeysetCursor of(LocalDateTime createdAt, Long id) {
+        return new KeysetCursor(createdAt, id);
+    }
+
+    /**
+     * 커서 문자열을 해석합니다. null 또는 빈 문자열이면 첫 페이지를 뜻하는 null을 반환합니다.
+     *
+     * @throws CustomException 커서 형식이 올바르지 않은 경우
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int split = raw.lastIndexOf(DELIMITER);
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, split)),
+                    Long.parseLong(raw.substring(split + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -11,6 +11,8 @@ public enum SuccessCode {
     SUCCESS_DEFAULT("요청이 성공적으로 처리되었습니다."),
     LOGIN_SUCCESS("로그인이 성공적으로 처리되었습니다."),
     SIGNUP_SUCCESS("회원가입이 성공적으로 완료되었습니다."),
+    LOGOUT_SUCCESS("로그아웃이 성공적으로 처리되었습니다."),
+    TOKEN_REFRESH_SUCCESS("토큰이 성공적으로 갱신되었습니다."),
 
     // 시나리오,
     SCENARIO_CREATE_SUCCESS("시나리오가 성공적으로 생성되었습니다."),
@@ -18,6 +20,7 @@ public enum SuccessCode {
     SCENARIO_GET_DETAIL_SUCCESS("시나리오 상세를 성공적으로 조회했습니다."),
     SCENARIO_UPDATE_SUCCESS("시나리오가 성공적으로 수정되었습니다."),
     SCENARIO_DELETE_SUCCESS("시나리오가 성공적으로 삭제되었습니다."),
+    SCENARIO_VERSION_GET_SUCCESS("시나리오 버전을 성공적으로 조회했습니다."),
 
     // 시나리오 난이도,
     DIFFICULTY_LEVEL_GET_SUCCESS("시나리오 난이도 목록을 성공적으로 조회했습니다."),
@@ -33,14 +36,23 @@ public enum SuccessCode {
     STUDENT_GET_LIST_SUCCESS("학생 목록을 성공적으로 조회했습니다."),
     STUDENT_UPDATE_SUCCESS("학생이 성공적으로 수정되었습니다."),
     STUDENT_DELETE_SUCCESS("학생이 성공적으로 삭제되었습니다."),
+    STUDENT_CALENDAR_MONTHLY_GET_SUCCESS("월간 학습 달력을 성공적으로 조회했습니다."),
+    STUDENT_CALENDAR_DAILY_GET_SUCCESS("일간 세션 목록을 성공적으로 조회했습니다."),
 
     // 세션
     SESSION_CREATE_SUCCESS("세션이 성공적으로 시작되었습니다."),
     SESSION_FINISH_SUCCESS("세션이 성공적으로 완료되었습니다."),
     SESSION_ABORT_SUCCESS("세션이 성공적으로 중단되었습니다."),
+    SESSION_HISTORY_GET_SUCCESS("세션 이력을 성공적으로 조회했습니다."),
 
     // 세션 정답
-    ANSWER_CREATE_SUCCESS("정답이 성공적으로 저장되었습니다.");
+    ANSWER_CREATE_SUCCESS("정답이 성공적으로 저장되었습니다."),
+    ANSWER_ACCEPTED("답변이 접수되었습니다. 잠시 후 저장됩니다."),
+    ANSWER_BULK_CREATE_SUCCESS("답변 일괄 제출이 처리되었습니다. 항목별 결과를 확인해주세요."),
+
+    // 분석
+    ANALYTICS_DASHBOARD_GET_SUCCESS("기관 대시보드를 성공적으로 조회했습니다."),
+    ANALYTICS_SEQUENCE_GET_SUCCESS("시퀀스별 분석을 성공적으로 조회했습니다.");
 
     private final String message;
 }
@@ -7,18 +7,32 @@ public class CustomException extends RuntimeException {
 
     private final ErrorCode errorCode;
 
+    /**
+     * 응답 본문의 {@code data}에 함께 내려줄 부가 정보 (없으면 null)
+     */
+    private final Object data;
+
     public CustomException(ErrorCode errorCode) {
         super(errorCode.getMessage());
         this.errorCode = errorCode;
+        this.data = null;
     }
 
     public CustomException(ErrorCode errorCode, String message) {
         super(message);
         this.errorCode = errorCode;
+        this.data = null;
+    }
+
+    public CustomException(ErrorCode errorCode, String message, Object data) {
+        super(message);
+        this.errorCode = errorCode;
+        this.data = data;
     }
 
     public CustomException(ErrorCode errorCode, Throwable cause) {
         super(errorCode.getMessage(), cause);
         this.errorCode = errorCode;
+        this.data = null;
     }
 }
\ No newline at end of file
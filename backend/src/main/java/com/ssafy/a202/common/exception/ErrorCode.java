@@ -12,6 +12,8 @@ public enum ErrorCode {
     INVALID_REQUEST(HttpStatus.BAD_REQUEST, "잘못된 요청입니다."),
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다."),
     VALIDATION_FAILED(HttpStatus.BAD_REQUEST, "입력 값 검증에 실패했습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다."),
+    CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "다른 요청이 데이터를 먼저 수정했습니다. 다시 조회 후 시도해주세요."),
 
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "회원을 찾지 못하였습니다."),
 
@@ -26,6 +28,9 @@ public enum ErrorCode {
     UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "인증이 필요합니다."),
     INVALID_PASSWORD(HttpStatus.UNAUTHORIZED, "비밀번호가 일치하지 않습니다."),
     TOKEN_INVALID(HttpStatus.UNAUTHORIZED, "유효하지 않은 토큰입니다."),
+    REFRESH_TOKEN_REUSED(HttpStatus.UNAUTHORIZED, "이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요."),
+    TOO_MANY_AUTH_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    AUTH_SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // 카테고리
     CATEGORY_NOT_FOUND(HttpStatus.NOT_FOUND, "카테고리를 찾을 수 없습니다."),
@@ -34,10 +39,14 @@ public enum ErrorCode {
     S3_PRESIGNED_URL_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "S3 Presigned URL 생성에 실패했습니다."),
     S3_UPLOAD_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "S3 파일 업로드에 실패했습니다."),
     S3_FILE_NOT_FOUND(HttpStatus.BAD_REQUEST, "S3에 파일이 존재하지 않습니다. 파일을 먼저 업로드해주세요."),
+    S3_KEY_BLANK(HttpStatus.BAD_REQUEST, "S3 키가 비어 있습니다. 이미지가 없으면 키를 생략해주세요."),
 
     // 시나리오
     SCENARIO_NOT_FOUND(HttpStatus.NOT_FOUND, "시나리오를 찾을 수 없습니다."),
     SCENARIO_PERMISSION_DENIED(HttpStatus.FORBIDDEN, "시나리오에 대한 권한이 없습니다."),
+    SCENARIO_VERSION_NOT_FOUND(HttpStatus.NOT_FOUND, "시나리오 버전을 찾을 수 없습니다."),
+    SCENARIO_DUPLICATE_NUMBER(HttpStatus.BAD_REQUEST, "시퀀스 번호(seq_no) 또는 같은 시퀀스 안의 옵션 번호(option_no)가 중복되었습니다."),
+    SCENARIO_CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "다른 사용자가 시나리오를 먼저 수정했습니다. 다시 조회 후 시도해주세요."),
 
     // 학생
     STUDENT_NOT_FOUND(HttpStatus.NOT_FOUND, "학생을 찾을 수 없습니다."),
@@ -50,7 +59,18 @@ public enum ErrorCode {
     SESSION_NOT_FOUND(HttpStatus.NOT_FOUND, "세션을 찾을 수 없습니다."),
     SESSION_UPDATE_DENIED(HttpStatus.FORBIDDEN, "세션이 진행중 상태가 아닙니다."),
     SESSION_FINISH_FAIL(HttpStatus.FORBIDDEN, "세션을 종료할 수 없습니다."),
-    SESSION_ABORT_FAIL(HttpStatus.FORBIDDEN, "세션을 중단할 수 없습니다.");
+    SESSION_ABORT_FAIL(HttpStatus.FORBIDDEN, "세션을 중단할 수 없습니다."),
+    SESSION_VERSION_MISSING(HttpStatus.CONFLICT, "시나리오 버전 도입 이전에 시작된 세션입니다. 세션을 새로 시작해주세요."),
+    SESSION_ANSWERS_PENDING(HttpStatus.CONFLICT, "아직 저장 중인 답변이 있습니다. 잠시 후 다시 시도해주세요."),
+    SESSION_STATE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "세션 상태를 확인할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
+    // 답변
+    ANSWER_BULK_TOO_LARGE(HttpStatus.BAD_REQUEST, "한 번에 제출할 수 있는 답변 수를 초과했습니다. (최대 500건)"),
+    ANSWER_SEQUENCE_MISMATCH(HttpStatus.BAD_REQUEST, "세션의 시나리오에 없는 시퀀스입니다."),
+    ANSWER_EXPORT_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "내보내기 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
+    // 분석
+    ANALYTICS_INVALID_RANGE(HttpStatus.BAD_REQUEST, "조회 기간이 올바르지 않습니다. (최대 366일)");
 
 
     private final HttpStatus status;
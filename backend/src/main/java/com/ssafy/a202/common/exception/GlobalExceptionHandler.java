@@ -1,10 +1,12 @@
 package com.ssafy.a202.common.exception;
 
 import com.ssafy.a202.common.entity.ApiResponse;
+import com.ssafy.a202.domain.scenario.entity.Scenario;
 import io.jsonwebtoken.JwtException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -21,12 +23,12 @@ public class GlobalExceptionHandler {
      * CustomException 처리
      */
     @ExceptionHandler(CustomException.class)
-    public ResponseEntity<ApiResponse<Void>> handleCustomException(CustomException e) {
+    public ResponseEntity<ApiResponse<Object>> handleCustomException(CustomException e) {
         log.error("CustomException: {}", e.getMessage(), e);
         ErrorCode errorCode = e.getErrorCode();
         return ResponseEntity
                 .status(errorCode.getStatus())
-                .body(ApiResponse.fail(errorCode));
+                .body(ApiResponse.fail(errorCode, e.getData()));
     }
 
     /**
@@ -60,6 +62,20 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.fail(ErrorCode.TOKEN_INVALID));
     }
 
+    /**
+     * 낙관적 락 충돌 처리 (커밋 시점에 발생하므로 서비스 대신 여기서 엔티티별 코드로 변환)
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException e) {
+        log.warn("Optimistic locking failure: {}", e.getMessage());
+        ErrorCode errorCode = Scenario.class.getName().equals(e.getPersistentClassName())
+                ? ErrorCode.SCENARIO_CONCURRENT_MODIFICATION
+                : ErrorCode.CONCURRENT_MODIFICATION;
+        return ResponseEntity
+                .status(errorCode.getStatus())
+                .body(ApiResponse.fail(errorCode));
+    }
+
     /**
      * 그 외 모든 예외 처리
      */
@@ -0,0 +1,66 @@
+package com.ssafy.a202.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis 기반 클러스터 락
+ *
+ * <p>{@code SET key token NX PX ttl}로 획득하고, 해제는 토큰이 일치할 때만 삭제하는 Lua 스크립트로 처리해
+ * 만료 후 다른 노드가 가져간 락을 지우지 않도록 합니다. 스케줄 작업을 한 노드에서만 실행할 때 사용합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+
+    private static final String KEY_PREFIX = "lock:";
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 락 획득을 시도합니다.
+     *
+     * @param name  락 이름
+     * @param lease 락 유지 시간 (작업 최대 소요 시간보다 길게)
+     * @return 해제에 사용할 토큰, 이미 다른 노드가 잡고 있거나 Redis 장애면 empty
+     */
+    public Optional<String> tryAcquire(String name, Duration lease) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + name, token, lease);
+            return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+        } catch (Exception e) {
+            log.warn("락 획득 실패: name={}, {}", name, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 본인이 잡은 락만 해제합니다.
+     */
+    public void release(String name, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + name), token);
+        } catch (Exception e) {
+            // 해제하지 못한 락은 lease 후 만료
+            log.warn("락 해제 실패: name={}, {}", name, e.getMessage());
+        }
+    }
+}
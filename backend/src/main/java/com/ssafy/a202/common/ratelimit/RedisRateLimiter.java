@@ -0,0 +1,101 @@
+package com.ssafy.a202.common.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Redis 토큰 버킷 요청 제한기
+ *
+ * <p>버킷은 해시 {@code ratelimit:{name}}에 남은 토큰 수와 마지막 갱신 시각을 저장합니다.
+ * 충전, 차감은 Lua 스크립트 하나로 처리해 여러 노드에서 동시에 호출해도 정확하고,
+ * 시각은 Redis {@code TIME}을 써서 노드 간 시계 차이의 영향을 받지 않습니다.
+ * 버킷이 가득 찰 만큼의 시간이 지나면 키가 만료됩니다.</p>
+ *
+ * <p>Redis 장애 시에는 요청을 허용합니다 (제한기 장애로 로그인 전체가 막히지 않도록).</p>
+ *
+ * <p>메트릭: {@code ratelimit.requests{limiter, result=allowed|limited|error}}</p>
+ */
+@Slf4j
+@Component
+public class RedisRateLimiter {
+
+    private static final String KEY_PREFIX = "ratelimit:";
+
+    /**
+     * ARGV: capacity, 초당 충전량 / 반환: 허용되면 1, 아니면 0
+     */
+    private static final RedisScript<Long> TAKE_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+            local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(bucket[1])
+            local ts = tonumber(bucket[2])
+            if tokens == nil then
+                tokens = capacity
+                ts = now
+            end
+
+            tokens = math.min(capacity, tokens + (now - ts) * rate / 1000)
+            local allowed = 0
+            if tokens >= 1 then
+                tokens = tokens - 1
+                allowed = 1
+            end
+
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate * 1000))
+            return allowed
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public RedisRateLimiter(RedisTemplate<String, String> redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 버킷에서 토큰 하나를 꺼냅니다.
+     *
+     * @param limiter        제한기 이름 (메트릭 태그, 키 접두사)
+     * @param key            제한 대상 (사용자명, IP 등)
+     * @param capacity       버킷 크기 (연속으로 허용할 최대 요청 수)
+     * @param refillPerSecond 초당 충전되는 토큰 수
+     * @return 허용되면 true
+     */
+    public boolean tryAcquire(String limiter, String key, int capacity, double refillPerSecond) {
+        try {
+            Long allowed = redisTemplate.execute(
+                    TAKE_SCRIPT,
+                    List.of(KEY_PREFIX + limiter + ":" + key),
+                    String.valueOf(capacity), String.valueOf(refillPerSecond)
+            );
+            boolean result = allowed != null && allowed == 1;
+            count(limiter, result ? "allowed" : "limited");
+            return result;
+        } catch (Exception e) {
+            count(limiter, "error");
+            log.warn("요청 제한 확인 실패, 허용 처리: limiter={}, {}", limiter, e.getMessage());
+            return true;
+        }
+    }
+
+    private void count(String limiter, String result) {
+        Counter.builder("ratelimit.requests")
+                .tag("limiter", limiter)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
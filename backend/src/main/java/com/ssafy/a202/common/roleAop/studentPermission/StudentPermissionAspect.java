@@ -101,8 +101,24 @@ public class StudentPermissionAspect {
     }
 
     private boolean canView(User user, Student student) {
-        // VIEW 권한 로직 (필요시 구현)
-        // 기본적으로 모든 사용자가 조회 가능
-        return true;
+        UserRole userRole = user.getRole();
+
+        // ADMIN은 모든 학생 조회 가능
+        if (userRole == UserRole.ADMIN) {
+            return true;
+        }
+
+        // ORG_ADMIN은 같은 기관 학생만 조회 가능
+        if (userRole == UserRole.ORG_ADMIN) {
+            return student.getOrganization().getId()
+                    .equals(user.getOrganization().getId());
+        }
+
+        // TEACHER는 자기 담당 학생만 조회 가능
+        if (userRole == UserRole.TEACHER) {
+            return student.getUser().getId().equals(user.getId());
+        }
+
+        return false;
     }
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.ssafy.a202.common.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 블랙리스트 jti용 Bloom filter
+ *
+ * <p>비트 배열을 {@link AtomicLongArray}로 두어 추가와 조회를 락 없이 동시에 할 수 있습니다.
+ * 해시는 64비트 해시 하나를 둘로 나눠 {@code h1 + i * h2}로 k개의 위치를 만듭니다 (Kirsch-Mitzenmacher).
+ * 삭제는 지원하지 않으므로 만료된 항목은 {@link TokenBlacklist}가 주기적으로 새 필터를 만들어 교체해 정리합니다.</p>
+ */
+class JtiBloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * @param expectedInsertions 예상 항목 수
+     * @param falsePositiveRate  예상 항목 수일 때 목표 오탐률
+     */
+    JtiBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.max(1, (bits + 63) / 64);
+        this.words = new AtomicLongArray(wordCount);
+        this.bitCount = (long) wordCount * 64;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+    }
+
+    void put(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = indexOf(h1 + i * h2);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+            long current;
+            do {
+                current = words.get(word);
+                if ((current & mask) != 0) {
+                    break;
+                }
+            } while (!words.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    boolean mightContain(String value) {
+        long hash = hash64(value);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashCount; i++) {
+            long index = indexOf(h1 + i * h2);
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 채워진 비트 비율로 추정한 오탐률 ({@code (채워진 비트 / 전체 비트)^k})
+     */
+    double expectedFalsePositiveRate() {
+        long setBits = 0;
+        for (int i = 0; i < words.length(); i++) {
+            setBits += Long.bitCount(words.get(i));
+        }
+        return Math.pow((double) setBits / bitCount, hashCount);
+    }
+
+    private long indexOf(int combinedHash) {
+        // 음수 해시를 양수로 바꾼 뒤 비트 수로 나머지
+        return (combinedHash & 0x7fffffffL) % bitCount;
+    }
+
+    /**
+     * FNV-1a 64비트 해시에 splitmix64 마무리 단계를 더해 비트를 고르게 섞습니다.
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
@@ -1,8 +1,6 @@
 package com.ssafy.a202.common.security;
 
-import com.ssafy.a202.domain.user.entity.User;
-import com.ssafy.a202.domain.user.entity.UserRole;
-import com.ssafy.a202.domain.user.repository.UserRepository;
+import com.ssafy.a202.domain.user.cache.UserLivenessCache;
 import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -18,15 +16,15 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Optional;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtProvider jwtProvider;
-    private final UserRepository userRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final UserLivenessCache userLivenessCache;
+    private final TokenBlacklist tokenBlacklist;
 
     @Override
     protected void doFilterInternal(
@@ -39,54 +37,49 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (token != null) {
             try {
-                // 토큰 검증
-                jwtProvider.validateToken(token);
-
-                // 블랙리스트 확인
-//                if (tokenBlacklistService.isBlacklisted(token)) {
-//                    log.debug("Token is blacklisted (logged out)");
-//                    SecurityContextHolder.clearContext();
-//                    filterChain.doFilter(request, response);
-//                    return;
-//                }
+                // 토큰 검증 및 클레임 추출 (서명 검증은 토큰당 한 번, 이후에는 캐시 사용)
+                JwtClaims claims = verifiedTokenCache.verify(token);
 
                 // 토큰 타입 확인 (access 토큰만 허용)
-                String tokenType = jwtProvider.getTokenTypeFromToken(token);
-                if (!"access".equals(tokenType)) {
-                    log.debug("Invalid token type for API access: {}", tokenType);
+                if (!claims.isAccessToken()) {
+                    log.debug("Invalid token type for API access: {}", claims.tokenType());
+                    SecurityContextHolder.clearContext();
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+
+                // 블랙리스트 확인 (로그아웃 또는 강제 만료된 토큰)
+                if (tokenBlacklist.isRevoked(claims.jti())) {
+                    log.debug("Token is blacklisted (logged out)");
                     SecurityContextHolder.clearContext();
                     filterChain.doFilter(request, response);
                     return;
                 }
 
-                // 토큰에서 사용자 정보 추출
-                Long userId = jwtProvider.getUserIdFromToken(token);
-                String username = jwtProvider.getUsernameFromToken(token);
-                UserRole role = jwtProvider.getRoleFromToken(token);
+                Long userId = claims.userId();
 
-                // 사용자 삭제 여부 확인 (회원 탈퇴 또는 관리자에 의한 삭제)
-                Optional<User> userOptional = userRepository.findById(userId);
-                if (userOptional.isEmpty() || userOptional.get().isDeleted()) {
-                    log.debug("User is deleted or not found: userId={}", userId);
+                // 사용자 삭제 여부 확인 (회원 탈퇴 또는 관리자에 의한 삭제) - DB 조회 없이 캐시로 판단
+                if (userLivenessCache.isRevoked(userId)) {
+                    log.debug("User is deleted: userId={}", userId);
                     SecurityContextHolder.clearContext();
                     filterChain.doFilter(request, response);
                     return;
                 }
 
                 // UserPrincipal 생성
-                UserPrincipal userPrincipal = new UserPrincipal(userId, username, role);
+                UserPrincipal userPrincipal = claims.toPrincipal();
 
                 // Authentication 객체 생성 및 SecurityContext에 저장
                 UsernamePasswordAuthenticationToken authentication =
                         new UsernamePasswordAuthenticationToken(
                                 userPrincipal,  // principal
                                 null,           // credentials
-                                List.of(new SimpleGrantedAuthority("ROLE_" + role.name()))
+                                List.of(new SimpleGrantedAuthority("ROLE_" + claims.role().name()))
                         );
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                log.debug("JWT authentication successful for user: {}", username);
+                log.debug("JWT authentication successful for user: {}", claims.username());
 
             } catch (JwtException e) {
                 log.debug("JWT validation failed: {}", e.getMessage());
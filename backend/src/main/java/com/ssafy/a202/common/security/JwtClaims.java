@@ -0,0 +1,35 @@
+package com.ssafy.a202.common.security;
+
+import com.ssafy.a202.domain.user.entity.UserRole;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증을 마친 JWT의 클레임
+ *
+ * <p>{@link JwtProvider#parse(String)}가 한 번의 검증으로 필요한 값을 모두 꺼내 담습니다.
+ * {@code familyId}는 리프레시 토큰에만 있으며, 액세스 토큰은 null입니다.</p>
+ */
+public record JwtClaims(
+        Long userId,
+        String username,
+        UserRole role,
+        String tokenType,
+        String jti,
+        Instant issuedAt,
+        Instant expiresAt,
+        String familyId
+) {
+
+    public boolean isAccessToken() {
+        return "access".equals(tokenType);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(tokenType);
+    }
+
+    public UserPrincipal toPrincipal() {
+        return new UserPrincipal(userId, username, role);
+    }
+}
@@ -4,13 +4,16 @@ package com.ssafy.a202.common.security;
 import com.ssafy.a202.domain.user.entity.UserRole;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.time.Duration;
 import java.util.Date;
 import java.util.UUID;
 
@@ -19,6 +22,8 @@ import java.util.UUID;
 public class JwtProvider {
 
     private final SecretKey secretKey;
+    // 파서는 불변이며 스레드 안전하므로 한 번만 만들어 재사용
+    private final JwtParser parser;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
@@ -28,32 +33,54 @@ public class JwtProvider {
             @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration
     ) {
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
     }
 
     public String generateAccessToken(Long userId, String username, UserRole role) {
-        return generateToken(userId, username, role, "access", accessTokenExpiration);
+        return generateToken(userId, username, role, "access", accessTokenExpiration, UUID.randomUUID().toString(), null);
     }
 
     /**
      * Refresh Token 생성
+     * 회전(rotation) 추적을 위해 jti와 토큰 계열 ID(fid)를 호출자가 지정합니다.
+     */
+    public String generateRefreshToken(Long userId, String username, UserRole role, String familyId, String jti) {
+        return generateRefreshToken(userId, username, role, familyId, jti, getRefreshTokenTtl());
+    }
+
+    /**
+     * 유효 기간을 지정한 Refresh Token 생성
+     * 회전 시 계열의 남은 수명을 넘겨, 갱신해도 최초 로그인 기준 만료 시각이 늘어나지 않게 합니다.
+     */
+    public String generateRefreshToken(Long userId, String username, UserRole role, String familyId, String jti,
+                                       Duration ttl) {
+        return generateToken(userId, username, role, "refresh", ttl.toMillis(), jti, familyId);
+    }
+
+    /**
+     * Refresh Token 유효 기간
      */
-    public String generateRefreshToken(Long userId, String username, UserRole role) {
-        return generateToken(userId, username, role, "refresh", refreshTokenExpiration);
+    public Duration getRefreshTokenTtl() {
+        return Duration.ofMillis(refreshTokenExpiration);
     }
 
     /**
      * JWT 토큰 생성 (내부 구현)
      * HS256 (HMAC-SHA256) 알고리즘 명시적 사용
      */
-    private String generateToken(Long userId, String username, UserRole role, String tokenType, long expiration) {
+    private String generateToken(Long userId, String username, UserRole role, String tokenType, long expiration,
+                                 String jti, String familyId) {
         Date now = new Date();
         Date exp = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
                 .subject(userId.toString())
-                .claim("jti", UUID.randomUUID().toString())  // JWT ID 추가
+                .claim("jti", jti)  // JWT ID 추가
+                .claim("fid", familyId)  // 리프레시 토큰 계열 ID (access 토큰은 null이라 생략됨)
                 .claim("token_type", tokenType)
                 .claim("username", username)
                 .claim("role", role.name())
@@ -63,6 +90,30 @@ public class JwtProvider {
                 .compact();
     }
 
+    /**
+     * 토큰 서명을 한 번만 검증하고 필요한 클레임을 모두 추출
+     * 요청마다 필터에서 호출되므로 개별 getter를 여러 번 부르는 대신 이 메서드를 사용합니다.
+     * @param token JWT 토큰
+     * @throws JwtException 토큰이 유효하지 않은 경우 (클레임 형식이 잘못된 경우 포함)
+     */
+    public JwtClaims parse(String token) {
+        Claims claims = getClaimsFromToken(token);
+        try {
+            return new JwtClaims(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("username", String.class),
+                    UserRole.valueOf(claims.get("role", String.class)),
+                    claims.get("token_type", String.class),
+                    claims.get("jti", String.class),
+                    claims.getIssuedAt().toInstant(),
+                    claims.getExpiration().toInstant(),
+                    claims.get("fid", String.class)
+            );
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new MalformedJwtException("Invalid JWT claims: " + e.getMessage(), e);
+        }
+    }
+
     /**
      * 토큰 유효성 검증
      * @param token JWT 토큰
@@ -70,10 +121,7 @@ public class JwtProvider {
      */
     public void validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
+            getClaimsFromToken(token);
         }  catch (JwtException e) {
             // 예외를 그대로 던져서 Filter에서 처리하게 함
             log.debug("JWT validation failed: {}", e.getMessage());
@@ -150,10 +198,6 @@ public class JwtProvider {
      * 토큰에서 Claims 추출 - 예외를 그대로 던짐
      */
     private Claims getClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 }
@@ -0,0 +1,129 @@
+package com.ssafy.a202.common.security;
+
+import com.ssafy.a202.common.exception.CustomException;
+import com.ssafy.a202.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 전용 실행기
+ *
+ * <p>BCrypt 해시/검증은 CPU를 많이 쓰므로 요청 스레드에서 바로 돌리지 않고, 크기가 고정된 전용 풀에서 실행합니다.
+ * 로그인이 몰려도 해시 작업은 {@code auth.password-hash.threads}개 코어만 쓰므로 다른 API가 CPU를 빼앗기지 않습니다.</p>
+ *
+ * <p>대기열({@code auth.password-hash.queue-capacity})이 가득 차거나 {@code auth.password-hash.timeout} 안에
+ * 끝나지 않으면 기다리지 않고 {@link ErrorCode#AUTH_SERVER_BUSY}(503)로 거절합니다.</p>
+ *
+ * <p>제한 시간 초과 시 {@code future.cancel(true)}는 대기열에 있던 작업만 실행되지 않게 할 뿐,
+ * 이미 시작된 BCrypt 계산은 인터럽트를 확인하지 않으므로 끝날 때까지 워커 스레드를 계속 씁니다.
+ * 따라서 CPU 사용량의 상한은 제한 시간이 아니라 풀 크기이며, 시간 초과가 이어지면 워커가 모두 바쁜 상태이므로
+ * 대기열이 차서 새 요청은 곧바로 거절됩니다. 제한 시간은 요청 스레드가 기다리는 시간의 상한입니다.</p>
+ *
+ * <p>메트릭: {@code executor.*{name=password-hash}} (대기열 길이 {@code executor.queued} 포함),
+ * {@code auth.password_hash.rejected{reason=queue_full|timeout}}</p>
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final Duration timeout;
+
+    private final Counter queueFullCounter;
+    private final Counter timeoutCounter;
+
+    public PasswordHasher(
+            PasswordEncoder passwordEncoder,
+            MeterRegistry meterRegistry,
+            @Value("${auth.password-hash.threads:0}") int threads,
+            @Value("${auth.password-hash.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.password-hash.timeout:5s}") Duration timeout
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+
+        // 0이면 코어 수의 절반 (최소 1) - 나머지 코어는 다른 요청 처리에 남겨둠
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                namedThreadFactory(),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        ExecutorServiceMetrics.monitor(meterRegistry, executor, "password-hash");
+
+        this.queueFullCounter = Counter.builder("auth.password_hash.rejected")
+                .tag("reason", "queue_full")
+                .register(meterRegistry);
+        this.timeoutCounter = Counter.builder("auth.password_hash.rejected")
+                .tag("reason", "timeout")
+                .register(meterRegistry);
+    }
+
+    public String encode(String rawPassword) {
+        return run(() -> passwordEncoder.encode(rawPassword));
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return run(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> T run(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            queueFullCounter.increment();
+            throw new CustomException(ErrorCode.AUTH_SERVER_BUSY);
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 대기 중이면 실행하지 않음 (이미 실행 중인 BCrypt는 멈추지 않고 끝까지 돎)
+            future.cancel(true);
+            timeoutCounter.increment();
+            throw new CustomException(ErrorCode.AUTH_SERVER_BUSY);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.AUTH_SERVER_BUSY);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 해시 실패", e.getCause());
+        }
+    }
+
+    private static ThreadFactory namedThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
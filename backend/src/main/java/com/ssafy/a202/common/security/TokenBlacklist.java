@@ -0,0 +1,188 @@
+package com.ssafy.a202.common.security;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+
+/**
+ * 로그아웃/강제 만료된 토큰(jti) 블랙리스트
+ *
+ * <p>폐기된 jti는 Redis 키 {@code auth:blacklist:{jti}}에 토큰의 남은 수명만큼 TTL을 걸어 저장합니다.
+ * 요청마다 Redis를 조회하지 않도록 각 노드가 로컬 Bloom filter를 두고, 필터에 없는 jti는 Redis 없이 바로 통과시킵니다.
+ * 필터가 "있을 수 있음"이라고 답한 경우에만 Redis로 확인합니다.</p>
+ *
+ * <p>동기화</p>
+ * <ul>
+ *   <li>폐기 시 {@code auth:blacklist:added} 채널로 jti를 보내 다른 노드가 자기 필터에 추가합니다 (증분).</li>
+ *   <li>jti와 만료 시각은 정렬 집합 {@code auth:blacklist:index}에도 기록합니다.
+ *       {@code auth.blacklist.rebuild-interval-ms}마다 만료된 항목을 지우고 남은 jti로 필터를 새로 만들어 교체하므로,
+ *       Pub/Sub 유실분이 복구되고 만료된 jti가 필터에 계속 쌓이지 않습니다.</li>
+ * </ul>
+ *
+ * <p>Redis 확인에 실패하면 필터에 걸린 토큰은 폐기된 것으로 간주합니다 (필터에 걸린 토큰만 영향).</p>
+ *
+ * <p>메트릭</p>
+ * <ul>
+ *   <li>{@code auth.blacklist.check{result=skipped|revoked|false_positive|error}} : 필터 통과 / 실제 폐기 / 오탐 / Redis 오류</li>
+ *   <li>{@code auth.blacklist.bloom.expected_fpp} : 현재 필터 채움 정도로 추정한 오탐률</li>
+ * </ul>
+ * 관측 오탐률은 {@code false_positive / (skipped + false_positive)}로 계산합니다.
+ */
+@Slf4j
+@Component
+public class TokenBlacklist {
+
+    private static final String KEY_PREFIX = "auth:blacklist:";
+    private static final String INDEX_KEY = "auth:blacklist:index";
+    private static final String ADDED_CHANNEL = "auth:blacklist:added";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+
+    private final Counter skippedCounter;
+    private final Counter revokedCounter;
+    private final Counter falsePositiveCounter;
+    private final Counter errorCounter;
+
+    // 필터 교체와 로컬 추가를 직렬화 (조회는 락 없이 현재 필터를 읽음)
+    private final Object swapLock = new Object();
+    private volatile JtiBloomFilter bloomFilter;
+    // 재구성 중에 들어온 jti도 새 필터에 반영하기 위해 만드는 중인 필터를 노출
+    private JtiBloomFilter rebuilding;
+
+    public TokenBlacklist(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${auth.blacklist.bloom.expected-insertions:100000}") long expectedInsertions,
+            @Value("${auth.blacklist.bloom.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new JtiBloomFilter(expectedInsertions, falsePositiveRate);
+
+        this.skippedCounter = checkCounter(meterRegistry, "skipped");
+        this.revokedCounter = checkCounter(meterRegistry, "revoked");
+        this.falsePositiveCounter = checkCounter(meterRegistry, "false_positive");
+        this.errorCounter = checkCounter(meterRegistry, "error");
+        Gauge.builder("auth.blacklist.bloom.expected_fpp", this, blacklist -> blacklist.bloomFilter.expectedFalsePositiveRate())
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener(
+                (message, pattern) -> addLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(ADDED_CHANNEL)
+        );
+        rebuild();
+    }
+
+    /**
+     * 토큰을 폐기합니다. 이미 만료된 토큰은 기록하지 않습니다.
+     *
+     * @param jti       토큰 ID
+     * @param expiresAt 토큰 만료 시각 (Redis TTL 기준)
+     */
+    public void revoke(String jti, Instant expiresAt) {
+        long ttlMillis = Duration.between(Instant.now(), expiresAt).toMillis();
+        if (ttlMillis <= 0) {
+            return;
+        }
+        byte[] key = (KEY_PREFIX + jti).getBytes(StandardCharsets.UTF_8);
+        byte[] member = jti.getBytes(StandardCharsets.UTF_8);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().pSetEx(key, ttlMillis, "1".getBytes(StandardCharsets.UTF_8));
+            connection.zSetCommands().zAdd(INDEX_KEY.getBytes(StandardCharsets.UTF_8), expiresAt.toEpochMilli(), member);
+            return null;
+        });
+        addLocal(jti);
+        redisTemplate.convertAndSend(ADDED_CHANNEL, jti);
+    }
+
+    /**
+     * 폐기된 토큰인지 확인합니다. 대부분의 토큰은 로컬 필터에서 Redis 조회 없이 끝납니다.
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !bloomFilter.mightContain(jti)) {
+            skippedCounter.increment();
+            return false;
+        }
+        try {
+            boolean revoked = Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + jti));
+            (revoked ? revokedCounter : falsePositiveCounter).increment();
+            return revoked;
+        } catch (Exception e) {
+            errorCounter.increment();
+            log.warn("토큰 블랙리스트 조회 실패, 폐기된 토큰으로 처리: {}", e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 만료된 jti를 정리하고 남은 jti로 로컬 필터를 새로 만들어 교체합니다.
+     *
+     * <p>Redis를 읽는 동안 들어온 jti는 {@link #addLocal(String)}이 새 필터에도 넣습니다.
+     * 교체와 추가는 같은 락으로 직렬화하므로, 교체 직전에 기존 필터에만 들어가고 새 필터에서 빠지는 jti는 없습니다.
+     * Redis 조회는 락 밖에서 하므로 락은 필터 교체와 비트 설정 동안만 잡힙니다. 폐기 확인은 락을 쓰지 않습니다.</p>
+     */
+    @Scheduled(fixedDelayString = "${auth.blacklist.rebuild-interval-ms:600000}",
+            initialDelayString = "${auth.blacklist.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        JtiBloomFilter next = new JtiBloomFilter(expectedInsertions, falsePositiveRate);
+        synchronized (swapLock) {
+            rebuilding = next;
+        }
+        try {
+            redisTemplate.opsForZSet().removeRangeByScore(INDEX_KEY, Double.NEGATIVE_INFINITY, System.currentTimeMillis());
+            Set<String> jtis = redisTemplate.opsForZSet().range(INDEX_KEY, 0, -1);
+            if (jtis != null) {
+                jtis.forEach(next::put);
+            }
+            synchronized (swapLock) {
+                bloomFilter = next;
+            }
+            log.debug("토큰 블랙리스트 필터 재구성: size={}", jtis == null ? 0 : jtis.size());
+        } catch (Exception e) {
+            // 기존 필터 유지 (Pub/Sub로 받은 항목은 그대로 남아 있음)
+            log.warn("토큰 블랙리스트 필터 재구성 실패: {}", e.getMessage());
+        } finally {
+            synchronized (swapLock) {
+                rebuilding = null;
+            }
+        }
+    }
+
+    private void addLocal(String jti) {
+        synchronized (swapLock) {
+            bloomFilter.put(jti);
+            if (rebuilding != null) {
+                rebuilding.put(jti);
+            }
+        }
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.blacklist.check")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
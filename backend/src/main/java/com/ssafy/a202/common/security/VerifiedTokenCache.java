@@ -0,0 +1,77 @@
+package com.ssafy.a202.common.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import io.jsonwebtoken.JwtException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+/**
+ * 서명 검증을 통과한 토큰의 클레임 캐시
+ *
+ * <p>같은 액세스 토큰으로 들어오는 반복 요청이 매번 HMAC 검증과 JSON 파싱을 하지 않도록
+ * 토큰의 SHA-256 해시를 키로 검증 결과를 보관합니다. 원문 토큰은 메모리에 남기지 않습니다.</p>
+ *
+ * <p>각 항목은 토큰의 만료 시각에 함께 만료되므로 만료된 토큰이 캐시로 통과하는 일은 없습니다.
+ * 검증에 실패한 토큰은 캐싱하지 않습니다.</p>
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtProvider jwtProvider;
+    private final Cache<String, JwtClaims> cache;
+
+    public VerifiedTokenCache(
+            JwtProvider jwtProvider,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.verified-cache.max-size:10000}") long maxSize
+    ) {
+        this.jwtProvider = jwtProvider;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(Expiry.<String, JwtClaims>creating((key, claims) -> ttlOf(claims)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified");
+    }
+
+    /**
+     * 캐시된 클레임을 반환하고, 없으면 서명을 검증한 뒤 캐싱합니다.
+     *
+     * @throws JwtException 토큰이 유효하지 않은 경우
+     */
+    public JwtClaims verify(String token) {
+        return cache.get(hash(token), key -> jwtProvider.parse(token));
+    }
+
+    /**
+     * 로그아웃 등으로 더 이상 신뢰하면 안 되는 토큰을 캐시에서 제거합니다.
+     */
+    public void evict(String token) {
+        cache.invalidate(hash(token));
+    }
+
+    private static Duration ttlOf(JwtClaims claims) {
+        Duration remaining = Duration.between(Instant.now(), claims.expiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.ssafy.a202.domain.analytics.controller;
+
+import com.ssafy.a202.common.annotation.UserId;
+import com.ssafy.a202.common.entity.ApiResponse;
+import com.ssafy.a202.common.entity.ApiResponseEntity;
+import com.ssafy.a202.common.entity.SuccessCode;
+import com.ssafy.a202.domain.analytics.dto.response.AnalyticsDashboardResponse;
+import com.ssafy.a202.domain.analytics.dto.response.SequenceAnalyticsResponse;
+import com.ssafy.a202.domain.analytics.service.AnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/analytics")
+@RequiredArgsConstructor
+@Tag(name = "Analytics", description = "기관 분석 대시보드 API")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+
+    @Operation(summary = "기관 대시보드 조회", description = "기관 전체, 교사별, 시나리오별 세션 수와 정답률을 일간 집계에서 조회합니다. (ORG_ADMIN, ADMIN)")
+    @GetMapping("/dashboard")
+    public ResponseEntity<ApiResponse<AnalyticsDashboardResponse>> getDashboard(
+            @Parameter(hidden = true) @UserId Long userId,
+            @Parameter(description = "기관 ID (ADMIN만 지정, ORG_ADMIN은 소속 기관)", example = "1")
+            @RequestParam(required = false) Long organizationId,
+            @Parameter(description = "시작일 (기본: 종료일 기준 30일 전)", example = "2025-11-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (기본: 오늘)", example = "2025-11-30")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        AnalyticsDashboardResponse response = analyticsService.getDashboard(userId, organizationId, from, to);
+        return ApiResponseEntity.success(
+                SuccessCode.ANALYTICS_DASHBOARD_GET_SUCCESS,
+                response
+        );
+    }
+
+    @Operation(summary = "시나리오 시퀀스별 정답률 조회", description = "기관 학생들의 시나리오 시퀀스별 답변 수와 정답률을 조회합니다. (ORG_ADMIN, ADMIN)")
+    @GetMapping("/scenarios/{scenarioId}/sequences")
+    public ResponseEntity<ApiResponse<SequenceAnalyticsResponse>> getScenarioSequences(
+            @Parameter(hidden = true) @UserId Long userId,
+            @Parameter(description = "시나리오 ID", required = true, example = "1")
+            @PathVariable Long scenarioId,
+            @Parameter(description = "기관 ID (ADMIN만 지정, ORG_ADMIN은 소속 기관)", example = "1")
+            @RequestParam(required = false) Long organizationId,
+            @Parameter(description = "시작일 (기본: 종료일 기준 30일 전)", example = "2025-11-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "종료일 (기본: 오늘)", example = "2025-11-30")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        SequenceAnalyticsResponse response = analyticsService.getScenarioSequences(userId, organizationId, scenarioId, from, to);
+        return ApiResponseEntity.success(
+                SuccessCode.ANALYTICS_SEQUENCE_GET_SUCCESS,
+                response
+        );
+    }
+}
@@ -0,0 +1,16 @@
+package com.ssafy.a202.domain.analytics.dto;
+
+/**
+ * 기간 합산 집계 행 (교사/시나리오/시퀀스 등 그룹 키와 이름 포함)
+ */
+public record AnalyticsStatRow(
+        Long id,
+        String name,
+        Long sessionsStarted,
+        Long sessionsCompleted,
+        Long sessionsAborted,
+        Long answerCount,
+        Long correctCount,
+        Double similaritySum
+) {
+}
@@ -0,0 +1,15 @@
+package com.ssafy.a202.domain.analytics.dto;
+
+/**
+ * 기간 합산 시퀀스 답변 집계 행
+ */
+public record SequenceStatRow(
+        Long sequenceId,
+        Integer seqNo,
+        String question,
+        Long answerCount,
+        Long correctCount,
+        Long firstTryCorrectCount,
+        Double similaritySum
+) {
+}
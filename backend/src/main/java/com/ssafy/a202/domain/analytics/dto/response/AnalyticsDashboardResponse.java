@@ -0,0 +1,31 @@
+package com.ssafy.a202.domain.analytics.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record AnalyticsDashboardResponse(
+        Long organizationId,
+        LocalDate from,
+        LocalDate to,
+        LocalDateTime refreshedAt,
+        AnalyticsStatResponse summary,
+        List<AnalyticsStatResponse> teachers,
+        List<AnalyticsStatResponse> scenarios
+) {
+    public static AnalyticsDashboardResponse of(
+            Long organizationId,
+            LocalDate from,
+            LocalDate to,
+            LocalDateTime refreshedAt,
+            AnalyticsStatResponse summary,
+            List<AnalyticsStatResponse> teachers,
+            List<AnalyticsStatResponse> scenarios
+    ) {
+        return new AnalyticsDashboardResponse(organizationId, from, to, refreshedAt, summary, teachers, scenarios);
+    }
+}
@@ -0,0 +1,48 @@
+package com.ssafy.a202.domain.analytics.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.ssafy.a202.domain.analytics.dto.AnalyticsStatRow;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record AnalyticsStatResponse(
+        Long id,
+        String name,
+        long sessionCount,
+        long completedCount,
+        long abortedCount,
+        Double completionRate,
+        long answerCount,
+        long correctCount,
+        Double accuracy,
+        Double averageSimilarity
+) {
+    public static AnalyticsStatResponse of(AnalyticsStatRow row) {
+        long sessions = valueOf(row.sessionsStarted());
+        long completed = valueOf(row.sessionsCompleted());
+        long answers = valueOf(row.answerCount());
+        long correct = valueOf(row.correctCount());
+        double similaritySum = row.similaritySum() == null ? 0 : row.similaritySum();
+
+        return new AnalyticsStatResponse(
+                row.id(),
+                row.name(),
+                sessions,
+                completed,
+                valueOf(row.sessionsAborted()),
+                sessions == 0 ? null : (double) completed / sessions,
+                answers,
+                correct,
+                answers == 0 ? null : (double) correct / answers,
+                answers == 0 ? null : similaritySum / answers
+        );
+    }
+
+    public static AnalyticsStatResponse empty(Long id) {
+        return new AnalyticsStatResponse(id, null, 0, 0, 0, null, 0, 0, null, null);
+    }
+
+    private static long valueOf(Long value) {
+        return value == null ? 0 : value;
+    }
+}
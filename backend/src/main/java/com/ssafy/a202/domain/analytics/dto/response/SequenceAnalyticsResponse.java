@@ -0,0 +1,51 @@
+package com.ssafy.a202.domain.analytics.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.ssafy.a202.domain.analytics.dto.SequenceStatRow;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record SequenceAnalyticsResponse(
+        Long organizationId,
+        Long scenarioId,
+        LocalDate from,
+        LocalDate to,
+        List<SequenceItem> sequences
+) {
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record SequenceItem(
+            Long sequenceId,
+            Integer seqNo,
+            String question,
+            long answerCount,
+            long correctCount,
+            long firstTryCorrectCount,
+            Double accuracy,
+            Double averageSimilarity
+    ) {
+        public static SequenceItem of(SequenceStatRow row) {
+            long answers = row.answerCount() == null ? 0 : row.answerCount();
+            long correct = row.correctCount() == null ? 0 : row.correctCount();
+            double similaritySum = row.similaritySum() == null ? 0 : row.similaritySum();
+
+            return new SequenceItem(
+                    row.sequenceId(),
+                    row.seqNo(),
+                    row.question(),
+                    answers,
+                    correct,
+                    row.firstTryCorrectCount() == null ? 0 : row.firstTryCorrectCount(),
+                    answers == 0 ? null : (double) correct / answers,
+                    answers == 0 ? null : similaritySum / answers
+            );
+        }
+    }
+
+    public static SequenceAnalyticsResponse of(Long organizationId, Long scenarioId, LocalDate from, LocalDate to,
+                                               List<SequenceItem> sequences) {
+        return new SequenceAnalyticsResponse(organizationId, scenarioId, from, to, sequences);
+    }
+}
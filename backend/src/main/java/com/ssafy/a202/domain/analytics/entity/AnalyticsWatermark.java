@@ -0,0 +1,39 @@
+package com.ssafy.a202.domain.analytics.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 집계 작업별 처리 완료 시점
+ *
+ * <p>다음 실행은 이 시점 이후 변경된({@code sessions.updated_at}, {@code answers.inserted_at}) 날짜만 다시 계산합니다.</p>
+ */
+@Entity
+@Table(name = "analytics_watermarks")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnalyticsWatermark {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(nullable = false)
+    private LocalDateTime watermark;
+
+    public AnalyticsWatermark(String name, LocalDateTime watermark) {
+        this.name = name;
+        this.watermark = watermark;
+    }
+
+    public void advance(LocalDateTime watermark) {
+        this.watermark = watermark;
+    }
+}
@@ -0,0 +1,65 @@
+package com.ssafy.a202.domain.analytics.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 기관 × 담임 교사 × 시나리오 일간 집계 (세션 시작일 기준)
+ *
+ * <p>{@code AnalyticsRefreshJob}이 변경된 날짜만 다시 계산해 채우며, 교사별/시나리오별 대시보드는 이 행만 읽습니다.</p>
+ */
+@Entity
+@Table(
+        name = "org_scenario_daily_stats",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_org_scenario_daily_stats",
+                columnNames = {"stat_date", "org_id", "teacher_id", "scenario_id"}
+        ),
+        indexes = @Index(name = "idx_org_scenario_daily_stats_org_date", columnList = "org_id, stat_date")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrgScenarioDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "org_id", nullable = false)
+    private Long orgId;
+
+    @Column(nullable = false)
+    private Long teacherId;
+
+    @Column(nullable = false)
+    private Long scenarioId;
+
+    @Column(nullable = false)
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private int sessionsStarted;
+
+    @Column(nullable = false)
+    private int sessionsCompleted;
+
+    @Column(nullable = false)
+    private int sessionsAborted;
+
+    @Column(nullable = false)
+    private int answerCount;
+
+    @Column(nullable = false)
+    private int correctCount;
+
+    @Column(nullable = false)
+    private double similaritySum;
+
+    @Column(nullable = false)
+    private LocalDateTime refreshedAt;
+}
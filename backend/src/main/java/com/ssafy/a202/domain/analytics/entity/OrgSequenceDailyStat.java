@@ -0,0 +1,58 @@
+package com.ssafy.a202.domain.analytics.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 기관 × 시나리오 × 시퀀스 일간 답변 집계 (세션 시작일 기준)
+ */
+@Entity
+@Table(
+        name = "org_sequence_daily_stats",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_org_sequence_daily_stats",
+                columnNames = {"stat_date", "org_id", "scenario_id", "sequence_id"}
+        ),
+        indexes = @Index(name = "idx_org_sequence_daily_stats_org_scenario_date", columnList = "org_id, scenario_id, stat_date")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OrgSequenceDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "org_id", nullable = false)
+    private Long orgId;
+
+    @Column(nullable = false)
+    private Long scenarioId;
+
+    @Column(nullable = false)
+    private Long sequenceId;
+
+    @Column(nullable = false)
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private int answerCount;
+
+    @Column(nullable = false)
+    private int correctCount;
+
+    // 첫 시도에 맞힌 답변 수
+    @Column(nullable = false)
+    private int firstTryCorrectCount;
+
+    @Column(nullable = false)
+    private double similaritySum;
+
+    @Column(nullable = false)
+    private LocalDateTime refreshedAt;
+}
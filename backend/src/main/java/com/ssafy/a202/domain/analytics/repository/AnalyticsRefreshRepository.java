@@ -0,0 +1,125 @@
+package com.ssafy.a202.domain.analytics.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 기관 분석 집계 테이블을 날짜 단위로 다시 계산하는 리포지토리
+ *
+ * <p>한 날짜의 집계 행을 지우고 원본({@code sessions}, {@code answers}, {@code students})에서
+ * {@code INSERT ... SELECT ... GROUP BY} 한 문장으로 다시 채웁니다. 같은 날짜를 여러 번 계산해도 결과가 같으므로
+ * 증분 누적과 달리 재시도나 중복 실행에 안전합니다.</p>
+ *
+ * <p>JPA 트랜잭션과 같은 커넥션을 사용하므로 반드시 트랜잭션 안에서 호출해야 합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnalyticsRefreshRepository {
+
+    private static final String CHANGED_DATES_SQL = """
+            SELECT DATE(s.created_at) FROM sessions s
+            WHERE s.updated_at > ? AND s.updated_at <= ?
+            UNION
+            SELECT DATE(s.created_at) FROM answers a
+            JOIN sessions s ON s.id = a.session_id
+            WHERE a.inserted_at > ? AND a.inserted_at <= ?
+            """;
+
+    private static final String INSERT_SCENARIO_STATS_SQL = """
+            INSERT INTO org_scenario_daily_stats
+                (org_id, teacher_id, scenario_id, stat_date, sessions_started, sessions_completed, sessions_aborted,
+                 answer_count, correct_count, similarity_sum, refreshed_at)
+            SELECT st.org_id, st.user_id, s.scenario_id, ?,
+                   COUNT(*),
+                   SUM(CASE WHEN s.session_status = 'COMPLETED' THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN s.session_status = 'ABORTED' THEN 1 ELSE 0 END),
+                   COALESCE(SUM(x.answer_count), 0),
+                   COALESCE(SUM(x.correct_count), 0),
+                   COALESCE(SUM(x.similarity_sum), 0),
+                   ?
+            FROM sessions s
+            JOIN students st ON st.id = s.student_id
+            LEFT JOIN (
+                SELECT a.session_id,
+                       COUNT(*) AS answer_count,
+                       SUM(CASE WHEN a.is_correct THEN 1 ELSE 0 END) AS correct_count,
+                       SUM(a.similarity_score) AS similarity_sum
+                FROM answers a
+                JOIN sessions s2 ON s2.id = a.session_id
+                WHERE s2.created_at >= ? AND s2.created_at < ?
+                  AND a.deleted_at IS NULL
+                GROUP BY a.session_id
+            ) x ON x.session_id = s.id
+            WHERE s.created_at >= ? AND s.created_at < ?
+              AND s.deleted_at IS NULL
+              AND s.scenario_id IS NOT NULL
+            GROUP BY st.org_id, st.user_id, s.scenario_id
+            """;
+
+    private static final String INSERT_SEQUENCE_STATS_SQL = """
+            INSERT INTO org_sequence_daily_stats
+                (org_id, scenario_id, sequence_id, stat_date, answer_count, correct_count, first_try_correct_count,
+                 similarity_sum, refreshed_at)
+            SELECT st.org_id, s.scenario_id, a.sequence_id, ?,
+                   COUNT(*),
+                   SUM(CASE WHEN a.is_correct THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN a.is_correct AND a.attempt_no = 1 THEN 1 ELSE 0 END),
+                   SUM(a.similarity_score),
+                   ?
+            FROM answers a
+            JOIN sessions s ON s.id = a.session_id
+            JOIN students st ON st.id = s.student_id
+            WHERE s.created_at >= ? AND s.created_at < ?
+              AND s.deleted_at IS NULL
+              AND s.scenario_id IS NOT NULL
+              AND a.deleted_at IS NULL
+              AND a.sequence_id IS NOT NULL
+            GROUP BY st.org_id, s.scenario_id, a.sequence_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * (after, upTo] 구간에 세션이 갱신되었거나 답변이 저장된 날짜(세션 시작일) 목록을 조회합니다.
+     *
+     * <p>답변은 {@code created_at}(제출 시각)이 아니라 {@code inserted_at}(저장 시각)으로 판단합니다.
+     * write-behind로 늦게 저장된 답변도 제출 시각이 이미 지난 워터마크보다 이전일 수 있기 때문입니다.</p>
+     */
+    public List<LocalDate> findChangedDates(LocalDateTime after, LocalDateTime upTo) {
+        Timestamp from = Timestamp.valueOf(after);
+        Timestamp to = Timestamp.valueOf(upTo);
+        return jdbcTemplate.query(
+                CHANGED_DATES_SQL,
+                (rs, rowNum) -> rs.getDate(1).toLocalDate(),
+                from, to, from, to
+        ).stream().sorted().toList();
+    }
+
+    /**
+     * 하루치 시나리오/시퀀스 집계를 다시 계산합니다.
+     *
+     * @return 새로 채운 (시나리오 집계 행 수 + 시퀀스 집계 행 수)
+     */
+    public int refreshDate(LocalDate date, LocalDateTime now) {
+        Date statDate = Date.valueOf(date);
+        Timestamp refreshedAt = Timestamp.valueOf(now);
+        Timestamp dayStart = Timestamp.valueOf(date.atStartOfDay());
+        Timestamp nextDayStart = Timestamp.valueOf(date.plusDays(1).atStartOfDay());
+
+        jdbcTemplate.update("DELETE FROM org_scenario_daily_stats WHERE stat_date = ?", statDate);
+        jdbcTemplate.update("DELETE FROM org_sequence_daily_stats WHERE stat_date = ?", statDate);
+
+        int scenarioRows = jdbcTemplate.update(INSERT_SCENARIO_STATS_SQL,
+                statDate, refreshedAt, dayStart, nextDayStart, dayStart, nextDayStart);
+        int sequenceRows = jdbcTemplate.update(INSERT_SEQUENCE_STATS_SQL,
+                statDate, refreshedAt, dayStart, nextDayStart);
+        return scenarioRows + sequenceRows;
+    }
+}
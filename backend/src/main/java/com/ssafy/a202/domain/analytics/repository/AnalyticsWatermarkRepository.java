@@ -0,0 +1,7 @@
+package com.ssafy.a202.domain.analytics.repository;
+
+import com.ssafy.a202.domain.analytics.entity.AnalyticsWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface AnalyticsWatermarkRepository extends JpaRepository<AnalyticsWatermark, String> {
+}
@@ -0,0 +1,64 @@
+package com.ssafy.a202.domain.analytics.repository;
+
+import com.ssafy.a202.domain.analytics.dto.AnalyticsStatRow;
+import com.ssafy.a202.domain.analytics.entity.OrgScenarioDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OrgScenarioDailyStatRepository extends JpaRepository<OrgScenarioDailyStat, Long> {
+
+    @Query("""
+            select new com.ssafy.a202.domain.analytics.dto.AnalyticsStatRow(
+                d.orgId, null,
+                coalesce(sum(d.sessionsStarted), 0), coalesce(sum(d.sessionsCompleted), 0),
+                coalesce(sum(d.sessionsAborted), 0), coalesce(sum(d.answerCount), 0),
+                coalesce(sum(d.correctCount), 0), coalesce(sum(d.similaritySum), 0.0))
+            from OrgScenarioDailyStat d
+            where d.orgId = :orgId and d.statDate between :from and :to
+            group by d.orgId
+            """)
+    List<AnalyticsStatRow> sumByOrganization(@Param("orgId") Long orgId,
+                                             @Param("from") LocalDate from,
+                                             @Param("to") LocalDate to);
+
+    @Query("""
+            select new com.ssafy.a202.domain.analytics.dto.AnalyticsStatRow(
+                d.teacherId, u.fullName,
+                sum(d.sessionsStarted), sum(d.sessionsCompleted), sum(d.sessionsAborted),
+                sum(d.answerCount), sum(d.correctCount), sum(d.similaritySum))
+            from OrgScenarioDailyStat d
+            left join User u on u.id = d.teacherId
+            where d.orgId = :orgId and d.statDate between :from and :to
+            group by d.teacherId, u.fullName
+            order by sum(d.sessionsStarted) desc
+            """)
+    List<AnalyticsStatRow> sumByTeacher(@Param("orgId") Long orgId,
+                                        @Param("from") LocalDate from,
+                                        @Param("to") LocalDate to);
+
+    @Query("""
+            select new com.ssafy.a202.domain.analytics.dto.AnalyticsStatRow(
+                d.scenarioId, sc.title,
+                sum(d.sessionsStarted), sum(d.sessionsCompleted), sum(d.sessionsAborted),
+                sum(d.answerCount), sum(d.correctCount), sum(d.similaritySum))
+            from OrgScenarioDailyStat d
+            left join Scenario sc on sc.id = d.scenarioId
+            where d.orgId = :orgId and d.statDate between :from and :to
+            group by d.scenarioId, sc.title
+            order by sum(d.sessionsStarted) desc
+            """)
+    List<AnalyticsStatRow> sumByScenario(@Param("orgId") Long orgId,
+                                         @Param("from") LocalDate from,
+                                         @Param("to") LocalDate to);
+
+    /**
+     * 기관 집계가 마지막으로 갱신된 시각 (집계가 없으면 null)
+     */
+    @Query("select max(d.refreshedAt) from OrgScenarioDailyStat d where d.orgId = :orgId")
+    LocalDateTime findLastRefreshedAt(@Param("orgId") Long orgId);
+}
@@ -0,0 +1,28 @@
+package com.ssafy.a202.domain.analytics.repository;
+
+import com.ssafy.a202.domain.analytics.dto.SequenceStatRow;
+import com.ssafy.a202.domain.analytics.entity.OrgSequenceDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface OrgSequenceDailyStatRepository extends JpaRepository<OrgSequenceDailyStat, Long> {
+
+    @Query("""
+            select new com.ssafy.a202.domain.analytics.dto.SequenceStatRow(
+                d.sequenceId, q.seqNo, q.question,
+                sum(d.answerCount), sum(d.correctCount), sum(d.firstTryCorrectCount), sum(d.similaritySum))
+            from OrgSequenceDailyStat d
+            left join Sequence q on q.id = d.sequenceId
+            where d.orgId = :orgId and d.scenarioId = :scenarioId and d.statDate between :from and :to
+            group by d.sequenceId, q.seqNo, q.question
+            order by q.seqNo, d.sequenceId
+            """)
+    List<SequenceStatRow> sumBySequence(@Param("orgId") Long orgId,
+                                        @Param("scenarioId") Long scenarioId,
+                                        @Param("from") LocalDate from,
+                                        @Param("to") LocalDate to);
+}
@@ -0,0 +1,129 @@
+package com.ssafy.a202.domain.analytics.scheduler;
+
+import com.ssafy.a202.common.lock.RedisLock;
+import com.ssafy.a202.domain.analytics.entity.AnalyticsWatermark;
+import com.ssafy.a202.domain.analytics.repository.AnalyticsRefreshRepository;
+import com.ssafy.a202.domain.analytics.repository.AnalyticsWatermarkRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 기관 분석 집계 갱신 작업
+ *
+ * <p>워터마크 이후 세션이 갱신되었거나 답변이 저장된 날짜(세션 시작일)만 골라,
+ * 날짜마다 한 트랜잭션으로 {@link AnalyticsRefreshRepository#refreshDate}를 실행합니다.
+ * 날짜별 트랜잭션은 READ COMMITTED로 실행합니다. 기본(REPEATABLE READ)에서는 {@code INSERT ... SELECT}가 원본
+ * {@code sessions}/{@code answers} 행에 공유 next-key 락을 잡아 세션 종료와 답변 저장을 막기 때문입니다.
+ * (MySQL binlog가 ROW 형식이어야 합니다.)
+ * 모든 날짜가 끝나면 워터마크를 이번 실행의 상한으로 옮깁니다. 실패하면 워터마크가 그대로라 다음 실행에서 다시 계산합니다.</p>
+ *
+ * <p>커밋이 늦게 보이는 행을 놓치지 않도록 상한은 현재 시각보다 {@code analytics.refresh.lag}만큼 이전으로 잡습니다.
+ * 워터마크가 없으면 {@code analytics.refresh.initial-lookback} 이전부터 계산합니다.</p>
+ *
+ * <p>{@link RedisLock}으로 클러스터에서 한 노드만 실행합니다.
+ * 메트릭: {@code analytics.refresh.days}, {@code analytics.refresh.rows}, {@code analytics.refresh.run}</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "analytics.refresh.enabled", havingValue = "true")
+public class AnalyticsRefreshJob {
+
+    private static final String JOB_NAME = "org-daily-stats";
+    private static final String LOCK_NAME = "analytics-refresh";
+
+    private final AnalyticsRefreshRepository analyticsRefreshRepository;
+    private final AnalyticsWatermarkRepository analyticsWatermarkRepository;
+    private final RedisLock redisLock;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate refreshTransactionTemplate;
+    private final Duration lag;
+    private final Duration initialLookback;
+    private final Duration lockLease;
+
+    private final Counter daysCounter;
+    private final Counter rowsCounter;
+    private final Timer runTimer;
+
+    public AnalyticsRefreshJob(
+            AnalyticsRefreshRepository analyticsRefreshRepository,
+            AnalyticsWatermarkRepository analyticsWatermarkRepository,
+            RedisLock redisLock,
+            TransactionTemplate transactionTemplate,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${analytics.refresh.lag:10s}") Duration lag,
+            @Value("${analytics.refresh.initial-lookback:90d}") Duration initialLookback,
+            @Value("${analytics.refresh.lock-lease:10m}") Duration lockLease
+    ) {
+        this.analyticsRefreshRepository = analyticsRefreshRepository;
+        this.analyticsWatermarkRepository = analyticsWatermarkRepository;
+        this.redisLock = redisLock;
+        this.transactionTemplate = transactionTemplate;
+        // 원본 행을 잠그지 않는 일관된 읽기(스냅샷)로 집계
+        this.refreshTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.refreshTransactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.lag = lag;
+        this.initialLookback = initialLookback;
+        this.lockLease = lockLease;
+
+        this.daysCounter = Counter.builder("analytics.refresh.days").register(meterRegistry);
+        this.rowsCounter = Counter.builder("analytics.refresh.rows").register(meterRegistry);
+        this.runTimer = Timer.builder("analytics.refresh.run").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${analytics.refresh.interval-ms:300000}")
+    public void refresh() {
+        Optional<String> token = redisLock.tryAcquire(LOCK_NAME, lockLease);
+        if (token.isEmpty()) {
+            return;
+        }
+        try {
+            runTimer.record(this::refreshChangedDates);
+        } finally {
+            redisLock.release(LOCK_NAME, token.get());
+        }
+    }
+
+    private void refreshChangedDates() {
+        long startedAt = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime upTo = now.minus(lag);
+
+        AnalyticsWatermark watermark = analyticsWatermarkRepository.findById(JOB_NAME)
+                .orElseGet(() -> new AnalyticsWatermark(JOB_NAME, now.minus(initialLookback)));
+        if (!watermark.getWatermark().isBefore(upTo)) {
+            return;
+        }
+
+        List<LocalDate> dates = analyticsRefreshRepository.findChangedDates(watermark.getWatermark(), upTo);
+        long rows = 0;
+        for (LocalDate date : dates) {
+            Integer refreshed = refreshTransactionTemplate.execute(status -> analyticsRefreshRepository.refreshDate(date, now));
+            rows += refreshed == null ? 0 : refreshed;
+        }
+
+        watermark.advance(upTo);
+        transactionTemplate.executeWithoutResult(status -> analyticsWatermarkRepository.save(watermark));
+
+        daysCounter.increment(dates.size());
+        rowsCounter.increment(rows);
+        log.info("분석 집계 갱신: days={}, rows={}, watermark={}, elapsed={}ms",
+                dates.size(), rows, upTo, Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+    }
+}
@@ -0,0 +1,115 @@
+package com.ssafy.a202.domain.analytics.service;
+
+import com.ssafy.a202.common.exception.CustomException;
+import com.ssafy.a202.common.exception.ErrorCode;
+import com.ssafy.a202.domain.analytics.dto.AnalyticsStatRow;
+import com.ssafy.a202.domain.analytics.dto.response.AnalyticsDashboardResponse;
+import com.ssafy.a202.domain.analytics.dto.response.AnalyticsStatResponse;
+import com.ssafy.a202.domain.analytics.dto.response.SequenceAnalyticsResponse;
+import com.ssafy.a202.domain.analytics.repository.OrgScenarioDailyStatRepository;
+import com.ssafy.a202.domain.analytics.repository.OrgSequenceDailyStatRepository;
+import com.ssafy.a202.domain.user.entity.User;
+import com.ssafy.a202.domain.user.entity.UserRole;
+import com.ssafy.a202.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 기관 대시보드 조회
+ *
+ * <p>원본 세션/답변 대신 {@code AnalyticsRefreshJob}이 채운 일간 집계만 읽으므로,
+ * 조회 비용은 누적 이력 크기가 아니라 조회 기간(최대 {@value #MAX_RANGE_DAYS}일)에만 비례합니다.
+ * 집계는 주기적으로 갱신되므로 응답의 {@code refreshed_at}까지의 데이터만 반영됩니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AnalyticsService {
+
+    private static final int DEFAULT_RANGE_DAYS = 30;
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final UserRepository userRepository;
+    private final OrgScenarioDailyStatRepository orgScenarioDailyStatRepository;
+    private final OrgSequenceDailyStatRepository orgSequenceDailyStatRepository;
+
+    public AnalyticsDashboardResponse getDashboard(Long userId, Long organizationId, LocalDate from, LocalDate to) {
+        Long orgId = resolveOrganizationId(userId, organizationId);
+        LocalDate end = to == null ? LocalDate.now() : to;
+        LocalDate start = from == null ? end.minusDays(DEFAULT_RANGE_DAYS - 1) : from;
+        validateRange(start, end);
+
+        List<AnalyticsStatRow> totals = orgScenarioDailyStatRepository.sumByOrganization(orgId, start, end);
+        AnalyticsStatResponse summary = totals.isEmpty()
+                ? AnalyticsStatResponse.empty(orgId)
+                : AnalyticsStatResponse.of(totals.get(0));
+
+        return AnalyticsDashboardResponse.of(
+                orgId,
+                start,
+                end,
+                orgScenarioDailyStatRepository.findLastRefreshedAt(orgId),
+                summary,
+                orgScenarioDailyStatRepository.sumByTeacher(orgId, start, end).stream()
+                        .map(AnalyticsStatResponse::of)
+                        .toList(),
+                orgScenarioDailyStatRepository.sumByScenario(orgId, start, end).stream()
+                        .map(AnalyticsStatResponse::of)
+                        .toList()
+        );
+    }
+
+    public SequenceAnalyticsResponse getScenarioSequences(Long userId, Long organizationId, Long scenarioId,
+                                                          LocalDate from, LocalDate to) {
+        Long orgId = resolveOrganizationId(userId, organizationId);
+        LocalDate end = to == null ? LocalDate.now() : to;
+        LocalDate start = from == null ? end.minusDays(DEFAULT_RANGE_DAYS - 1) : from;
+        validateRange(start, end);
+
+        return SequenceAnalyticsResponse.of(
+                orgId,
+                scenarioId,
+                start,
+                end,
+                orgSequenceDailyStatRepository.sumBySequence(orgId, scenarioId, start, end).stream()
+                        .map(SequenceAnalyticsResponse.SequenceItem::of)
+                        .toList()
+        );
+    }
+
+    /**
+     * 조회할 기관을 결정합니다. ORG_ADMIN은 소속 기관만, ADMIN은 지정한 기관을 조회할 수 있습니다.
+     */
+    private Long resolveOrganizationId(Long userId, Long requestedOrganizationId) {
+        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        return switch (user.getRole()) {
+            case ADMIN -> {
+                if (requestedOrganizationId == null) {
+                    throw new CustomException(ErrorCode.VALIDATION_FAILED);
+                }
+                yield requestedOrganizationId;
+            }
+            case ORG_ADMIN -> {
+                Long own = user.getOrganization().getId();
+                if (requestedOrganizationId != null && !requestedOrganizationId.equals(own)) {
+                    throw new CustomException(ErrorCode.PERMISSION_DENIED);
+                }
+                yield own;
+            }
+            case TEACHER -> throw new CustomException(ErrorCode.PERMISSION_DENIED);
+        };
+    }
+
+    private static void validateRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new CustomException(ErrorCode.ANALYTICS_INVALID_RANGE);
+        }
+    }
+}
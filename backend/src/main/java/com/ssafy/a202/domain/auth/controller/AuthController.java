@@ -3,18 +3,26 @@ package com.ssafy.a202.domain.auth.controller;
 import com.ssafy.a202.common.entity.ApiResponse;
 import com.ssafy.a202.common.entity.ApiResponseEntity;
 import com.ssafy.a202.common.entity.SuccessCode;
+import com.ssafy.a202.common.exception.CustomException;
+import com.ssafy.a202.common.exception.ErrorCode;
 import com.ssafy.a202.domain.auth.dto.request.LoginRequest;
+import com.ssafy.a202.domain.auth.dto.request.LogoutRequest;
 import com.ssafy.a202.domain.auth.dto.request.SignupRequest;
+import com.ssafy.a202.domain.auth.dto.request.TokenRefreshRequest;
 import com.ssafy.a202.domain.auth.dto.response.LoginResponse;
 import com.ssafy.a202.domain.auth.dto.response.SignupResponse;
+import com.ssafy.a202.domain.auth.dto.response.TokenRefreshResponse;
 import com.ssafy.a202.domain.auth.service.AuthService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -28,8 +36,11 @@ public class AuthController {
 
     @Operation(summary = "회원가입", description = "새로운 사용자를 등록합니다.")
     @PostMapping("/signup")
-    public ResponseEntity<ApiResponse<SignupResponse>> signup(@Valid @RequestBody SignupRequest request) {
-        SignupResponse response = authService.signup(request);
+    public ResponseEntity<ApiResponse<SignupResponse>> signup(
+            @Valid @RequestBody SignupRequest request,
+            HttpServletRequest httpRequest
+    ) {
+        SignupResponse response = authService.signup(request, httpRequest.getRemoteAddr());
         return ApiResponseEntity.created(
                 "/api/users/" + response.userId(),
                 SuccessCode.SIGNUP_SUCCESS,
@@ -39,12 +50,38 @@ public class AuthController {
 
     @Operation(summary = "로그인", description = "사용자 로그인 후 JWT 토큰을 발급합니다.")
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<LoginResponse>> login(@Valid @RequestBody LoginRequest request) {
-        LoginResponse response = authService.login(request);
+    public ResponseEntity<ApiResponse<LoginResponse>> login(
+            @Valid @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest
+    ) {
+        LoginResponse response = authService.login(request, httpRequest.getRemoteAddr());
         return ApiResponseEntity.success(
                 SuccessCode.LOGIN_SUCCESS,
                 response
         );
     }
 
+    @Operation(summary = "토큰 갱신", description = "리프레시 토큰으로 새 액세스/리프레시 토큰을 발급합니다. 사용한 리프레시 토큰은 더 이상 쓸 수 없습니다.")
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<TokenRefreshResponse>> refresh(@RequestBody TokenRefreshRequest request) {
+        TokenRefreshResponse response = authService.refresh(request);
+        return ApiResponseEntity.success(
+                SuccessCode.TOKEN_REFRESH_SUCCESS,
+                response
+        );
+    }
+
+    @Operation(summary = "로그아웃", description = "액세스 토큰을 만료 시각까지 사용할 수 없도록 폐기하고, 리프레시 토큰이 전달되면 그 토큰 계열도 폐기합니다.")
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestBody(required = false) LogoutRequest request
+    ) {
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            throw new CustomException(ErrorCode.UNAUTHORIZED);
+        }
+        authService.logout(authorization.substring(7), request);
+        return ApiResponseEntity.success(SuccessCode.LOGOUT_SUCCESS);
+    }
+
 }
@@ -0,0 +1,10 @@
+package com.ssafy.a202.domain.auth.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "로그아웃 요청")
+public record LogoutRequest(
+        @Schema(description = "함께 폐기할 리프레시 토큰 (선택)", requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+        String refreshToken
+) {
+}
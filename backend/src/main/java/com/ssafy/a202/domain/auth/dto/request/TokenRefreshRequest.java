@@ -0,0 +1,10 @@
+package com.ssafy.a202.domain.auth.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "토큰 갱신 요청")
+public record TokenRefreshRequest(
+        @Schema(description = "로그인 또는 이전 갱신에서 받은 리프레시 토큰", requiredMode = Schema.RequiredMode.REQUIRED)
+        String refreshToken
+) {
+}
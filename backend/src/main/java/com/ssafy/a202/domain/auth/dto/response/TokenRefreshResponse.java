@@ -0,0 +1,10 @@
+package com.ssafy.a202.domain.auth.dto.response;
+
+public record TokenRefreshResponse(
+        String accessToken,
+        String refreshToken
+) {
+    public static TokenRefreshResponse of(String accessToken, String refreshToken) {
+        return new TokenRefreshResponse(accessToken, refreshToken);
+    }
+}
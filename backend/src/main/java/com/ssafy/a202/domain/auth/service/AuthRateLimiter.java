@@ -0,0 +1,64 @@
+package com.ssafy.a202.domain.auth.service;
+
+import com.ssafy.a202.common.exception.CustomException;
+import com.ssafy.a202.common.exception.ErrorCode;
+import com.ssafy.a202.common.ratelimit.RedisRateLimiter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인/회원가입 요청 제한
+ *
+ * <p>비밀번호 해시 전에 사용자명별, IP별 토큰 버킷을 확인해 반복 시도가 CPU를 쓰지 못하게 합니다.
+ * 한 학교가 같은 공인 IP로 한꺼번에 로그인하는 경우를 고려해 IP 버킷은 사용자명 버킷보다 크게 잡습니다.</p>
+ */
+@Slf4j
+@Component
+public class AuthRateLimiter {
+
+    private final RedisRateLimiter redisRateLimiter;
+    private final int usernameCapacity;
+    private final double usernameRefillPerSecond;
+    private final int ipCapacity;
+    private final double ipRefillPerSecond;
+
+    public AuthRateLimiter(
+            RedisRateLimiter redisRateLimiter,
+            @Value("${auth.rate-limit.username.capacity:10}") int usernameCapacity,
+            @Value("${auth.rate-limit.username.refill-per-second:0.2}") double usernameRefillPerSecond,
+            @Value("${auth.rate-limit.ip.capacity:1000}") int ipCapacity,
+            @Value("${auth.rate-limit.ip.refill-per-second:20}") double ipRefillPerSecond
+    ) {
+        this.redisRateLimiter = redisRateLimiter;
+        this.usernameCapacity = usernameCapacity;
+        this.usernameRefillPerSecond = usernameRefillPerSecond;
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPerSecond = ipRefillPerSecond;
+    }
+
+    /**
+     * @throws CustomException 사용자명 또는 IP의 허용 횟수를 넘은 경우 (429)
+     */
+    public void checkLogin(String username, String clientIp) {
+        check("login-ip", clientIp, ipCapacity, ipRefillPerSecond);
+        check("login-user", username, usernameCapacity, usernameRefillPerSecond);
+    }
+
+    /**
+     * @throws CustomException IP의 허용 횟수를 넘은 경우 (429)
+     */
+    public void checkSignup(String clientIp) {
+        check("signup-ip", clientIp, ipCapacity, ipRefillPerSecond);
+    }
+
+    private void check(String limiter, String key, int capacity, double refillPerSecond) {
+        if (key == null) {
+            return;
+        }
+        if (!redisRateLimiter.tryAcquire(limiter, key, capacity, refillPerSecond)) {
+            log.debug("인증 요청 제한: limiter={}, key={}", limiter, key);
+            throw new CustomException(ErrorCode.TOO_MANY_AUTH_ATTEMPTS);
+        }
+    }
+}
@@ -1,13 +1,20 @@
 package com.ssafy.a202.domain.auth.service;
 
 import com.ssafy.a202.domain.auth.dto.request.LoginRequest;
+import com.ssafy.a202.domain.auth.dto.request.LogoutRequest;
 import com.ssafy.a202.domain.auth.dto.request.SignupRequest;
+import com.ssafy.a202.domain.auth.dto.request.TokenRefreshRequest;
 import com.ssafy.a202.domain.auth.dto.response.LoginResponse;
 import com.ssafy.a202.domain.auth.dto.response.SignupResponse;
+import com.ssafy.a202.domain.auth.dto.response.TokenRefreshResponse;
 
 public interface AuthService {
 
-    SignupResponse signup(SignupRequest request);
+    SignupResponse signup(SignupRequest request, String clientIp);
 
-    LoginResponse login(LoginRequest request);
+    LoginResponse login(LoginRequest request, String clientIp);
+
+    void logout(String accessToken, LogoutRequest request);
+
+    TokenRefreshResponse refresh(TokenRefreshRequest request);
 }
@@ -2,20 +2,33 @@ package com.ssafy.a202.domain.auth.service;
 
 import com.ssafy.a202.common.exception.CustomException;
 import com.ssafy.a202.common.exception.ErrorCode;
+import com.ssafy.a202.common.security.JwtClaims;
 import com.ssafy.a202.common.security.JwtProvider;
+import com.ssafy.a202.common.security.PasswordHasher;
+import com.ssafy.a202.common.security.TokenBlacklist;
+import com.ssafy.a202.common.security.VerifiedTokenCache;
 import com.ssafy.a202.domain.auth.dto.request.LoginRequest;
+import com.ssafy.a202.domain.auth.dto.request.LogoutRequest;
 import com.ssafy.a202.domain.auth.dto.request.SignupRequest;
+import com.ssafy.a202.domain.auth.dto.request.TokenRefreshRequest;
 import com.ssafy.a202.domain.auth.dto.response.LoginResponse;
 import com.ssafy.a202.domain.auth.dto.response.SignupResponse;
+import com.ssafy.a202.domain.auth.dto.response.TokenRefreshResponse;
+import com.ssafy.a202.domain.auth.token.RefreshTokenStore;
 import com.ssafy.a202.domain.organization.entity.Organization;
 import com.ssafy.a202.domain.organization.repository.OrganizationRepository;
+import com.ssafy.a202.domain.user.cache.UserLivenessCache;
 import com.ssafy.a202.domain.user.entity.User;
 import com.ssafy.a202.domain.user.repository.UserRepository;
+import io.jsonwebtoken.JwtException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -25,12 +38,21 @@ public class AuthServiceImpl implements AuthService {
 
     private final UserRepository userRepository;
     private final OrganizationRepository organizationRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final AuthRateLimiter authRateLimiter;
     private final JwtProvider jwtProvider;
+    private final TokenBlacklist tokenBlacklist;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RefreshTokenStore refreshTokenStore;
+    private final UserLivenessCache userLivenessCache;
+    private final TransactionTemplate transactionTemplate;
 
     @Override
-    @Transactional
-    public SignupResponse signup(SignupRequest request) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // 해시를 기다리는 동안 DB 커넥션을 잡지 않도록
+    public SignupResponse signup(SignupRequest request, String clientIp) {
+        // 0. IP별 요청 제한
+        authRateLimiter.checkSignup(clientIp);
+
         // 1. 사용자명 중복 체크
         if (userRepository.existsByUsernameAndDeletedAtIsNull(request.username())) {
             throw new CustomException(ErrorCode.USERNAME_DUPLICATE);
@@ -41,33 +63,34 @@ public class AuthServiceImpl implements AuthService {
             throw new CustomException(ErrorCode.EMAIL_DUPLICATE);
         }
 
-        // 3. 학교 조회
-        Organization org = organizationRepository.findById(request.orgId())
-                .orElseThrow(() -> new CustomException(ErrorCode.ORGANIZATION_NOT_FOUND));
-
-        // 4. 비밀번호 암호화
-        String encodePassword = passwordEncoder.encode(request.password());
-
-        // 5. 사용자 엔티티 생성
-        User user = User.of(org, request, encodePassword);
+        // 3. 비밀번호 암호화 (트랜잭션 밖, 전용 실행기에서 수행)
+        String encodePassword = passwordHasher.encode(request.password());
 
-        // 6. 저장
-        User savedUser = userRepository.save(user);
+        // 4. 학교 조회 후 저장 (이 구간만 트랜잭션)
+        User savedUser = transactionTemplate.execute(status -> {
+            Organization org = organizationRepository.findById(request.orgId())
+                    .orElseThrow(() -> new CustomException(ErrorCode.ORGANIZATION_NOT_FOUND));
+            return userRepository.save(User.of(org, request, encodePassword));
+        });
 
         log.info("New user registered: {}", savedUser.getUsername());
 
-        // 7. 응답 생성
+        // 5. 응답 생성
         return SignupResponse.of(savedUser);
     }
 
     @Override
-    public LoginResponse login(LoginRequest request) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)  // 해시를 기다리는 동안 DB 커넥션을 잡지 않도록
+    public LoginResponse login(LoginRequest request, String clientIp) {
+        // 0. 사용자명/IP별 요청 제한 (비밀번호 해시 전에 차단)
+        authRateLimiter.checkLogin(request.username(), clientIp);
+
         // 1. 사용자 조회
         User user = userRepository.findByUsernameAndDeletedAtIsNull(request.username())
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         // 2. 비밀번호 검증
-        if(!passwordEncoder.matches(request.password(), user.getPassword())) {
+        if(!passwordHasher.matches(request.password(), user.getPassword())) {
             throw new CustomException(ErrorCode.INVALID_PASSWORD);
         }
 
@@ -78,18 +101,99 @@ public class AuthServiceImpl implements AuthService {
                 user.getRole()
         );
 
+        // 로그인마다 새 리프레시 토큰 계열을 시작
+        String familyId = UUID.randomUUID().toString();
+        String refreshJti = UUID.randomUUID().toString();
         String refreshToken = jwtProvider.generateRefreshToken(
                 user.getId(),
                 user.getUsername(),
-                user.getRole()
+                user.getRole(),
+                familyId,
+                refreshJti
         );
+        refreshTokenStore.start(familyId, refreshJti, jwtProvider.getRefreshTokenTtl());
 
-        // 토큰 정보 추출
-        String username = jwtProvider.getUsernameFromToken(refreshToken);
-
-        log.info("Login Successfully with username: {}", username);
+        log.info("Login Successfully with username: {}", user.getUsername());
 
         // 4. 응답 생성
         return LoginResponse.of(user, accessToken, refreshToken);
     }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void logout(String accessToken, LogoutRequest request) {
+        // 1. 액세스 토큰 검증
+        JwtClaims access = parseOrThrow(accessToken);
+
+        // 2. 리프레시 토큰이 함께 오면 같은 사용자의 토큰인지 확인
+        JwtClaims refresh = null;
+        if (request != null && request.refreshToken() != null) {
+            refresh = parseOrThrow(request.refreshToken());
+            if (!refresh.isRefreshToken() || !refresh.userId().equals(access.userId())) {
+                throw new CustomException(ErrorCode.TOKEN_INVALID);
+            }
+        }
+
+        // 3. 액세스 토큰은 남은 수명만큼 블랙리스트에 등록, 리프레시 토큰은 계열째 폐기
+        tokenBlacklist.revoke(access.jti(), access.expiresAt());
+        verifiedTokenCache.evict(accessToken);
+        if (refresh != null && refresh.familyId() != null) {
+            refreshTokenStore.revoke(refresh.familyId());
+        }
+
+        log.info("Logout Successfully with username: {}", access.username());
+    }
+
+    /**
+     * 리프레시 토큰 회전
+     * 비밀번호 검증과 DB 조회 없이 서명 검증과 Redis 비교-교체 한 번으로 새 토큰 쌍을 발급합니다.
+     */
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TokenRefreshResponse refresh(TokenRefreshRequest request) {
+        // 1. 리프레시 토큰 검증 (계열 ID가 없는 이전 형식 토큰은 거부)
+        if (request == null || request.refreshToken() == null) {
+            throw new CustomException(ErrorCode.TOKEN_INVALID);
+        }
+        JwtClaims refresh = parseOrThrow(request.refreshToken());
+        if (!refresh.isRefreshToken() || refresh.familyId() == null) {
+            throw new CustomException(ErrorCode.TOKEN_INVALID);
+        }
+
+        // 2. 삭제된 사용자는 계열을 폐기하고 거부
+        if (userLivenessCache.isRevoked(refresh.userId())) {
+            refreshTokenStore.revoke(refresh.familyId());
+            throw new CustomException(ErrorCode.TOKEN_INVALID);
+        }
+
+        // 3. 현재 토큰일 때만 다음 토큰으로 교체 (과거 토큰이면 계열 폐기, 동시 갱신은 이미 발급한 다음 jti 사용)
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(
+                refresh.familyId(), refresh.jti(), UUID.randomUUID().toString());
+        if (rotation.result() == RefreshTokenStore.RotateResult.REUSED) {
+            throw new CustomException(ErrorCode.REFRESH_TOKEN_REUSED);
+        }
+        if (rotation.result() != RefreshTokenStore.RotateResult.ROTATED) {
+            throw new CustomException(ErrorCode.TOKEN_INVALID);
+        }
+
+        // 4. 새 토큰 쌍 발급 (리프레시 토큰은 계열의 남은 수명까지만 유효)
+        String accessToken = jwtProvider.generateAccessToken(refresh.userId(), refresh.username(), refresh.role());
+        String refreshToken = jwtProvider.generateRefreshToken(
+                refresh.userId(),
+                refresh.username(),
+                refresh.role(),
+                refresh.familyId(),
+                rotation.nextJti(),
+                rotation.remaining()
+        );
+        return TokenRefreshResponse.of(accessToken, refreshToken);
+    }
+
+    private JwtClaims parseOrThrow(String token) {
+        try {
+            return jwtProvider.parse(token);
+        } catch (JwtException e) {
+            throw new CustomException(ErrorCode.TOKEN_INVALID);
+        }
+    }
 }
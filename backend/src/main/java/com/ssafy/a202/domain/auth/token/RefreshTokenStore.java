@@ -0,0 +1,171 @@
+package com.ssafy.a202.domain.auth.token;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 리프레시 토큰 계열(family) 저장소
+ *
+ * <p>로그인할 때마다 새 계열이 시작되고, Redis 키 {@code auth:refresh:{familyId}}에 현재 사용할 수 있는
+ * 리프레시 토큰의 jti 하나만 저장합니다. 갱신 시 제시된 jti가 현재 값과 같을 때만 다음 jti로 바꿉니다.
+ * 비교와 교체는 Lua 스크립트 하나로 처리해 동시 갱신 중 하나만 성공합니다.</p>
+ *
+ * <p>계열의 수명은 로그인 시각 + 리프레시 토큰 유효 기간으로 고정됩니다. {@link #start}에서 건 TTL을 교체 때
+ * {@code KEEPTTL}로 그대로 유지하고, 남은 시간을 돌려주어 새 토큰의 만료 시각도 같은 시각으로 맞춥니다.
+ * 그래서 갱신을 계속해도 계열은 최초 로그인 후 유효 기간이 지나면 만료되고, 다시 로그인해야 합니다. (Redis 6.0 이상)</p>
+ *
+ * <p>이미 교체된(과거) jti가 다시 제시되면 토큰이 탈취된 것으로 보고 계열 전체를 폐기합니다.
+ * 이후에는 정상 사용자의 최신 토큰으로도 갱신할 수 없어 다시 로그인해야 합니다.</p>
+ *
+ * <p>예외로, 여러 탭이나 재시도로 같은 토큰이 거의 동시에 제시되는 경우는 재사용으로 보지 않습니다.
+ * 교체할 때 {@code auth:refresh:{familyId}:prev}에 (직전 jti, 다음 jti)를 {@code auth.refresh.reuse-grace} 동안 남겨 두고,
+ * 그 안에 직전 jti가 다시 오면 이미 발급한 다음 jti를 그대로 돌려줍니다. 다음 jti가 그 사이 또 교체되었다면
+ * 유예 없이 재사용으로 처리합니다.</p>
+ *
+ * <p>메트릭: {@code auth.refresh.rotate{result=rotated|grace|reused|unknown}}</p>
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "auth:refresh:";
+    private static final String PREVIOUS_SUFFIX = ":prev";
+
+    /**
+     * "ROTATED {다음 jti} {남은 ms}": 교체 성공, "GRACE {다음 jti} {남은 ms}": 유예 시간 안의 직전 토큰,
+     * "REUSED": 재사용 감지(계열 폐기), "UNKNOWN": 계열 없음(만료/로그아웃/폐기)
+     */
+    private static final RedisScript<String> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local current = redis.call('GET', KEYS[1])
+            if not current then
+                return 'UNKNOWN'
+            end
+            local remaining = redis.call('PTTL', KEYS[1])
+            if remaining <= 0 then
+                return 'UNKNOWN'
+            end
+            if current == ARGV[1] then
+                redis.call('SET', KEYS[1], ARGV[2], 'KEEPTTL')
+                local grace = math.min(tonumber(ARGV[3]), remaining)
+                if grace > 0 then
+                    redis.call('SET', KEYS[2], ARGV[1] .. ' ' .. ARGV[2], 'PX', grace)
+                end
+                return 'ROTATED ' .. ARGV[2] .. ' ' .. remaining
+            end
+            if redis.call('GET', KEYS[2]) == ARGV[1] .. ' ' .. current then
+                return 'GRACE ' .. current .. ' ' .. remaining
+            end
+            redis.call('DEL', KEYS[1], KEYS[2])
+            return 'REUSED'
+            """, String.class);
+
+    public enum RotateResult {
+        ROTATED, REUSED, UNKNOWN
+    }
+
+    /**
+     * 교체 결과
+     *
+     * @param result  결과
+     * @param nextJti   새 리프레시 토큰에 넣을 jti ({@link RotateResult#ROTATED}일 때만 값이 있음)
+     * @param remaining 계열의 남은 수명, 새 리프레시 토큰의 유효 기간 ({@link RotateResult#ROTATED}일 때만 값이 있음)
+     */
+    public record Rotation(RotateResult result, String nextJti, Duration remaining) {
+
+        static Rotation of(RotateResult result) {
+            return new Rotation(result, null, null);
+        }
+
+        /**
+         * "{다음 jti} {남은 ms}" 형식의 스크립트 결과로 만듭니다.
+         */
+        static Rotation rotated(String jtiAndRemaining) {
+            String[] parts = jtiAndRemaining.split(" ");
+            return new Rotation(RotateResult.ROTATED, parts[0], Duration.ofMillis(Long.parseLong(parts[1])));
+        }
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration reuseGrace;
+
+    private final Counter rotatedCounter;
+    private final Counter graceCounter;
+    private final Counter reusedCounter;
+    private final Counter unknownCounter;
+
+    public RefreshTokenStore(
+            RedisTemplate<String, String> redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${auth.refresh.reuse-grace:5s}") Duration reuseGrace
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.reuseGrace = reuseGrace;
+        this.rotatedCounter = rotateCounter(meterRegistry, "rotated");
+        this.graceCounter = rotateCounter(meterRegistry, "grace");
+        this.reusedCounter = rotateCounter(meterRegistry, "reused");
+        this.unknownCounter = rotateCounter(meterRegistry, "unknown");
+    }
+
+    /**
+     * 새 계열을 시작합니다. (로그인)
+     *
+     * @param ttl 계열의 전체 수명 (이후 교체해도 늘어나지 않음)
+     */
+    public void start(String familyId, String jti, Duration ttl) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + familyId, jti, ttl);
+    }
+
+    /**
+     * 제시된 jti가 계열의 현재 토큰이면 다음 jti로 교체합니다.
+     * 유예 시간 안에 직전 토큰이 다시 제시되면 교체하지 않고 이미 발급한 다음 jti를 돌려줍니다.
+     *
+     * 계열의 만료 시각은 바꾸지 않고, 남은 수명을 함께 돌려줍니다.
+     *
+     * @param nextJti 교체할 경우 사용할 새 jti
+     */
+    public Rotation rotate(String familyId, String presentedJti, String nextJti) {
+        String result = redisTemplate.execute(
+                ROTATE_SCRIPT,
+                List.of(KEY_PREFIX + familyId, KEY_PREFIX + familyId + PREVIOUS_SUFFIX),
+                presentedJti, nextJti, String.valueOf(reuseGrace.toMillis())
+        );
+        if (result != null && result.startsWith("ROTATED ")) {
+            rotatedCounter.increment();
+            return Rotation.rotated(result.substring("ROTATED ".length()));
+        }
+        if (result != null && result.startsWith("GRACE ")) {
+            graceCounter.increment();
+            log.debug("리프레시 토큰 동시 갱신, 발급된 다음 토큰 재사용: familyId={}", familyId);
+            return Rotation.rotated(result.substring("GRACE ".length()));
+        }
+        if ("REUSED".equals(result)) {
+            reusedCounter.increment();
+            log.warn("리프레시 토큰 재사용 감지, 계열 폐기: familyId={}", familyId);
+            return Rotation.of(RotateResult.REUSED);
+        }
+        unknownCounter.increment();
+        return Rotation.of(RotateResult.UNKNOWN);
+    }
+
+    /**
+     * 계열을 폐기합니다. (로그아웃)
+     */
+    public void revoke(String familyId) {
+        redisTemplate.delete(List.of(KEY_PREFIX + familyId, KEY_PREFIX + familyId + PREVIOUS_SUFFIX));
+    }
+
+    private static Counter rotateCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.refresh.rotate")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
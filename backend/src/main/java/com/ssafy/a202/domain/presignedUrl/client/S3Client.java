@@ -10,13 +10,24 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class S3Client {
 
+    private static final Duration HEAD_TIMEOUT = Duration.ofSeconds(5);
+
     private final WebClient webClient;
+    private final S3ExistenceCache existenceCache;
 
     @Value("${aws.lambda.presigned-url-api}")
     private String apiGatewayUrl;
@@ -24,6 +35,9 @@ public class S3Client {
     @Value("${aws.s3.public-url-base}")
     private String publicBucket;
 
+    @Value("${aws.s3.validation-concurrency:8}")
+    private int validationConcurrency;
+
     public S3PresignedUrlResponse getS3GetPresignedUrl(S3GetPresignedUrlRequest request) {
         return webClient
                 .post()
@@ -49,28 +63,44 @@ public class S3Client {
     }
 
     /**
-     * S3에 파일이 존재하는지 확인 (HTTP HEAD 요청)
+     * S3에 파일이 존재하는지 확인
+     * {@link S3ExistenceCache}에 결과가 있으면 HEAD 요청 없이 반환합니다.
      */
     public boolean existsS3File(String s3Key) {
         if (s3Key == null || s3Key.isBlank()) {
             return false;
         }
 
-        try {
-            String url = getPublicS3Url(s3Key);
+        Boolean cached = existenceCache.get(s3Key);
+        if (cached != null) {
+            return cached;
+        }
+
+        boolean exists = Boolean.TRUE.equals(existsS3FileAsync(s3Key).block());
+        existenceCache.put(s3Key, exists);
+        return exists;
+    }
 
-            webClient
+    /**
+     * S3에 파일이 존재하는지 비동기로 확인 (HTTP HEAD 요청, 캐시 미사용)
+     * 응답 오류, 타임아웃 등 모든 실패는 존재하지 않는 것으로 간주합니다.
+     */
+    public Mono<Boolean> existsS3FileAsync(String s3Key) {
+        if (s3Key == null || s3Key.isBlank()) {
+            return Mono.just(false);
+        }
+
+        return webClient
                 .head()
-                .uri(url)
+                .uri(getPublicS3Url(s3Key))
                 .retrieve()
                 .toBodilessEntity()
-                .block();
-
-            return true;
-        } catch (Exception e) {
-            log.debug("S3 file not found: {}", s3Key);
-            return false;
-        }
+                .timeout(HEAD_TIMEOUT)
+                .thenReturn(true)
+                .onErrorResume(e -> {
+                    log.debug("S3 file not found: {}", s3Key);
+                    return Mono.just(false);
+                });
     }
 
     /**
@@ -82,4 +112,56 @@ public class S3Client {
             throw new CustomException(ErrorCode.S3_FILE_NOT_FOUND);
         }
     }
+
+    /**
+     * 여러 S3 파일의 존재 여부를 동시에 검증 (예외 발생)
+     *
+     * <p>중복을 제거한 키 중 {@link S3ExistenceCache}에 없는 키만 HEAD 요청을
+     * 최대 {@code aws.s3.validation-concurrency}개까지 동시에 보내고,
+     * 모두 끝난 뒤 존재하지 않는 키 전체를 하나의 예외로 알려줍니다.</p>
+     *
+     * @param s3Keys 검증할 S3 키 목록 (null, 빈 문자열은 무시)
+     * @throws CustomException 하나 이상의 키가 존재하지 않는 경우. {@code data}에 누락된 키 목록을 담습니다.
+     */
+    public void validateS3FilesExist(Collection<String> s3Keys) {
+        List<String> keys = s3Keys.stream()
+                .filter(key -> key != null && !key.isBlank())
+                .distinct()
+                .toList();
+
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        Map<String, Boolean> results = new HashMap<>(existenceCache.getAll(keys));
+        List<String> uncachedKeys = keys.stream()
+                .filter(key -> !results.containsKey(key))
+                .toList();
+
+        if (!uncachedKeys.isEmpty()) {
+            Map<String, Boolean> checked = Flux.fromIterable(uncachedKeys)
+                    .flatMap(key -> existsS3FileAsync(key)
+                            .map(exists -> Map.entry(key, exists)), validationConcurrency)
+                    .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                    .block();
+
+            if (checked != null) {
+                existenceCache.putAll(checked);
+                results.putAll(checked);
+            }
+        }
+
+        List<String> missingKeys = keys.stream()
+                .filter(key -> !Boolean.TRUE.equals(results.get(key)))
+                .toList();
+
+        if (!missingKeys.isEmpty()) {
+            log.warn("S3 파일 검증 실패: {}", missingKeys);
+            throw new CustomException(
+                    ErrorCode.S3_FILE_NOT_FOUND,
+                    "S3에 존재하지 않는 파일: " + missingKeys,
+                    missingKeys
+            );
+        }
+    }
 }
@@ -0,0 +1,163 @@
+package com.ssafy.a202.domain.presignedUrl.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * S3 객체 존재 여부 캐시
+ *
+ * <p>로컬(Caffeine) 캐시와 선택적인 Redis 공유 캐시의 2단 구조입니다.
+ * 존재하는 객체는 긴 TTL({@code aws.s3.exists-cache.positive-ttl}), 존재하지 않는 객체는
+ * 업로드 직후 재검증이 가능하도록 짧은 TTL({@code aws.s3.exists-cache.negative-ttl})로 캐싱합니다.</p>
+ *
+ * <p>Redis 장애 시에는 캐시 미스로 간주하고 HEAD 요청으로 넘어갑니다.</p>
+ */
+@Slf4j
+@Component
+public class S3ExistenceCache {
+
+    private static final String REDIS_KEY_PREFIX = "s3:exists:";
+    private static final String EXISTS = "1";
+    private static final String NOT_EXISTS = "0";
+
+    private final Cache<String, Boolean> localCache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final boolean redisEnabled;
+    private final Duration positiveTtl;
+    private final Duration negativeTtl;
+
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+
+    public S3ExistenceCache(
+            RedisTemplate<String, String> redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${aws.s3.exists-cache.positive-ttl:1h}") Duration positiveTtl,
+            @Value("${aws.s3.exists-cache.negative-ttl:10s}") Duration negativeTtl,
+            @Value("${aws.s3.exists-cache.redis-enabled:false}") boolean redisEnabled
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisEnabled = redisEnabled;
+        this.positiveTtl = positiveTtl;
+        this.negativeTtl = negativeTtl;
+
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(10_000)
+                .expireAfter(Expiry.<String, Boolean>creating((key, exists) -> ttlOf(exists)))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "s3.exists");
+
+        this.redisHitCounter = Counter.builder("s3.exists.redis")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.redisMissCounter = Counter.builder("s3.exists.redis")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 존재 여부를 조회합니다.
+     *
+     * @return 캐시된 값, 로컬/Redis 모두 없으면 null
+     */
+    public Boolean get(String s3Key) {
+        Boolean cached = localCache.getIfPresent(s3Key);
+        if (cached != null || !redisEnabled) {
+            return cached;
+        }
+        return getAll(List.of(s3Key)).get(s3Key);
+    }
+
+    /**
+     * 여러 키의 존재 여부를 한 번에 조회합니다.
+     * 로컬에 없는 키는 Redis {@code MGET} 한 번으로 조회하고, Redis 적중분은 로컬 캐시로 올립니다.
+     *
+     * @return 캐시에 있는 키만 담은 맵
+     */
+    public Map<String, Boolean> getAll(Collection<String> s3Keys) {
+        Map<String, Boolean> result = new HashMap<>(localCache.getAllPresent(s3Keys));
+        if (!redisEnabled || result.size() == s3Keys.size()) {
+            return result;
+        }
+
+        List<String> remaining = s3Keys.stream()
+                .filter(key -> !result.containsKey(key))
+                .distinct()
+                .toList();
+        try {
+            List<String> values = redisTemplate.opsForValue()
+                    .multiGet(remaining.stream().map(key -> REDIS_KEY_PREFIX + key).toList());
+
+            for (int i = 0; i < remaining.size(); i++) {
+                String value = values == null ? null : values.get(i);
+                if (value == null) {
+                    redisMissCounter.increment();
+                    continue;
+                }
+                redisHitCounter.increment();
+                boolean exists = EXISTS.equals(value);
+                localCache.put(remaining.get(i), exists);
+                result.put(remaining.get(i), exists);
+            }
+        } catch (Exception e) {
+            log.debug("S3 존재 여부 Redis 캐시 조회 실패: {}", e.getMessage());
+        }
+        return result;
+    }
+
+    public void put(String s3Key, boolean exists) {
+        putAll(Map.of(s3Key, exists));
+    }
+
+    /**
+     * 검증 결과를 로컬 캐시와 (활성화된 경우) Redis에 저장합니다.
+     * Redis에는 파이프라인 한 번으로 기록합니다.
+     */
+    public void putAll(Map<String, Boolean> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        localCache.putAll(results);
+        if (!redisEnabled) {
+            return;
+        }
+
+        List<Map.Entry<String, Boolean>> entries = new ArrayList<>(results.entrySet());
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Map.Entry<String, Boolean> entry : entries) {
+                    connection.stringCommands().setEx(
+                            (REDIS_KEY_PREFIX + entry.getKey()).getBytes(StandardCharsets.UTF_8),
+                            ttlOf(entry.getValue()).toSeconds(),
+                            (entry.getValue() ? EXISTS : NOT_EXISTS).getBytes(StandardCharsets.UTF_8)
+                    );
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.debug("S3 존재 여부 Redis 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private Duration ttlOf(boolean exists) {
+        return exists ? positiveTtl : negativeTtl;
+    }
+}
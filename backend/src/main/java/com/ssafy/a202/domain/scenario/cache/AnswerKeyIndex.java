@@ -0,0 +1,69 @@
+package com.ssafy.a202.domain.scenario.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.a202.domain.scenario.dto.ScenarioVersionContent;
+import com.ssafy.a202.domain.scenario.service.ScenarioVersionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalInt;
+
+/**
+ * 시나리오 버전별 정답 인덱스 (시퀀스 ID → 정답 옵션 번호)
+ *
+ * <p>답변 채점을 위해 처음 사용할 때 버전 스냅샷의 {@code isCorrect}로 한 번 만들고, 이후에는 메모리에서만 조회합니다.
+ * 세션은 불변인 시나리오 버전을 참조하므로 시나리오가 수정되어도 기존 인덱스는 무효화할 필요가 없고,
+ * 수정된 시나리오는 새 버전 ID로 새 인덱스를 갖습니다.</p>
+ */
+@Component
+public class AnswerKeyIndex {
+
+    // 옵션 번호는 1부터 시작하므로 어떤 선택과도 일치하지 않음
+    private static final int NO_CORRECT_OPTION = 0;
+
+    private final Cache<Long, Map<Long, Integer>> cache;
+    private final ScenarioVersionService scenarioVersionService;
+
+    public AnswerKeyIndex(
+            ScenarioVersionService scenarioVersionService,
+            MeterRegistry meterRegistry,
+            @Value("${scenario.answer-key-cache.max-size:2000}") long maxSize
+    ) {
+        this.scenarioVersionService = scenarioVersionService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "scenario.answer-key");
+    }
+
+    /**
+     * 시퀀스의 정답 옵션 번호를 조회합니다.
+     *
+     * @return 정답 옵션 번호 (정답 옵션이 없는 시퀀스는 0), 버전에 없는 시퀀스면 empty
+     */
+    public OptionalInt correctOptionNo(Long scenarioVersionId, Long sequenceId) {
+        Integer optionNo = cache.get(scenarioVersionId, this::load).get(sequenceId);
+        return optionNo == null ? OptionalInt.empty() : OptionalInt.of(optionNo);
+    }
+
+    private Map<Long, Integer> load(Long scenarioVersionId) {
+        ScenarioVersionContent content = scenarioVersionService.get(scenarioVersionId).getContent();
+        Map<Long, Integer> index = new HashMap<>();
+        for (ScenarioVersionContent.SequenceSnapshot sequence : content.sequences()) {
+            index.put(sequence.sequenceId(), NO_CORRECT_OPTION);
+            for (ScenarioVersionContent.OptionSnapshot option : sequence.options()) {
+                if (option.isCorrect()) {
+                    index.put(sequence.sequenceId(), option.optionNo());
+                    break;
+                }
+            }
+        }
+        return Map.copyOf(index);
+    }
+}
@@ -0,0 +1,296 @@
+package com.ssafy.a202.domain.scenario.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.a202.common.cache.SingleFlight;
+import com.ssafy.a202.domain.scenario.dto.ScenarioDetailWithEtag;
+import com.ssafy.a202.domain.scenario.dto.response.ScenarioDetailResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 시나리오 상세 응답 캐시
+ *
+ * <p>값은 응답 본문과 본문으로 계산한 ETag({@link ScenarioDetailWithEtag})이며, 조건부 GET도 이 캐시만으로 처리합니다.</p>
+ *
+ * <p>로컬 near-cache(Caffeine, 짧은 TTL) → Redis({@code objectRedisTemplate}) → DB 로더 순으로 조회합니다.
+ * 같은 시나리오에 대한 동시 미스는 {@link SingleFlight}로 합쳐 한 번만 로딩합니다.
+ * 수정/삭제 시 {@link #evictAfterCommit(Long)}로 Redis 키를 지우고, Pub/Sub로 다른 노드의 로컬 캐시도 비웁니다.
+ * Pub/Sub 메시지가 유실되더라도 로컬 캐시는 {@code scenario.detail-cache.local-ttl} 이후 만료됩니다.</p>
+ *
+ * <p>수정 전에 로딩을 시작한 요청이 무효화 이후에 옛 값을 다시 채우지 않도록 세대(generation) 번호를 씁니다.</p>
+ * <ul>
+ *   <li>Redis: 무효화 시 {@code scenario:detail:gen:{id}}를 증가시키고, 저장은 로딩 전에 읽은 세대와 같을 때만
+ *       Lua 스크립트로 원자적으로 수행합니다.</li>
+ *   <li>로컬: 무효화(로컬 호출, Pub/Sub 수신)마다 노드 전체 세대를 증가시키고, 조회 시작 이후 세대가 바뀌었으면
+ *       로컬 캐시에 넣지 않습니다.</li>
+ * </ul>
+ *
+ * <p>메트릭</p>
+ * <ul>
+ *   <li>{@code cache.gets{cache=scenario.detail}} : 로컬 캐시 적중/미스 (hit ratio)</li>
+ *   <li>{@code scenario.detail.cache.redis{result=hit|miss}} : Redis 적중/미스</li>
+ *   <li>{@code scenario.detail.cache.load} : DB 로딩 시간</li>
+ *   <li>{@code singleflight.calls{name=scenario.detail}} : 실제 로딩(leader) / 합쳐진 요청(coalesced) 수</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class ScenarioDetailCache {
+
+    private static final String KEY_PREFIX = "scenario:detail:v2:";
+    private static final String GEN_PREFIX = "scenario:detail:gen:";
+    private static final String EVICT_CHANNEL = "scenario:detail:evict";
+
+    /**
+     * KEYS: 값 키, 세대 키 / ARGV: 로딩 전에 읽은 세대, 직렬화된 값, TTL(ms)
+     */
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            local gen = redis.call('GET', KEYS[2]) or '0'
+            if gen ~= ARGV[1] then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            return redis.call('INCR', KEYS[2])
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> objectRedisTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper redisObjectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Duration redisTtl;
+
+    private final Cache<Long, ScenarioDetailWithEtag> localCache;
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+    private final Timer loadTimer;
+    private final SingleFlight<Long, ScenarioDetailWithEtag> loadFlight;
+    private final AtomicLong localGeneration = new AtomicLong();
+    private final RedisSerializer<Object> valueSerializer;
+
+    public ScenarioDetailCache(
+            RedisTemplate<String, Object> objectRedisTemplate,
+            RedisTemplate<String, String> redisTemplate,
+            @Qualifier("redisObjectMapper") ObjectMapper redisObjectMapper,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry,
+            @Value("${scenario.detail-cache.local-ttl:30s}") Duration localTtl,
+            @Value("${scenario.detail-cache.redis-ttl:10m}") Duration redisTtl
+    ) {
+        this.objectRedisTemplate = objectRedisTemplate;
+        this.redisTemplate = redisTemplate;
+        this.redisObjectMapper = redisObjectMapper;
+        this.listenerContainer = listenerContainer;
+        this.redisTtl = redisTtl;
+        // RedisConfig.objectRedisTemplate과 같은 설정의 직렬화기
+        this.valueSerializer = new GenericJackson2JsonRedisSerializer(redisObjectMapper);
+
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(1_000)
+                .expireAfterWrite(localTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "scenario.detail");
+
+        this.redisHitCounter = Counter.builder("scenario.detail.cache.redis")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.redisMissCounter = Counter.builder("scenario.detail.cache.redis")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.loadTimer = Timer.builder("scenario.detail.cache.load")
+                .register(meterRegistry);
+        this.loadFlight = new SingleFlight<>("scenario.detail", meterRegistry);
+    }
+
+    @PostConstruct
+    void subscribeEviction() {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            String body = new String(message.getBody(), StandardCharsets.UTF_8);
+            try {
+                invalidateLocal(Long.valueOf(body));
+            } catch (NumberFormatException e) {
+                log.warn("잘못된 시나리오 캐시 무효화 메시지: {}", body);
+            }
+        }, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    /**
+     * 캐시에서 시나리오 상세를 조회하고, 없으면 로더로 만든 뒤 캐시에 저장합니다.
+     */
+    public ScenarioDetailWithEtag get(Long scenarioId, Function<Long, ScenarioDetailResponse> loader) {
+        ScenarioDetailWithEtag cached = localCache.getIfPresent(scenarioId);
+        if (cached != null) {
+            return cached;
+        }
+
+        // 같은 시나리오의 동시 미스는 하나의 Redis 조회/DB 로딩으로 합침
+        return loadFlight.execute(scenarioId, () -> loadThrough(scenarioId, loader));
+    }
+
+    /**
+     * 로컬, Redis 캐시를 비우고 다른 노드에 무효화 메시지를 보냅니다.
+     */
+    public void evict(Long scenarioId) {
+        invalidateLocal(scenarioId);
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, List.of(KEY_PREFIX + scenarioId, GEN_PREFIX + scenarioId));
+            redisTemplate.convertAndSend(EVICT_CHANNEL, scenarioId.toString());
+        } catch (Exception e) {
+            log.warn("시나리오 상세 캐시 무효화 실패: scenarioId={}, {}", scenarioId, e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤에 캐시를 비웁니다.
+     * 커밋 전에 비우면 동시에 들어온 조회가 이전 데이터를 다시 캐싱할 수 있기 때문입니다.
+     * 트랜잭션 밖에서 호출되면 즉시 비웁니다.
+     */
+    public void evictAfterCommit(Long scenarioId) {
+        evictAllAfterCommit(List.of(scenarioId));
+    }
+
+    /**
+     * 여러 시나리오의 캐시를 커밋 이후에 한꺼번에 비웁니다. (일괄 삭제용)
+     */
+    public void evictAllAfterCommit(Collection<Long> scenarioIds) {
+        List<Long> ids = List.copyOf(scenarioIds);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            ids.forEach(this::evict);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ids.forEach(ScenarioDetailCache.this::evict);
+            }
+        });
+    }
+
+    private ScenarioDetailWithEtag loadThrough(Long scenarioId, Function<Long, ScenarioDetailResponse> loader) {
+        // 조회를 시작하기 전의 세대를 기록 (이후 무효화가 있었으면 결과를 캐싱하지 않음)
+        long localGen = localGeneration.get();
+        String redisGen = readRedisGeneration(scenarioId);
+
+        // 앞선 leader가 방금 채웠을 수 있으므로 로컬 캐시를 다시 확인
+        ScenarioDetailWithEtag cached = localCache.getIfPresent(scenarioId);
+        if (cached != null) {
+            return cached;
+        }
+
+        cached = getFromRedis(scenarioId);
+        if (cached != null) {
+            putLocal(scenarioId, cached, localGen);
+            return cached;
+        }
+
+        ScenarioDetailWithEtag loaded = loadTimer.record(() -> withEtag(loader.apply(scenarioId)));
+        putLocal(scenarioId, loaded, localGen);
+        putRedis(scenarioId, loaded, redisGen);
+        return loaded;
+    }
+
+    /**
+     * 직렬화된 본문의 SHA-256으로 강한 ETag를 만듭니다. (캐시에 넣을 때 한 번만 계산)
+     */
+    private ScenarioDetailWithEtag withEtag(ScenarioDetailResponse detail) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(valueSerializer.serialize(detail));
+            String etag = "\"scenario-" + detail.scenarioId() + "-" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+            return ScenarioDetailWithEtag.of(detail, etag);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private void invalidateLocal(Long scenarioId) {
+        // 세대를 먼저 올려, 진행 중인 조회가 무효화 직후 옛 값을 넣지 못하게 함
+        localGeneration.incrementAndGet();
+        localCache.invalidate(scenarioId);
+    }
+
+    private void putLocal(Long scenarioId, ScenarioDetailWithEtag response, long localGen) {
+        localCache.put(scenarioId, response);
+        // put과 무효화가 겹친 경우를 위해 넣은 뒤 세대를 다시 확인
+        if (localGeneration.get() != localGen) {
+            localCache.invalidate(scenarioId);
+        }
+    }
+
+    /**
+     * @return 현재 세대, Redis 장애 시 null (Redis에 저장하지 않음)
+     */
+    private String readRedisGeneration(Long scenarioId) {
+        try {
+            String gen = redisTemplate.opsForValue().get(GEN_PREFIX + scenarioId);
+            return gen == null ? "0" : gen;
+        } catch (Exception e) {
+            log.debug("시나리오 상세 캐시 세대 조회 실패: scenarioId={}, {}", scenarioId, e.getMessage());
+            return null;
+        }
+    }
+
+    private ScenarioDetailWithEtag getFromRedis(Long scenarioId) {
+        try {
+            Object value = objectRedisTemplate.opsForValue().get(KEY_PREFIX + scenarioId);
+            if (value == null) {
+                redisMissCounter.increment();
+                return null;
+            }
+            redisHitCounter.increment();
+            return redisObjectMapper.convertValue(value, ScenarioDetailWithEtag.class);
+        } catch (Exception e) {
+            log.debug("시나리오 상세 Redis 캐시 조회 실패: scenarioId={}, {}", scenarioId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putRedis(Long scenarioId, ScenarioDetailWithEtag response, String redisGen) {
+        if (redisGen == null) {
+            return;
+        }
+        try {
+            // objectRedisTemplate과 같은 직렬화 결과를 저장해 조회 경로는 그대로 사용
+            byte[] value = valueSerializer.serialize(response);
+            redisTemplate.execute(
+                    PUT_SCRIPT,
+                    List.of(KEY_PREFIX + scenarioId, GEN_PREFIX + scenarioId),
+                    redisGen, new String(value, StandardCharsets.UTF_8), String.valueOf(redisTtl.toMillis())
+            );
+        } catch (Exception e) {
+            log.debug("시나리오 상세 Redis 캐시 저장 실패: scenarioId={}, {}", scenarioId, e.getMessage());
+        }
+    }
+}
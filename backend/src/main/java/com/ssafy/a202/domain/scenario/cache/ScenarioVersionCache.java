@@ -0,0 +1,38 @@
+package com.ssafy.a202.domain.scenario.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.a202.domain.scenario.entity.ScenarioVersion;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * 시나리오 버전 캐시
+ *
+ * <p>버전은 발행 후 바뀌지 않으므로 TTL과 무효화 없이 크기 제한({@code scenario.version-cache.max-size})으로만 관리합니다.
+ * 노드 간 동기화도 필요 없어 로컬(Caffeine) 캐시만 사용합니다.</p>
+ */
+@Component
+public class ScenarioVersionCache {
+
+    private final Cache<Long, ScenarioVersion> cache;
+
+    public ScenarioVersionCache(
+            MeterRegistry meterRegistry,
+            @Value("${scenario.version-cache.max-size:2000}") long maxSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "scenario.version");
+    }
+
+    public ScenarioVersion get(Long versionId, Function<Long, ScenarioVersion> loader) {
+        return cache.get(versionId, loader);
+    }
+}
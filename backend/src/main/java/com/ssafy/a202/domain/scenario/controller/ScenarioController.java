@@ -3,12 +3,17 @@ package com.ssafy.a202.domain.scenario.controller;
 import com.ssafy.a202.common.annotation.UserId;
 import com.ssafy.a202.common.entity.ApiResponse;
 import com.ssafy.a202.common.entity.ApiResponseEntity;
+import com.ssafy.a202.common.entity.CursorResponse;
 import com.ssafy.a202.common.entity.PageResponse;
 import com.ssafy.a202.common.entity.SuccessCode;
+import com.ssafy.a202.domain.scenario.dto.ScenarioDetailWithEtag;
 import com.ssafy.a202.domain.scenario.dto.request.ScenarioRequest;
 import com.ssafy.a202.domain.scenario.dto.response.ScenarioCreateResponse;
 import com.ssafy.a202.domain.scenario.dto.response.ScenarioDetailResponse;
 import com.ssafy.a202.domain.scenario.dto.response.ScenarioPreviewResponse;
+import com.ssafy.a202.domain.scenario.dto.response.ScenarioUpdateResponse;
+import com.ssafy.a202.domain.scenario.dto.response.ScenarioVersionResponse;
+import com.ssafy.a202.domain.scenario.service.ScenarioAssetValidator;
 import com.ssafy.a202.domain.scenario.service.ScenarioService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,8 +22,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Duration;
 
 @RestController
 @RequestMapping("/scenarios")
@@ -27,6 +36,7 @@ import org.springframework.web.bind.annotation.*;
 public class ScenarioController {
 
     private final ScenarioService scenarioService;
+    private final ScenarioAssetValidator scenarioAssetValidator;
 
     @Operation(summary = "시나리오 생성", description = "새로운 시나리오를 생성합니다.")
     @PostMapping
@@ -34,6 +44,7 @@ public class ScenarioController {
             @Parameter(hidden = true) @UserId Long userId,
             @RequestBody ScenarioRequest request
     ) {
+        scenarioAssetValidator.validate(request);
         ScenarioCreateResponse response = scenarioService.create(userId, request);
         return ApiResponseEntity.created(
                 "/api/scenarios/" + response.scenarioId(),
@@ -42,42 +53,90 @@ public class ScenarioController {
         );
     }
 
-    @Operation(summary = "시나리오 목록 조회", description = "시나리오 목록을 페이징하여 조회합니다.")
+    @Operation(summary = "시나리오 목록 조회", description = "시나리오 목록을 페이징하여 조회합니다. ETag/If-None-Match를 지원합니다.")
     @GetMapping
     public ResponseEntity<ApiResponse<PageResponse<ScenarioPreviewResponse>>> getScenarios(
             @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC)
-            Pageable pageable
+            Pageable pageable,
+            @Parameter(hidden = true) WebRequest webRequest
     ) {
+        // If-None-Match가 일치하면 페이지를 조회하지 않고 304 반환 (ETag는 집계 쿼리 한 번으로 계산)
+        String etag = scenarioService.getScenariosEtag(pageable);
+        if (webRequest.checkNotModified(etag)) {
+            return ApiResponseEntity.notModified(etag);
+        }
+
         PageResponse<ScenarioPreviewResponse> response = scenarioService.getScenarios(pageable);
+
+        return ApiResponseEntity.success(
+                SuccessCode.SCENARIO_GET_LIST_SUCCESS,
+                response
+        );
+    }
+
+    @Operation(summary = "시나리오 목록 커서 조회", description = "시나리오 목록을 커서 기반으로 최신순 조회합니다. 전체 개수는 withTotal=true일 때만 계산합니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<ScenarioPreviewResponse>>> getScenariosByCursor(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "전체 개수 포함 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        CursorResponse<ScenarioPreviewResponse> response = scenarioService.getScenariosByCursor(cursor, size, withTotal);
         return ApiResponseEntity.success(
                 SuccessCode.SCENARIO_GET_LIST_SUCCESS,
                 response
         );
     }
 
-    @Operation(summary = "시나리오 상세 조회", description = "특정 시나리오의 상세 정보를 조회합니다.")
+    @Operation(summary = "시나리오 상세 조회", description = "특정 시나리오의 상세 정보를 조회합니다. ETag/If-None-Match를 지원합니다.")
     @GetMapping("/{scenarioId}")
     public ResponseEntity<ApiResponse<ScenarioDetailResponse>> getScenario(
             @Parameter(description = "조회할 시나리오 ID", required = true, example = "1")
-            @PathVariable Long scenarioId) {
-        ScenarioDetailResponse response = scenarioService.getSingleScenario(scenarioId);
+            @PathVariable Long scenarioId,
+            @Parameter(hidden = true) WebRequest webRequest) {
+        // 본문과 ETag를 상세 캐시에서 함께 조회 (캐시 적중 시 DB 조회 없음)
+        ScenarioDetailWithEtag detail = scenarioService.getSingleScenario(scenarioId);
+        if (webRequest.checkNotModified(detail.etag())) {
+            return ApiResponseEntity.notModified(detail.etag());
+        }
+
         return ApiResponseEntity.success(
                 SuccessCode.SCENARIO_GET_DETAIL_SUCCESS,
-                response
+                detail.detail()
         );
     }
 
-    @Operation(summary = "시나리오 수정", description = "기존 시나리오를 수정합니다.")
+    @Operation(summary = "시나리오 버전 조회", description = "발행된 시나리오 버전의 내용을 조회합니다. 버전은 변경되지 않으므로 클라이언트가 영구 캐싱할 수 있습니다.")
+    @GetMapping("/versions/{scenarioVersionId}")
+    public ResponseEntity<ApiResponse<ScenarioVersionResponse>> getScenarioVersion(
+            @Parameter(description = "조회할 시나리오 버전 ID", required = true, example = "1")
+            @PathVariable Long scenarioVersionId) {
+        ScenarioVersionResponse response = scenarioService.getScenarioVersion(scenarioVersionId);
+        return ApiResponseEntity.success(
+                SuccessCode.SCENARIO_VERSION_GET_SUCCESS,
+                response,
+                CacheControl.maxAge(Duration.ofDays(365)).cachePrivate().immutable()
+        );
+    }
+
+    @Operation(summary = "시나리오 수정", description = "기존 시나리오를 수정합니다. 변경된 시퀀스/옵션만 반영하고 추가·수정·삭제된 행 수를 반환합니다.")
     @PutMapping("/{scenarioId}")
-    public ResponseEntity<ApiResponse<Void>> updateScenario(
+    public ResponseEntity<ApiResponse<ScenarioUpdateResponse>> updateScenario(
             @Parameter(hidden = true) @UserId Long userId,
             @Parameter(description = "수정할 시나리오 ID", required = true, example = "1")
             @PathVariable Long scenarioId,
             @RequestBody ScenarioRequest request
     ) {
-        scenarioService.update(userId, scenarioId, request);
+        // 권한 확인 → S3 에셋 검증 → 트랜잭션 순서 (권한 없는 요청에 검증 결과를 노출하지 않음)
+        scenarioService.checkUpdatePermission(userId, scenarioId);
+        scenarioAssetValidator.validate(request);
+        ScenarioUpdateResponse response = scenarioService.update(userId, scenarioId, request);
         return ApiResponseEntity.success(
-                SuccessCode.SCENARIO_UPDATE_SUCCESS
+                SuccessCode.SCENARIO_UPDATE_SUCCESS,
+                response
         );
     }
 
@@ -0,0 +1,18 @@
+package com.ssafy.a202.domain.scenario.dto;
+
+import com.ssafy.a202.domain.scenario.dto.response.ScenarioDetailResponse;
+
+/**
+ * 상세 캐시에 저장되는 값: 응답 본문과 그 본문으로 계산한 강한 ETag
+ *
+ * <p>ETag는 캐시에 넣을 때 본문 전체로 한 번 계산하므로 카테고리명, 작성자명처럼
+ * 시나리오 버전과 무관한 값이 바뀌어도 반영되고, 요청마다 DB를 조회하지 않습니다.</p>
+ */
+public record ScenarioDetailWithEtag(
+        ScenarioDetailResponse detail,
+        String etag
+) {
+    public static ScenarioDetailWithEtag of(ScenarioDetailResponse detail, String etag) {
+        return new ScenarioDetailWithEtag(detail, etag);
+    }
+}
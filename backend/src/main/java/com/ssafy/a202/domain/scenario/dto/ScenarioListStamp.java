@@ -0,0 +1,15 @@
+package com.ssafy.a202.domain.scenario.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시나리오 목록 ETag 계산용 프로젝션
+ *
+ * <p>살아있는 시나리오 수와 전체(소프트 삭제 포함) 시나리오의 최종 수정 시각입니다.
+ * 생성/수정/소프트 삭제는 모두 {@code updated_at}을 갱신하므로, 둘 중 하나라도 바뀌면 목록이 바뀐 것으로 봅니다.</p>
+ */
+public record ScenarioListStamp(
+        Long aliveCount,
+        LocalDateTime lastUpdatedAt
+) {
+}
@@ -0,0 +1,53 @@
+package com.ssafy.a202.domain.scenario.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시나리오 버전에 고정 저장되는 시퀀스/옵션 트리 (JSON 컬럼)
+ *
+ * <p>발행 이후에는 바뀌지 않으므로 세션과 답변은 텍스트를 복사하지 않고 버전 ID만 참조합니다.</p>
+ */
+public record ScenarioVersionContent(
+        List<SequenceSnapshot> sequences
+) {
+    public record SequenceSnapshot(
+            Long sequenceId,
+            int seqNo,
+            String question,
+            List<OptionSnapshot> options
+    ) {
+    }
+
+    public record OptionSnapshot(
+            Long optionId,
+            int optionNo,
+            boolean isCorrect,
+            String optionText,
+            String optionS3Key
+    ) {
+    }
+
+    /**
+     * 시퀀스 순으로 정렬된 트리 조회 결과를 스냅샷으로 변환합니다.
+     */
+    public static ScenarioVersionContent from(List<SequenceOptionRow> rows) {
+        List<SequenceSnapshot> sequences = new ArrayList<>();
+
+        int i = 0;
+        while (i < rows.size()) {
+            SequenceOptionRow head = rows.get(i);
+            List<OptionSnapshot> options = new ArrayList<>();
+
+            while (i < rows.size() && rows.get(i).sequenceId().equals(head.sequenceId())) {
+                SequenceOptionRow row = rows.get(i++);
+                if (row.optionId() != null) {
+                    options.add(new OptionSnapshot(
+                            row.optionId(), row.optionNo(), row.isCorrect(), row.optionText(), row.optionS3Key()));
+                }
+            }
+            sequences.add(new SequenceSnapshot(head.sequenceId(), head.seqNo(), head.question(), options));
+        }
+        return new ScenarioVersionContent(sequences);
+    }
+}
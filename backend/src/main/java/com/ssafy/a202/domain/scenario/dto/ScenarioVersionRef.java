@@ -0,0 +1,13 @@
+package com.ssafy.a202.domain.scenario.dto;
+
+/**
+ * 세션 시작용 시나리오 버전 프로젝션
+ *
+ * <p>세션은 버전 ID만 참조하므로, 트리(JSON) 컬럼을 읽지 않고 식별 정보만 조회합니다.</p>
+ */
+public record ScenarioVersionRef(
+        Long id,
+        Long scenarioId,
+        Integer versionNo
+) {
+}
@@ -0,0 +1,19 @@
+package com.ssafy.a202.domain.scenario.dto;
+
+/**
+ * 시나리오 상세 조회용 Sequence + Option 조인 프로젝션
+ *
+ * <p>Sequence 한 행에 살아있는 Option이 여러 개면 Option 수만큼 행이 생기고,
+ * Option이 없는 Sequence는 option 필드가 모두 null인 한 행으로 조회됩니다.</p>
+ */
+public record SequenceOptionRow(
+        Long sequenceId,
+        Integer seqNo,
+        String question,
+        Long optionId,
+        Integer optionNo,
+        Boolean isCorrect,
+        String optionText,
+        String optionS3Key
+) {
+}
@@ -2,6 +2,8 @@ package com.ssafy.a202.domain.scenario.dto.response;
 
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.ssafy.a202.domain.scenario.dto.ScenarioVersionContent;
+import com.ssafy.a202.domain.scenario.dto.SequenceOptionRow;
 import com.ssafy.a202.domain.scenario.entity.Option;
 
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
@@ -21,4 +23,24 @@ public record OptionResponse(
                 optionUrl
         );
     }
+
+    public static OptionResponse of(ScenarioVersionContent.OptionSnapshot snapshot, String optionUrl) {
+        return new OptionResponse(
+                snapshot.optionId(),
+                snapshot.optionNo(),
+                snapshot.isCorrect(),
+                snapshot.optionText(),
+                optionUrl
+        );
+    }
+
+    public static OptionResponse of(SequenceOptionRow row, String optionUrl) {
+        return new OptionResponse(
+                row.optionId(),
+                row.optionNo(),
+                row.isCorrect(),
+                row.optionText(),
+                optionUrl
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.ssafy.a202.domain.scenario.dto.response;
+
+/**
+ * 시나리오 수정 결과
+ *
+ * @param inserted 새로 추가된 시퀀스/옵션 행 수
+ * @param updated  내용이 변경된 시퀀스/옵션 행 수
+ * @param deleted  소프트 삭제된 시퀀스/옵션 행 수
+ */
+public record ScenarioUpdateResponse(
+        Long scenarioId,
+        int inserted,
+        int updated,
+        int deleted
+) {
+    public static ScenarioUpdateResponse of(Long scenarioId, int inserted, int updated, int deleted) {
+        return new ScenarioUpdateResponse(scenarioId, inserted, updated, deleted);
+    }
+}
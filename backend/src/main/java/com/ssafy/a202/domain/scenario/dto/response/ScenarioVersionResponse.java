@@ -0,0 +1,43 @@
+package com.ssafy.a202.domain.scenario.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.ssafy.a202.domain.scenario.entity.DifficultyLevel;
+import com.ssafy.a202.domain.scenario.entity.ScenarioVersion;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record ScenarioVersionResponse(
+        Long scenarioVersionId,
+        Long scenarioId,
+        Integer versionNo,
+        String title,
+        String description,
+        DifficultyLevel difficultyLevel,
+        String thumbnailUrl,
+        String backgroundUrl,
+        LocalDateTime publishedAt,
+        List<SequenceResponse> sequences
+) {
+    public static ScenarioVersionResponse of(
+            ScenarioVersion version,
+            String thumbnailUrl,
+            String backgroundUrl,
+            List<SequenceResponse> sequences
+    ) {
+        return new ScenarioVersionResponse(
+                version.getId(),
+                version.getScenarioId(),
+                version.getVersionNo(),
+                version.getTitle(),
+                version.getDescription(),
+                version.getDifficultyLevel(),
+                thumbnailUrl,
+                backgroundUrl,
+                version.getCreatedAt(),
+                sequences
+        );
+    }
+}
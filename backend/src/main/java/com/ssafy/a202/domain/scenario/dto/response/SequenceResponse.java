@@ -2,6 +2,8 @@ package com.ssafy.a202.domain.scenario.dto.response;
 
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.ssafy.a202.domain.scenario.dto.ScenarioVersionContent;
+import com.ssafy.a202.domain.scenario.dto.SequenceOptionRow;
 import com.ssafy.a202.domain.scenario.entity.Sequence;
 
 import java.util.List;
@@ -21,4 +23,22 @@ public record SequenceResponse(
                 options
         );
     }
+
+    public static SequenceResponse of(ScenarioVersionContent.SequenceSnapshot snapshot, List<OptionResponse> options) {
+        return new SequenceResponse(
+                snapshot.sequenceId(),
+                snapshot.seqNo(),
+                snapshot.question(),
+                options
+        );
+    }
+
+    public static SequenceResponse of(SequenceOptionRow row, List<OptionResponse> options) {
+        return new SequenceResponse(
+                row.sequenceId(),
+                row.seqNo(),
+                row.question(),
+                options
+        );
+    }
 }
\ No newline at end of file
@@ -6,6 +6,8 @@ import com.ssafy.a202.domain.scenario.dto.request.OptionRequest;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.Objects;
+
 @Entity
 @Table(name = "options")
 @Getter
@@ -41,6 +43,21 @@ public class Option extends BaseTimeEntity {
                 .optionS3Key(opt.optionS3Key())
                 .build();
     }
-}
-
 
+    /**
+     * 요청 내용으로 옵션을 갱신합니다.
+     *
+     * @return 실제로 변경된 값이 있으면 true
+     */
+    public boolean update(OptionRequest opt) {
+        if (this.isCorrect == opt.isCorrect()
+                && Objects.equals(this.optionText, opt.optionText())
+                && Objects.equals(this.optionS3Key, opt.optionS3Key())) {
+            return false;
+        }
+        this.isCorrect = opt.isCorrect();
+        this.optionText = opt.optionText();
+        this.optionS3Key = opt.optionS3Key();
+        return true;
+    }
+}
@@ -6,10 +6,14 @@ import com.ssafy.a202.domain.scenario.dto.request.ScenarioRequest;
 import com.ssafy.a202.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 
 @Entity
-@Table(name = "scenarios")
+@Table(
+        name = "scenarios",
+        indexes = @Index(name = "idx_scenarios_deleted_created", columnList = "deleted_at, created_at, id")
+)
 @Getter
 @Builder
 @AllArgsConstructor
@@ -42,6 +46,15 @@ public class Scenario extends BaseTimeEntity {
     @Enumerated(EnumType.STRING)
     private DifficultyLevel difficultyLevel;
 
+    /**
+     * 낙관적 락 버전. 시퀀스/옵션만 바뀐 수정에서도 증가하므로 동시 수정 충돌을 감지합니다.
+     * (상세 ETag는 응답 본문의 SHA-256으로 계산하며 이 값을 쓰지 않습니다.)
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     public static Scenario from(User user, Category category, ScenarioRequest request) {
         return Scenario.builder()
                 .user(user)
@@ -0,0 +1,80 @@
+package com.ssafy.a202.domain.scenario.entity;
+
+import com.ssafy.a202.domain.scenario.dto.ScenarioVersionContent;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발행된 시나리오 버전 (불변)
+ *
+ * <p>시나리오가 생성·수정될 때마다 {@code versionNo}를 1씩 올려 새 행을 발행합니다.
+ * 세션과 답변은 이 버전의 ID를 참조하므로, 플레이할 때마다 시나리오 텍스트를 복사하지 않습니다.</p>
+ */
+@Entity
+@Immutable
+@Table(
+        name = "scenario_versions",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_scenario_versions_scenario_version_no",
+                columnNames = {"scenario_id", "version_no"}
+        )
+)
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@EntityListeners(AuditingEntityListener.class)
+public class ScenarioVersion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long scenarioId;
+
+    @Column(nullable = false)
+    private Integer versionNo;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(nullable = false)
+    private String description;
+
+    private String thumbnailS3Key;
+
+    private String backgroundS3Key;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private DifficultyLevel difficultyLevel;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(nullable = false)
+    private ScenarioVersionContent content;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public static ScenarioVersion of(Scenario scenario, int versionNo, ScenarioVersionContent content) {
+        return ScenarioVersion.builder()
+                .scenarioId(scenario.getId())
+                .versionNo(versionNo)
+                .title(scenario.getTitle())
+                .description(scenario.getDescription())
+                .thumbnailS3Key(scenario.getThumbnailS3Key())
+                .backgroundS3Key(scenario.getBackgroundS3Key())
+                .difficultyLevel(scenario.getDifficultyLevel())
+                .content(content)
+                .build();
+    }
+}
@@ -5,6 +5,8 @@ import com.ssafy.a202.domain.scenario.dto.request.SequenceRequest;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.util.Objects;
+
 
 @Entity
 @Table(name = "sequences")
@@ -35,4 +37,17 @@ public class Sequence extends BaseTimeEntity {
                 .question(seq.question())
                 .build();
     }
+
+    /**
+     * 요청 내용으로 시퀀스를 갱신합니다.
+     *
+     * @return 실제로 변경된 값이 있으면 true
+     */
+    public boolean update(SequenceRequest seq) {
+        if (Objects.equals(this.question, seq.question())) {
+            return false;
+        }
+        this.question = seq.question();
+        return true;
+    }
 }
@@ -2,9 +2,41 @@ package com.ssafy.a202.domain.scenario.repository;
 
 import com.ssafy.a202.domain.scenario.entity.Option;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface OptionRepository extends JpaRepository<Option, Long> {
     List<Option> findBySequenceIdAndDeletedAtIsNull(Long sequenceId);
+
+    /**
+     * 시나리오에 속한 살아있는 옵션을 한 번에 조회합니다. (수정 시 diff 계산용)
+     */
+    @Query("""
+            select o from Option o
+            where o.sequence.scenario.id = :scenarioId
+              and o.sequence.deletedAt is null
+              and o.deletedAt is null
+            """)
+    List<Option> findAliveByScenarioId(@Param("scenarioId") Long scenarioId);
+
+    /**
+     * 주어진 시나리오들에 속한 살아있는 옵션을 한 문장으로 소프트 삭제합니다.
+     * 시퀀스보다 먼저 실행해야 "살아있는 시퀀스의 옵션" 조건이 유지됩니다.
+     */
+    @Modifying
+    @Query("""
+            update Option o
+            set o.deletedAt = :now, o.updatedAt = :now
+            where o.deletedAt is null
+              and o.sequence.id in (
+                  select s.id from Sequence s
+                  where s.scenario.id in :scenarioIds and s.deletedAt is null
+              )
+            """)
+    int softDeleteByScenarioIds(@Param("scenarioIds") Collection<Long> scenarioIds, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,151 @@
+package com.ssafy.a202.domain.scenario.repository;
+
+import com.ssafy.a202.domain.scenario.dto.request.OptionRequest;
+import com.ssafy.a202.domain.scenario.dto.request.SequenceRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Scenario → Sequence → Option 트리를 다중 행 INSERT로 저장하는 리포지토리
+ *
+ * <p>모든 엔티티가 {@code GenerationType.IDENTITY}를 사용하기 때문에 Hibernate는 INSERT를 배치로 묶지 못합니다.
+ * 이 리포지토리는 각 계층을 {@value #CHUNK_SIZE}행 단위의 {@code INSERT ... VALUES (...), (...)} 한 문장으로 저장하고,
+ * MySQL이 돌려주는 생성 키를 입력 순서대로 매핑합니다.</p>
+ *
+ * <p>JPA 트랜잭션과 같은 커넥션을 사용하므로 반드시 트랜잭션 안에서 호출해야 합니다.
+ * 감사(Auditing) 리스너를 거치지 않으므로 {@code created_at}, {@code updated_at}은 직접 채웁니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScenarioBulkRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 시퀀스 목록을 일괄 저장하고, 입력 순서와 같은 순서의 시퀀스 ID 목록을 반환합니다.
+     */
+    public List<Long> insertSequences(Long scenarioId, List<SequenceRequest> sequences) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> ids = new ArrayList<>(sequences.size());
+
+        for (int from = 0; from < sequences.size(); from += CHUNK_SIZE) {
+            List<SequenceRequest> chunk = sequences.subList(from, Math.min(from + CHUNK_SIZE, sequences.size()));
+            String sql = "INSERT INTO sequences (scenario_id, seq_no, question, created_at, updated_at) VALUES "
+                    + placeholders(chunk.size(), 5);
+
+            ids.addAll(insertAndReturnKeys(sql, ps -> {
+                int i = 1;
+                for (SequenceRequest seq : chunk) {
+                    ps.setLong(i++, scenarioId);
+                    ps.setInt(i++, seq.seqNo());
+                    ps.setString(i++, seq.question());
+                    ps.setTimestamp(i++, now);
+                    ps.setTimestamp(i++, now);
+                }
+            }));
+        }
+        return ids;
+    }
+
+    /**
+     * 여러 시퀀스의 옵션을 한꺼번에 저장합니다.
+     *
+     * @param sequenceIds 옵션이 속할 시퀀스 ID 목록
+     * @param sequences   {@code sequenceIds}와 같은 순서의 시퀀스 요청 목록
+     * @return 저장된 옵션 수
+     */
+    public int insertOptions(List<Long> sequenceIds, List<SequenceRequest> sequences) {
+        List<Long> ownerIds = new ArrayList<>();
+        List<OptionRequest> options = new ArrayList<>();
+
+        for (int i = 0; i < sequences.size(); i++) {
+            for (OptionRequest opt : sequences.get(i).options()) {
+                ownerIds.add(sequenceIds.get(i));
+                options.add(opt);
+            }
+        }
+        insertOptionRows(ownerIds, options);
+        return options.size();
+    }
+
+    /**
+     * (시퀀스 ID, 옵션 요청) 쌍 목록을 일괄 저장합니다.
+     *
+     * @param sequenceIds 각 옵션이 속할 시퀀스 ID (options와 같은 길이)
+     * @param options     저장할 옵션 요청 목록
+     */
+    public void insertOptionRows(List<Long> sequenceIds, List<OptionRequest> options) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int from = 0; from < options.size(); from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, options.size());
+            List<Long> ownerChunk = sequenceIds.subList(from, to);
+            List<OptionRequest> chunk = options.subList(from, to);
+            String sql = "INSERT INTO options (sequence_id, option_no, is_correct, option_text, options3key, created_at, updated_at) VALUES "
+                    + placeholders(chunk.size(), 7);
+
+            jdbcTemplate.update(sql, ps -> {
+                int i = 1;
+                for (int k = 0; k < chunk.size(); k++) {
+                    OptionRequest opt = chunk.get(k);
+                    ps.setLong(i++, ownerChunk.get(k));
+                    ps.setInt(i++, opt.optionNo());
+                    ps.setBoolean(i++, opt.isCorrect());
+                    setNullableString(ps, i++, opt.optionText());
+                    setNullableString(ps, i++, opt.optionS3Key());
+                    ps.setTimestamp(i++, now);
+                    ps.setTimestamp(i++, now);
+                }
+            });
+        }
+    }
+
+    private List<Long> insertAndReturnKeys(String sql, ParameterBinder binder) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            binder.bind(ps);
+            return ps;
+        }, keyHolder);
+
+        List<Long> keys = new ArrayList<>();
+        for (Map<String, Object> row : keyHolder.getKeyList()) {
+            keys.add(((Number) row.values().iterator().next()).longValue());
+        }
+        return keys;
+    }
+
+    private static String placeholders(int rows, int columns) {
+        String row = "(" + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+        return String.join(", ", Collections.nCopies(rows, row));
+    }
+
+    private static void setNullableString(PreparedStatement ps, int index, String value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.VARCHAR);
+        } else {
+            ps.setString(index, value);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ParameterBinder {
+        void bind(PreparedStatement ps) throws SQLException;
+    }
+}
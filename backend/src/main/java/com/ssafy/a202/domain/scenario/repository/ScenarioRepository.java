@@ -1,10 +1,19 @@
 package com.ssafy.a202.domain.scenario.repository;
 
+import com.ssafy.a202.domain.scenario.dto.ScenarioListStamp;
 import com.ssafy.a202.domain.scenario.entity.Scenario;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ScenarioRepository extends JpaRepository<Scenario, Long> {
@@ -12,4 +21,79 @@ public interface ScenarioRepository extends JpaRepository<Scenario, Long> {
     Page<Scenario> findByDeletedAtIsNull(Pageable pageable);
 
     Optional<Scenario> findByIdAndDeletedAtIsNull(Long scenarioId);
+
+    long countByDeletedAtIsNull();
+
+    /**
+     * 목록 ETag용: 페이지를 읽지 않고 살아있는 시나리오 수와 최종 수정 시각만 집계합니다.
+     */
+    @Query("""
+            select new com.ssafy.a202.domain.scenario.dto.ScenarioListStamp(
+                coalesce(sum(case when s.deletedAt is null then 1L else 0L end), 0L),
+                max(s.updatedAt)
+            )
+            from Scenario s
+            """)
+    ScenarioListStamp findListStamp();
+
+    /**
+     * 수정용 조회: 커밋 시 버전을 강제로 증가시킵니다.
+     * 시퀀스/옵션만 바뀌어 시나리오 행이 그대로인 수정끼리도 낙관적 락 충돌로 감지하기 위함입니다.
+     */
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @Query("select s from Scenario s where s.id = :scenarioId and s.deletedAt is null")
+    Optional<Scenario> findForUpdateById(@Param("scenarioId") Long scenarioId);
+
+    /**
+     * 버전 발행용 조회: 시나리오 행에 쓰기 락을 잡아 같은 시나리오의 버전 번호 계산을 직렬화합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Scenario s where s.id = :scenarioId and s.deletedAt is null")
+    Optional<Scenario> findForVersionPublishById(@Param("scenarioId") Long scenarioId);
+
+    /**
+     * 커서 페이징용: (createdAt, id) 보다 뒤에 있는 시나리오를 최신순으로 조회합니다.
+     * 커서가 null이면 첫 페이지를 조회하며, COUNT 쿼리는 실행하지 않습니다.
+     */
+    @Query("""
+            select s from Scenario s
+            join fetch s.category
+            join fetch s.user
+            where s.deletedAt is null
+              and (:cursorCreatedAt is null
+                   or s.createdAt < :cursorCreatedAt
+                   or (s.createdAt = :cursorCreatedAt and s.id < :cursorId))
+            order by s.createdAt desc, s.id desc
+            """)
+    List<Scenario> findByCursor(
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    /**
+     * 상세 조회용: 카테고리와 작성자를 함께 fetch join 하여 지연 로딩 쿼리를 없앱니다.
+     */
+    @Query("""
+            select s from Scenario s
+            join fetch s.category
+            join fetch s.user
+            where s.id = :scenarioId and s.deletedAt is null
+            """)
+    Optional<Scenario> findDetailByIdAndDeletedAtIsNull(@Param("scenarioId") Long scenarioId);
+
+    @Query("select s.id from Scenario s where s.user.id = :userId and s.deletedAt is null")
+    List<Long> findIdsByUserIdAndDeletedAtIsNull(@Param("userId") Long userId);
+
+    /**
+     * 주어진 시나리오들을 한 문장으로 소프트 삭제합니다.
+     * 영속성 컨텍스트에 남은 시나리오가 이전 상태로 읽히지 않도록 실행 후 컨텍스트를 비웁니다.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Scenario s
+            set s.deletedAt = :now, s.updatedAt = :now, s.version = s.version + 1
+            where s.id in :scenarioIds and s.deletedAt is null
+            """)
+    int softDeleteByIds(@Param("scenarioIds") Collection<Long> scenarioIds, @Param("now") LocalDateTime now);
 }
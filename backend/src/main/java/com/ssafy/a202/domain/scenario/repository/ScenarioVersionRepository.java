@@ -0,0 +1,30 @@
+package com.ssafy.a202.domain.scenario.repository;
+
+import com.ssafy.a202.domain.scenario.dto.ScenarioVersionRef;
+import com.ssafy.a202.domain.scenario.entity.ScenarioVersion;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ScenarioVersionRepository extends JpaRepository<ScenarioVersion, Long> {
+
+    /**
+     * 최신 버전의 식별 정보만 조회합니다. (content JSON은 읽지 않음)
+     */
+    @Query("""
+            select new com.ssafy.a202.domain.scenario.dto.ScenarioVersionRef(v.id, v.scenarioId, v.versionNo)
+            from ScenarioVersion v
+            where v.scenarioId = :scenarioId
+            order by v.versionNo desc
+            """)
+    List<ScenarioVersionRef> findLatestRefs(@Param("scenarioId") Long scenarioId, Limit limit);
+
+    /**
+     * 발행된 마지막 버전 번호 (없으면 0)
+     */
+    @Query("select coalesce(max(v.versionNo), 0) from ScenarioVersion v where v.scenarioId = :scenarioId")
+    int findMaxVersionNo(@Param("scenarioId") Long scenarioId);
+}
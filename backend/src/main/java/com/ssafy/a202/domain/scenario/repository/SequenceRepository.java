@@ -1,10 +1,41 @@
 package com.ssafy.a202.domain.scenario.repository;
 
+import com.ssafy.a202.domain.scenario.dto.SequenceOptionRow;
 import com.ssafy.a202.domain.scenario.entity.Sequence;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface SequenceRepository extends JpaRepository<Sequence, Long> {
     List<Sequence> findByScenarioIdAndDeletedAtIsNull(Long scenarioId);
+
+    /**
+     * 시나리오의 살아있는 Sequence와 Option 트리를 한 번의 조인 쿼리로 조회합니다.
+     * 정렬: seqNo → optionNo 순
+     */
+    @Query("""
+            select new com.ssafy.a202.domain.scenario.dto.SequenceOptionRow(
+                s.id, s.seqNo, s.question, o.id, o.optionNo, o.isCorrect, o.optionText, o.optionS3Key)
+            from Sequence s
+            left join Option o on o.sequence = s and o.deletedAt is null
+            where s.scenario.id = :scenarioId and s.deletedAt is null
+            order by s.seqNo, s.id, o.optionNo, o.id
+            """)
+    List<SequenceOptionRow> findTreeRowsByScenarioId(@Param("scenarioId") Long scenarioId);
+
+    /**
+     * 주어진 시나리오들의 살아있는 시퀀스를 한 문장으로 소프트 삭제합니다.
+     */
+    @Modifying
+    @Query("""
+            update Sequence s
+            set s.deletedAt = :now, s.updatedAt = :now
+            where s.scenario.id in :scenarioIds and s.deletedAt is null
+            """)
+    int softDeleteByScenarioIds(@Param("scenarioIds") Collection<Long> scenarioIds, @Param("now") LocalDateTime now);
 }
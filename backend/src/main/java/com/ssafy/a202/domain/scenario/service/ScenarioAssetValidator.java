@@ -0,0 +1,72 @@
+package com.ssafy.a202.domain.scenario.service;
+
+import com.ssafy.a202.common.exception.CustomException;
+import com.ssafy.a202.common.exception.ErrorCode;
+import com.ssafy.a202.domain.presignedUrl.client.S3Client;
+import com.ssafy.a202.domain.scenario.dto.request.OptionRequest;
+import com.ssafy.a202.domain.scenario.dto.request.ScenarioRequest;
+import com.ssafy.a202.domain.scenario.dto.request.SequenceRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시나리오 생성/수정 요청에 포함된 S3 에셋 검증기
+ *
+ * <p>썸네일, 배경, 옵션 이미지 키를 모두 모아 {@link S3Client#validateS3FilesExist}로 한 번에 검증합니다.
+ * DB 커넥션을 잡은 채 HEAD 요청을 기다리지 않도록 트랜잭션이 열리기 전(컨트롤러)에서 호출합니다.
+ * 수정 요청은 권한 검증을 먼저 통과한 뒤에 호출해야 합니다.</p>
+ *
+ * <p>키가 없는(null) 에셋은 선택 항목이므로 건너뛰지만, 빈 문자열 키는 400으로 거절합니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ScenarioAssetValidator {
+
+    private final S3Client s3Client;
+
+    /**
+     * 요청에 포함된 모든 S3 키가 존재하는지 검증합니다.
+     *
+     * @throws CustomException 빈 키가 있는 경우 (data: 해당 필드 경로 목록),
+     *                         누락된 키가 있는 경우 (data: 누락된 키 목록)
+     */
+    public void validate(ScenarioRequest request) {
+        List<String> keys = new ArrayList<>();
+        List<String> blankFields = new ArrayList<>();
+
+        collect("thumbnail_s3_key", request.thumbnailS3Key(), keys, blankFields);
+        collect("background_s3_key", request.backgroundS3Key(), keys, blankFields);
+
+        if (request.sequences() != null) {
+            for (int i = 0; i < request.sequences().size(); i++) {
+                SequenceRequest seq = request.sequences().get(i);
+                if (seq.options() == null) {
+                    continue;
+                }
+                for (int j = 0; j < seq.options().size(); j++) {
+                    OptionRequest opt = seq.options().get(j);
+                    collect("sequences[" + i + "].options[" + j + "].option_s3_key", opt.optionS3Key(), keys, blankFields);
+                }
+            }
+        }
+
+        if (!blankFields.isEmpty()) {
+            throw new CustomException(ErrorCode.S3_KEY_BLANK, "빈 S3 키: " + blankFields, blankFields);
+        }
+        s3Client.validateS3FilesExist(keys);
+    }
+
+    private void collect(String field, String key, List<String> keys, List<String> blankFields) {
+        if (key == null) {
+            return;
+        }
+        if (key.isBlank()) {
+            blankFields.add(field);
+            return;
+        }
+        keys.add(key);
+    }
+}
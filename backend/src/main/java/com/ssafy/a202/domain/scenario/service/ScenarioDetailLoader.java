@@ -0,0 +1,70 @@
+package com.ssafy.a202.domain.scenario.service;
+
+import com.ssafy.a202.common.exception.CustomException;
+import com.ssafy.a202.common.exception.ErrorCode;
+import com.ssafy.a202.domain.presignedUrl.client.S3Client;
+import com.ssafy.a202.domain.scenario.dto.SequenceOptionRow;
+import com.ssafy.a202.domain.scenario.dto.response.OptionResponse;
+import com.ssafy.a202.domain.scenario.dto.response.ScenarioDetailResponse;
+import com.ssafy.a202.domain.scenario.dto.response.SequenceResponse;
+import com.ssafy.a202.domain.scenario.entity.Scenario;
+import com.ssafy.a202.domain.scenario.repository.ScenarioRepository;
+import com.ssafy.a202.domain.scenario.repository.SequenceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 시나리오 상세(Scenario → Sequence → Option) 로더
+ *
+ * <p>시퀀스 수와 관계없이 항상 두 번의 쿼리로 살아있는 트리 전체를 조회합니다.</p>
+ * <ol>
+ *   <li>Scenario + Category + User fetch join</li>
+ *   <li>Sequence left join Option 프로젝션 ({@link SequenceOptionRow})</li>
+ * </ol>
+ */
+@Component
+@RequiredArgsConstructor
+public class ScenarioDetailLoader {
+
+    private final ScenarioRepository scenarioRepository;
+    private final SequenceRepository sequenceRepository;
+    private final S3Client s3Client;
+
+    @Transactional(readOnly = true)
+    public ScenarioDetailResponse load(Long scenarioId) {
+        Scenario scenario = scenarioRepository.findDetailByIdAndDeletedAtIsNull(scenarioId)
+                .orElseThrow(() -> new CustomException(ErrorCode.SCENARIO_NOT_FOUND));
+
+        // S3 URL 변환
+        String thumbnailUrl = toPublicUrl(scenario.getThumbnailS3Key());
+        String backgroundUrl = toPublicUrl(scenario.getBackgroundS3Key());
+
+        List<SequenceOptionRow> rows = sequenceRepository.findTreeRowsByScenarioId(scenarioId);
+        List<SequenceResponse> sequenceResponses = new ArrayList<>();
+
+        // 행은 시퀀스 순으로 정렬되어 있으므로 시퀀스 ID가 바뀔 때마다 묶어서 변환
+        int i = 0;
+        while (i < rows.size()) {
+            SequenceOptionRow head = rows.get(i);
+            List<OptionResponse> optionResponses = new ArrayList<>();
+
+            while (i < rows.size() && rows.get(i).sequenceId().equals(head.sequenceId())) {
+                SequenceOptionRow row = rows.get(i++);
+                if (row.optionId() != null) {
+                    optionResponses.add(OptionResponse.of(row, toPublicUrl(row.optionS3Key())));
+                }
+            }
+            sequenceResponses.add(SequenceResponse.of(head, optionResponses));
+        }
+
+        return ScenarioDetailResponse.of(scenario, thumbnailUrl, backgroundUrl, sequenceResponses);
+    }
+
+    private String toPublicUrl(String s3Key) {
+        return s3Key == null ? null : s3Client.getPublicS3Url(s3Key);
+    }
+}
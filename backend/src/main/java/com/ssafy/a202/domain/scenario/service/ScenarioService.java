@@ -1,28 +1,69 @@
 package com.ssafy.a202.domain.scenario.service;
 
+import com.ssafy.a202.common.entity.CursorResponse;
 import com.ssafy.a202.common.entity.PageResponse;
 import com.ssafy.a202.common.roleAop.PermissionAction;
 import com.ssafy.a202.common.roleAop.scenarioPermission.CheckScenarioPermission;
+import com.ssafy.a202.domain.scenario.dto.ScenarioDetailWithEtag;
 import com.ssafy.a202.domain.scenario.dto.request.ScenarioRequest;
 import com.ssafy.a202.domain.scenario.dto.response.ScenarioCreateResponse;
-import com.ssafy.a202.domain.scenario.dto.response.ScenarioDetailResponse;
 import com.ssafy.a202.domain.scenario.dto.response.ScenarioPreviewResponse;
+import com.ssafy.a202.domain.scenario.dto.response.ScenarioUpdateResponse;
+import com.ssafy.a202.domain.scenario.dto.response.ScenarioVersionResponse;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+
 public interface ScenarioService {
     @Transactional
     ScenarioCreateResponse create(Long userId, ScenarioRequest request);
 
     PageResponse<ScenarioPreviewResponse> getScenarios(Pageable pageable);
 
-    ScenarioDetailResponse getSingleScenario(Long scenarioId);
+    CursorResponse<ScenarioPreviewResponse> getScenariosByCursor(String cursor, int size, boolean withTotal);
+
+    /**
+     * 시나리오 상세와 그 강한 ETag를 캐시에서 함께 조회합니다.
+     */
+    ScenarioDetailWithEtag getSingleScenario(Long scenarioId);
+
+    /**
+     * 시나리오 목록 페이지의 ETag를 페이지를 조회하기 전에 계산합니다.
+     * 페이지 정보와 집계 쿼리 한 번(살아있는 수, 최종 수정 시각)으로 계산하므로 304 응답은 페이지/카운트 쿼리를 실행하지 않습니다.
+     */
+    String getScenariosEtag(Pageable pageable);
+
+    ScenarioVersionResponse getScenarioVersion(Long scenarioVersionId);
+
+    /**
+     * 시나리오 수정 권한만 검증합니다.
+     * 트랜잭션 밖에서 S3 에셋 검증 전에 호출해 권한 없는 사용자에게 검증 결과가 노출되지 않도록 합니다.
+     */
+    @CheckScenarioPermission(PermissionAction.UPDATE)
+    void checkUpdatePermission(Long userId, Long scenarioId);
 
     @CheckScenarioPermission(PermissionAction.UPDATE)
     @Transactional
-    void update(Long userId, Long scenarioId, ScenarioRequest request);
+    ScenarioUpdateResponse update(Long userId, Long scenarioId, ScenarioRequest request);
 
     @CheckScenarioPermission(PermissionAction.DELETE)
     @Transactional
     void delete(Long userId, Long scenarioId);
+
+    /**
+     * 여러 시나리오를 일괄 소프트 삭제합니다. (권한 검증은 호출하는 쪽에서 수행)
+     *
+     * @return 삭제된 시나리오 수
+     */
+    @Transactional
+    int deleteAll(Collection<Long> scenarioIds);
+
+    /**
+     * 사용자가 작성한 모든 시나리오를 일괄 소프트 삭제합니다. (예: 교사 퇴직·기관 이동)
+     *
+     * @return 삭제된 시나리오 수
+     */
+    @Transactional
+    int deleteAllByUserId(Long userId);
 }
@@ -1,5 +1,7 @@
 package com.ssafy.a202.domain.scenario.service;
 
+import com.ssafy.a202.common.entity.CursorResponse;
+import com.ssafy.a202.common.entity.KeysetCursor;
 import com.ssafy.a202.common.entity.PageResponse;
 import com.ssafy.a202.common.exception.CustomException;
 import com.ssafy.a202.common.exception.ErrorCode;
@@ -8,26 +10,45 @@ import com.ssafy.a202.common.roleAop.scenarioPermission.CheckScenarioPermission;
 import com.ssafy.a202.domain.category.entity.Category;
 import com.ssafy.a202.domain.category.repository.CategoryRepository;
 import com.ssafy.a202.domain.presignedUrl.client.S3Client;
+import com.ssafy.a202.domain.scenario.cache.ScenarioDetailCache;
+import com.ssafy.a202.domain.scenario.dto.ScenarioDetailWithEtag;
+import com.ssafy.a202.domain.scenario.dto.ScenarioListStamp;
+import com.ssafy.a202.domain.scenario.dto.ScenarioVersionContent;
 import com.ssafy.a202.domain.scenario.dto.request.OptionRequest;
 import com.ssafy.a202.domain.scenario.dto.request.ScenarioRequest;
 import com.ssafy.a202.domain.scenario.dto.request.SequenceRequest;
 import com.ssafy.a202.domain.scenario.dto.response.*;
 import com.ssafy.a202.domain.scenario.entity.Option;
 import com.ssafy.a202.domain.scenario.entity.Scenario;
+import com.ssafy.a202.domain.scenario.entity.ScenarioVersion;
 import com.ssafy.a202.domain.scenario.entity.Sequence;
 import com.ssafy.a202.domain.scenario.repository.OptionRepository;
+import com.ssafy.a202.domain.scenario.repository.ScenarioBulkRepository;
 import com.ssafy.a202.domain.scenario.repository.ScenarioRepository;
 import com.ssafy.a202.domain.scenario.repository.SequenceRepository;
 import com.ssafy.a202.domain.user.entity.User;
 import com.ssafy.a202.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -37,9 +58,13 @@ public class ScenarioServiceImpl implements ScenarioService {
     private final ScenarioRepository scenarioRepository;
     private final SequenceRepository sequenceRepository;
     private final OptionRepository optionRepository;
+    private final ScenarioBulkRepository scenarioBulkRepository;
     private final CategoryRepository categoryRepository;
     private final UserRepository userRepository;
     private final S3Client s3Client;
+    private final ScenarioDetailLoader scenarioDetailLoader;
+    private final ScenarioDetailCache scenarioDetailCache;
+    private final ScenarioVersionService scenarioVersionService;
 
 
     @Transactional
@@ -51,38 +76,25 @@ public class ScenarioServiceImpl implements ScenarioService {
 
         // todo: option에 이미지 혹은 텍스트 둘 중 하나는 들어오게 해야함.
 
+        validateUniqueNumbers(request.sequences());
+
         User user = userRepository.findByIdAndDeletedAtIsNull(userId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
 
         category = categoryRepository.findById(request.categoryId())
                 .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
 
-        // 배경 이미지가 있다면 S3에 존재하는지 확인
-        if (request.backgroundS3Key() != null)
-            s3Client.validateS3FileExists(request.backgroundS3Key());
-
-        // 썸네일 이미지가 있다면 S3에 존재하는지 확인
-        if (request.thumbnailS3Key() != null)
-            s3Client.validateS3FileExists(request.thumbnailS3Key());
+        // S3 에셋 검증은 트랜잭션 시작 전 ScenarioAssetValidator에서 수행
 
         scenario = Scenario.from(user, category, request);
         scenarioRepository.save(scenario);
 
-        for (SequenceRequest seq : request.sequences()) {
-            Sequence sequence = Sequence.from(scenario, seq);
-            sequenceRepository.save(sequence);
+        // Sequence, Option을 계층별 다중 행 INSERT로 저장
+        saveSequencesAndOptions(scenario.getId(), request.sequences());
 
-            for (OptionRequest opt : seq.options()) {
-
-                // 객관식 이미지가 있으면 존재하는지 확인
-                if (opt.optionS3Key() != null) {
-                    s3Client.validateS3FileExists(opt.optionS3Key());
-                }
+        // 버전 1 발행
+        scenarioVersionService.publish(scenario);
 
-                Option option = Option.from(sequence, opt);
-                optionRepository.save(option);
-            }
-        }
         return ScenarioCreateResponse.of(scenario);
     }
 
@@ -108,78 +120,132 @@ public class ScenarioServiceImpl implements ScenarioService {
     }
 
     @Override
-    public ScenarioDetailResponse getSingleScenario(Long scenarioId) {
-        Scenario scenario = scenarioRepository.findByIdAndDeletedAtIsNull(scenarioId)
-                .orElseThrow(() -> new CustomException(ErrorCode.SCENARIO_NOT_FOUND));
+    public CursorResponse<ScenarioPreviewResponse> getScenariosByCursor(String cursor, int size, boolean withTotal) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        int pageSize = Math.clamp(size, 1, CursorResponse.MAX_SIZE);
+
+        // 다음 페이지 존재 여부 판단을 위해 한 건 더 조회
+        List<Scenario> scenarios = scenarioRepository.findByCursor(
+                keysetCursor == null ? null : keysetCursor.createdAt(),
+                keysetCursor == null ? null : keysetCursor.id(),
+                PageRequest.of(0, pageSize + 1)
+        );
+        boolean hasNext = scenarios.size() > pageSize;
+        if (hasNext) {
+            scenarios = scenarios.subList(0, pageSize);
+        }
+
+        List<ScenarioPreviewResponse> responseList = new ArrayList<>();
+        for (Scenario scenario : scenarios) {
+            String thumbnailUrl = null;
+            String backgroundUrl = null;
 
-        // S3 URL 변환
-        String thumbnailUrl = null;
-        String backgroundUrl = null;
+            if (scenario.getThumbnailS3Key() != null)
+                thumbnailUrl = s3Client.getPublicS3Url(scenario.getThumbnailS3Key());
+            if (scenario.getBackgroundS3Key() != null)
+                backgroundUrl = s3Client.getPublicS3Url(scenario.getBackgroundS3Key());
 
-        if (scenario.getThumbnailS3Key() != null)
-            thumbnailUrl = s3Client.getPublicS3Url(scenario.getThumbnailS3Key());
-        if (scenario.getBackgroundS3Key() != null)
-            backgroundUrl = s3Client.getPublicS3Url(scenario.getBackgroundS3Key());
+            responseList.add(ScenarioPreviewResponse.of(scenario, thumbnailUrl, backgroundUrl));
+        }
 
-        // Sequence 조회 및 변환
-        List<Sequence> sequences = sequenceRepository.findByScenarioIdAndDeletedAtIsNull(scenario.getId());
-        List<SequenceResponse> sequenceResponses = new ArrayList<>();
+        KeysetCursor nextCursor = null;
+        if (hasNext) {
+            Scenario last = scenarios.get(scenarios.size() - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getId());
+        }
+        Long totalElements = withTotal ? scenarioRepository.countByDeletedAtIsNull() : null;
 
-        for (Sequence sequence : sequences) {
-            List<Option> options = optionRepository.findBySequenceIdAndDeletedAtIsNull(sequence.getId());
-            List<OptionResponse> optionResponses = new ArrayList<>();
+        return CursorResponse.of(responseList, pageSize, nextCursor, totalElements);
+    }
 
-            for (Option option : options) {
-                String optionUrl = null;
-                if (option.getOptionS3Key() != null) {
-                    optionUrl = s3Client.getPublicS3Url(option.getOptionS3Key());
-                }
-                optionResponses.add(OptionResponse.of(option, optionUrl));
-            }
+    @Override
+    public String getScenariosEtag(Pageable pageable) {
+        // 생성/수정/삭제로 수나 최종 수정 시각이 바뀌거나, 요청한 페이지/정렬이 다르면 ETag가 달라짐
+        // 작성자 이름, 카테고리 이름 변경은 시나리오 행을 바꾸지 않으므로 반영되지 않음
+        ScenarioListStamp stamp = scenarioRepository.findListStamp();
+        String source = pageable.getPageNumber() + "|" + pageable.getPageSize() + "|" + pageable.getSort()
+                + "|" + stamp.aliveCount() + "|" + stamp.lastUpdatedAt();
+        return "\"scenarios-" + sha256Hex(source).substring(0, 32) + "\"";
+    }
 
-            sequenceResponses.add(SequenceResponse.of(sequence, optionResponses));
+    private static String sha256Hex(String source) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
         }
+    }
+
+    @Override
+    public ScenarioVersionResponse getScenarioVersion(Long scenarioVersionId) {
+        ScenarioVersion version = scenarioVersionService.get(scenarioVersionId);
+
+        List<SequenceResponse> sequenceResponses = new ArrayList<>();
+        for (ScenarioVersionContent.SequenceSnapshot seq : version.getContent().sequences()) {
+            List<OptionResponse> optionResponses = new ArrayList<>();
+            for (ScenarioVersionContent.OptionSnapshot opt : seq.options()) {
+                optionResponses.add(OptionResponse.of(opt, toPublicUrl(opt.optionS3Key())));
+            }
+            sequenceResponses.add(SequenceResponse.of(seq, optionResponses));
+        }
+
+        return ScenarioVersionResponse.of(
+                version,
+                toPublicUrl(version.getThumbnailS3Key()),
+                toPublicUrl(version.getBackgroundS3Key()),
+                sequenceResponses
+        );
+    }
+
+    private String toPublicUrl(String s3Key) {
+        return s3Key == null ? null : s3Client.getPublicS3Url(s3Key);
+    }
+
+    // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행 (로더가 자체 트랜잭션을 가짐)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public ScenarioDetailWithEtag getSingleScenario(Long scenarioId) {
+        return scenarioDetailCache.get(scenarioId, scenarioDetailLoader::load);
+    }
 
-        return ScenarioDetailResponse.of(scenario, thumbnailUrl, backgroundUrl, sequenceResponses);
+    // 검증은 ScenarioPermissionAspect가 수행 (본문 없음)
+    @CheckScenarioPermission(PermissionAction.UPDATE)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Override
+    public void checkUpdatePermission(Long userId, Long scenarioId) {
     }
 
     @CheckScenarioPermission(PermissionAction.UPDATE)
     @Transactional
     @Override
-    public void update(Long userId, Long scenarioId, ScenarioRequest request) {
-        // 1. Scenario 조회
-        Scenario scenario = scenarioRepository.findByIdAndDeletedAtIsNull(scenarioId)
+    public ScenarioUpdateResponse update(Long userId, Long scenarioId, ScenarioRequest request) {
+        // 0. 요청 안의 seqNo/optionNo 중복 검사 (중복이면 diff가 두 행을 모두 INSERT하게 됨)
+        validateUniqueNumbers(request.sequences());
+
+        // 1. Scenario 조회 (커밋 시 버전 증가 → 동시 수정 충돌 감지)
+        Scenario scenario = scenarioRepository.findForUpdateById(scenarioId)
                 .orElseThrow(() -> new CustomException(ErrorCode.SCENARIO_NOT_FOUND));
 
         // 2. Category 조회
         Category category = categoryRepository.findById(request.categoryId())
                 .orElseThrow(() -> new CustomException(ErrorCode.CATEGORY_NOT_FOUND));
 
-        // 3. S3 키 검증
-        if (request.thumbnailS3Key() != null)
-            s3Client.validateS3FileExists(request.thumbnailS3Key());
-        if (request.backgroundS3Key() != null)
-            s3Client.validateS3FileExists(request.backgroundS3Key());
+        // 3. S3 키 검증은 트랜잭션 시작 전 ScenarioAssetValidator에서 수행
 
         // 4. Scenario 업데이트
         scenario.update(category, request);
 
-        // 5. 기존 Sequence와 Option 소프트 딜리트
-        softDeleteSequencesAndOptionsByScenarioId(scenarioId);
+        // 5. 기존 트리와 비교하여 변경된 Sequence와 Option만 반영
+        ScenarioUpdateResponse response = applySequenceDiff(scenarioId, request.sequences());
 
-        // 6. 새로운 Sequence와 Option 생성
-        for (SequenceRequest seq : request.sequences()) {
-            Sequence sequence = Sequence.from(scenario, seq);
-            sequenceRepository.save(sequence);
+        // 6. 수정된 내용으로 새 버전 발행 (기존 세션은 이전 버전을 계속 참조)
+        scenarioVersionService.publish(scenario);
 
-            for (OptionRequest opt : seq.options()) {
-                if (opt.optionS3Key() != null) {
-                    s3Client.validateS3FileExists(opt.optionS3Key());
-                }
-                Option option = Option.from(sequence, opt);
-                optionRepository.save(option);
-            }
-        }
+        // 7. 커밋 후 상세 캐시 무효화
+        scenarioDetailCache.evictAfterCommit(scenarioId);
+
+        return response;
     }
 
     @CheckScenarioPermission(PermissionAction.DELETE)
@@ -190,50 +256,183 @@ public class ScenarioServiceImpl implements ScenarioService {
         Scenario scenario = scenarioRepository.findByIdAndDeletedAtIsNull(scenarioId)
                 .orElseThrow(() -> new CustomException(ErrorCode.SCENARIO_NOT_FOUND));
 
-        // 2. 연관된 Sequence와 Option 소프트 딜리트
-        softDeleteSequencesAndOptionsByScenarioId(scenarioId);
+        // 2. Option → Sequence → Scenario 순으로 집합 단위 소프트 딜리트
+        softDeleteScenarioTrees(List.of(scenario.getId()));
+
+        // 3. 커밋 후 상세 캐시 무효화
+        scenarioDetailCache.evictAfterCommit(scenarioId);
+    }
+
+    @Transactional
+    @Override
+    public int deleteAll(Collection<Long> scenarioIds) {
+        if (scenarioIds == null || scenarioIds.isEmpty()) {
+            return 0;
+        }
+        int deleted = softDeleteScenarioTrees(scenarioIds);
+        scenarioDetailCache.evictAllAfterCommit(scenarioIds);
+        return deleted;
+    }
 
-        // 3. Scenario 소프트 딜리트
-        scenario.delete();
+    @Transactional
+    @Override
+    public int deleteAllByUserId(Long userId) {
+        return deleteAll(scenarioRepository.findIdsByUserIdAndDeletedAtIsNull(userId));
     }
 
     /**
-     * 시나리오에 속한 모든 시퀀스와 옵션을 소프트 삭제합니다.
+     * 시나리오와 그에 속한 모든 시퀀스, 옵션을 소프트 삭제합니다.
      *
-     * <p>이 메서드는 특정 시나리오에 연결된 모든 학습 데이터를 안전하게 제거하기 위해 사용됩니다.
-     * 실제 데이터베이스에서 레코드를 삭제하는 대신 {@code deleted_at} 타임스탬프를 설정하여
-     * 데이터 무결성을 유지하면서 논리적으로 삭제합니다.</p>
+     * <p>시나리오 수와 관계없이 {@code UPDATE ... SET deleted_at} 세 문장으로 처리합니다.
+     * 옵션은 "살아있는 시퀀스의 옵션"만 대상으로 하므로 반드시 시퀀스보다 먼저 삭제합니다.
+     * 세 문장 모두 같은 시각을 기록합니다.</p>
      *
-     * <p><b>동작 흐름:</b></p>
-     * <ol>
-     *   <li>시나리오 ID로 모든 활성 시퀀스 조회</li>
-     *   <li>각 시퀀스에 속한 모든 활성 옵션 소프트 삭제</li>
-     *   <li>시퀀스 소프트 삭제</li>
-     * </ol>
+     * <p>이 메서드는 트랜잭션 내에서 실행되어야 하며, 실행 후 영속성 컨텍스트가 비워집니다.</p>
      *
-     * <p><b>주의사항:</b></p>
+     * @return 소프트 삭제된 시나리오 수
+     */
+    private int softDeleteScenarioTrees(Collection<Long> scenarioIds) {
+        LocalDateTime now = LocalDateTime.now();
+        optionRepository.softDeleteByScenarioIds(scenarioIds, now);
+        sequenceRepository.softDeleteByScenarioIds(scenarioIds, now);
+        return scenarioRepository.softDeleteByIds(scenarioIds, now);
+    }
+
+    /**
+     * 요청된 시퀀스 목록과 저장된 트리를 비교하여 달라진 행만 반영합니다.
+     *
+     * <p>시퀀스는 {@code seqNo}, 옵션은 같은 시퀀스 안의 {@code optionNo}로 매칭합니다.</p>
      * <ul>
-     *   <li>이 메서드는 트랜잭션 내에서 실행되어야 합니다</li>
-     *   <li>학생 학습 기록과의 무결성을 위해 실제 삭제가 아닌 소프트 삭제를 사용합니다</li>
+     *   <li>양쪽에 모두 있는 행: 내용이 다를 때만 갱신 (변경 감지로 UPDATE)</li>
+     *   <li>요청에만 있는 행: {@link ScenarioBulkRepository}로 일괄 INSERT</li>
+     *   <li>저장된 쪽에만 있는 행: 소프트 삭제</li>
      * </ul>
      *
-     * @param scenarioId 삭제할 시나리오의 ID (NotNull)
-     *
-     * @throws CustomException 시나리오를 찾을 수 없거나 삭제 처리 중 오류가 발생한 경우
-     *
-     * @since 1.0
+     * <p>변경되지 않은 행은 ID가 그대로 유지되므로 기존 답변 기록과의 연결도 보존됩니다.</p>
      */
-    private void softDeleteSequencesAndOptionsByScenarioId(Long scenarioId) {
-        List<Sequence> sequences = sequenceRepository.findByScenarioIdAndDeletedAtIsNull(scenarioId);
-        for (Sequence sequence : sequences) {
-            // Option 소프트 딜리트
-            List<Option> options = optionRepository.findBySequenceIdAndDeletedAtIsNull(sequence.getId());
-            for (Option option : options) {
+    private ScenarioUpdateResponse applySequenceDiff(Long scenarioId, List<SequenceRequest> requests) {
+        List<SequenceRequest> sequenceRequests = requests == null ? List.of() : requests;
+
+        // 1. 저장된 트리를 두 번의 쿼리로 조회
+        Map<Integer, Sequence> storedSequences = new HashMap<>();
+        int deleted = 0;
+        for (Sequence sequence : sequenceRepository.findByScenarioIdAndDeletedAtIsNull(scenarioId)) {
+            // 같은 seqNo가 중복 저장된 경우 첫 번째만 남기고 정리
+            if (storedSequences.putIfAbsent(sequence.getSeqNo(), sequence) != null) {
+                sequence.delete();
+                deleted++;
+            }
+        }
+        Map<Long, Map<Integer, Option>> storedOptions = new HashMap<>();
+        for (Option option : optionRepository.findAliveByScenarioId(scenarioId)) {
+            Map<Integer, Option> options = storedOptions.computeIfAbsent(option.getSequence().getId(), id -> new HashMap<>());
+            if (options.putIfAbsent(option.getOptionNo(), option) != null) {
+                option.delete();
+                deleted++;
+            }
+        }
+
+        int inserted = 0;
+        int updated = 0;
+        List<SequenceRequest> newSequences = new ArrayList<>();
+        List<Long> newOptionOwnerIds = new ArrayList<>();
+        List<OptionRequest> newOptions = new ArrayList<>();
+
+        // 2. 요청 기준으로 갱신/추가 대상 분류
+        for (SequenceRequest seq : sequenceRequests) {
+            Sequence sequence = storedSequences.remove(seq.seqNo());
+            if (sequence == null) {
+                newSequences.add(seq);
+                continue;
+            }
+            if (sequence.update(seq)) {
+                updated++;
+            }
+
+            Map<Integer, Option> options = storedOptions.getOrDefault(sequence.getId(), new HashMap<>());
+            for (OptionRequest opt : optionsOf(seq)) {
+                Option option = options.remove(opt.optionNo());
+                if (option == null) {
+                    newOptionOwnerIds.add(sequence.getId());
+                    newOptions.add(opt);
+                } else if (option.update(opt)) {
+                    updated++;
+                }
+            }
+            // 요청에서 빠진 옵션 삭제
+            for (Option option : options.values()) {
+                option.delete();
+                deleted++;
+            }
+        }
+
+        // 3. 요청에서 빠진 시퀀스와 그 옵션 삭제
+        for (Sequence sequence : storedSequences.values()) {
+            for (Option option : storedOptions.getOrDefault(sequence.getId(), Map.of()).values()) {
                 option.delete();
+                deleted++;
             }
-            // Sequence 소프트 딜리트
             sequence.delete();
+            deleted++;
+        }
+
+        // 4. 추가분 일괄 INSERT
+        if (!newOptions.isEmpty()) {
+            scenarioBulkRepository.insertOptionRows(newOptionOwnerIds, newOptions);
+            inserted += newOptions.size();
+        }
+        if (!newSequences.isEmpty()) {
+            List<Long> sequenceIds = scenarioBulkRepository.insertSequences(scenarioId, newSequences);
+            inserted += sequenceIds.size();
+            inserted += scenarioBulkRepository.insertOptions(sequenceIds, newSequences);
+        }
+
+        return ScenarioUpdateResponse.of(scenarioId, inserted, updated, deleted);
+    }
+
+    /**
+     * 요청 안에서 seqNo, 그리고 시퀀스별 optionNo가 중복되지 않는지 검사합니다.
+     *
+     * @throws CustomException 중복이 있는 경우 (data: 중복된 번호 목록, 예: {@code "seq_no=3"}, {@code "seq_no=3,option_no=2"})
+     */
+    private void validateUniqueNumbers(List<SequenceRequest> sequences) {
+        if (sequences == null) {
+            return;
+        }
+        Set<Integer> seqNos = new HashSet<>();
+        Set<String> duplicates = new LinkedHashSet<>();
+        for (SequenceRequest seq : sequences) {
+            if (!seqNos.add(seq.seqNo())) {
+                duplicates.add("seq_no=" + seq.seqNo());
+            }
+            Set<Integer> optionNos = new HashSet<>();
+            for (OptionRequest opt : optionsOf(seq)) {
+                if (!optionNos.add(opt.optionNo())) {
+                    duplicates.add("seq_no=" + seq.seqNo() + ",option_no=" + opt.optionNo());
+                }
+            }
+        }
+        if (!duplicates.isEmpty()) {
+            throw new CustomException(ErrorCode.SCENARIO_DUPLICATE_NUMBER, "중복된 번호: " + duplicates, List.copyOf(duplicates));
+        }
+    }
+
+    private static List<OptionRequest> optionsOf(SequenceRequest seq) {
+        return seq.options() == null ? List.of() : seq.options();
+    }
+
+    /**
+     * 시나리오의 Sequence와 Option을 계층별 다중 행 INSERT로 저장합니다.
+     *
+     * <p>행 단위 {@code save} 대신 {@link ScenarioBulkRepository}를 사용하여
+     * 시퀀스 20개, 옵션 4개짜리 시나리오 기준 100회 이상이던 INSERT 왕복을 2회로 줄입니다.</p>
+     */
+    private void saveSequencesAndOptions(Long scenarioId, List<SequenceRequest> sequences) {
+        if (sequences == null || sequences.isEmpty()) {
+            return;
         }
+        List<Long> sequenceIds = scenarioBulkRepository.insertSequences(scenarioId, sequences);
+        scenarioBulkRepository.insertOptions(sequenceIds, sequences);
     }
 
 
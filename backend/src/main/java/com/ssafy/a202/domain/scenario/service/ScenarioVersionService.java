@@ -0,0 +1,86 @@
+package com.ssafy.a202.domain.scenario.service;
+
+import com.ssafy.a202.common.exception.CustomException;
+import com.ssafy.a202.common.exception.ErrorCode;
+import com.ssafy.a202.domain.scenario.cache.ScenarioVersionCache;
+import com.ssafy.a202.domain.scenario.dto.ScenarioVersionContent;
+import com.ssafy.a202.domain.scenario.dto.ScenarioVersionRef;
+import com.ssafy.a202.domain.scenario.entity.Scenario;
+import com.ssafy.a202.domain.scenario.entity.ScenarioVersion;
+import com.ssafy.a202.domain.scenario.repository.ScenarioRepository;
+import com.ssafy.a202.domain.scenario.repository.ScenarioVersionRepository;
+import com.ssafy.a202.domain.scenario.repository.SequenceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 시나리오 버전 발행/조회 서비스
+ *
+ * <p>시나리오 생성·수정 트랜잭션 안에서 {@link #publish(Scenario)}로 새 버전을 발행하고,
+ * 세션 시작 시 {@link #resolveLatest(Long)}로 최신 버전을 서버에서 결정합니다.
+ * 버전이 도입되기 전에 만들어진 시나리오는 처음 플레이될 때 버전 1을 발행합니다.</p>
+ *
+ * <p>버전 번호는 "마지막 번호 + 1"로 정하므로, 발행 전에 시나리오 행에 쓰기 락을 잡아
+ * 같은 시나리오에 대한 동시 발행(수정과 첫 플레이가 겹치는 경우 포함)을 직렬화합니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ScenarioVersionService {
+
+    private final ScenarioVersionRepository scenarioVersionRepository;
+    private final ScenarioRepository scenarioRepository;
+    private final SequenceRepository sequenceRepository;
+    private final ScenarioVersionCache scenarioVersionCache;
+
+    /**
+     * 시나리오의 현재 살아있는 트리로 새 버전을 발행합니다.
+     * 시퀀스/옵션 저장이 끝난 뒤, 같은 트랜잭션 안에서 호출해야 합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public ScenarioVersion publish(Scenario scenario) {
+        // 락을 잡은 뒤에 마지막 번호를 읽어야 동시 발행이 같은 번호로 충돌하지 않음
+        scenarioRepository.findForVersionPublishById(scenario.getId())
+                .orElseThrow(() -> new CustomException(ErrorCode.SCENARIO_NOT_FOUND));
+        int nextVersionNo = scenarioVersionRepository.findMaxVersionNo(scenario.getId()) + 1;
+
+        ScenarioVersionContent content = ScenarioVersionContent.from(
+                sequenceRepository.findTreeRowsByScenarioId(scenario.getId()));
+
+        return scenarioVersionRepository.save(ScenarioVersion.of(scenario, nextVersionNo, content));
+    }
+
+    /**
+     * 시나리오의 최신 버전 식별 정보를 조회합니다. 발행된 버전이 없으면 지금 발행합니다.
+     * 세션은 버전 ID만 참조하므로 트리(JSON)는 읽지 않습니다.
+     */
+    @Transactional
+    public ScenarioVersionRef resolveLatest(Long scenarioId) {
+        return findLatestRef(scenarioId).orElseGet(() -> {
+            Scenario scenario = scenarioRepository.findForVersionPublishById(scenarioId)
+                    .orElseThrow(() -> new CustomException(ErrorCode.SCENARIO_NOT_FOUND));
+            // 락을 기다리는 동안 다른 요청이 버전 1을 발행했을 수 있으므로 다시 확인
+            return findLatestRef(scenarioId).orElseGet(() -> {
+                ScenarioVersion published = publish(scenario);
+                return new ScenarioVersionRef(published.getId(), published.getScenarioId(), published.getVersionNo());
+            });
+        });
+    }
+
+    private Optional<ScenarioVersionRef> findLatestRef(Long scenarioId) {
+        return scenarioVersionRepository.findLatestRefs(scenarioId, Limit.of(1)).stream().findFirst();
+    }
+
+    /**
+     * 버전 ID로 조회합니다. 버전은 불변이므로 한 번 읽은 뒤에는 캐시에서 반환합니다.
+     */
+    public ScenarioVersion get(Long versionId) {
+        return scenarioVersionCache.get(versionId, id -> scenarioVersionRepository.findById(id)
+                .orElseThrow(() -> new CustomException(ErrorCode.SCENARIO_VERSION_NOT_FOUND)));
+    }
+}
@@ -0,0 +1,332 @@
+package com.ssafy.a202.domain.session.buffer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.a202.domain.session.entity.Session;
+import com.ssafy.a202.domain.session.repository.AnswerBulkRepository;
+import com.ssafy.a202.domain.session.repository.SessionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 답변 스트림 플러셔
+ *
+ * <p>{@link AnswerWriteBuffer}가 적재한 엔트리를 컨슈머 그룹으로 읽어
+ * {@code answer.write-behind.batch-size}건씩 다중 행 INSERT 한 뒤 {@code XACK}/{@code XDEL} 합니다.
+ * INSERT는 {@code buffer_entry_id} 유니크 키로 멱등하게 처리되므로, ACK 전에 죽어 같은 엔트리를 다시 쓰더라도 중복 저장되지 않습니다.
+ * 엔트리에 {@code entryId} 필드가 있으면(이전 버전의 라이브 세션 답변) 스트림 ID 대신 그 값을 키로 사용합니다.</p>
+ *
+ * <p>세션 상태 확인: INSERT와 같은 트랜잭션에서 대상 세션을 공유 락으로 조회해 진행 중인 세션의 답변만 저장합니다.
+ * 세션 종료는 쓰기 락을 잡으므로 저장과 종료 집계가 엇갈리지 않습니다. 다른 노드에서 종료된 뒤
+ * {@link OpenSessionCache} TTL 안에 접수된 답변처럼 이미 종료·삭제된 세션의 답변은 저장하지 않고 데드레터로 옮깁니다.</p>
+ *
+ * <p>복구: 다른 노드가 죽거나 재시작되어 ACK되지 못한 엔트리는 {@code answer.write-behind.claim-idle} 이상
+ * 방치되면 {@code XCLAIM}으로 가져와 다시 씁니다.</p>
+ *
+ * <p>실패 격리: 다중 행 INSERT가 실패하면 같은 엔트리를 한 행씩 다시 INSERT 해 정상 행은 저장하고,
+ * 실패한 행만 pending으로 남깁니다. {@code answer.write-behind.max-deliveries}번 전달되고도 실패한 행과
+ * 해석할 수 없는 엔트리는 데드레터 스트림({@code answer.write-behind.dead-letter-key})으로 옮기고 ACK 하므로,
+ * 한 건의 잘못된 답변이 배치 전체를 계속 막지 않습니다.</p>
+ *
+ * <p>플러시는 공용 스케줄러({@code spring.task.scheduling})가 아닌 전용 스레드에서
+ * {@code answer.write-behind.flush-interval-ms} 간격으로 실행되므로, 스위퍼나 집계 갱신처럼 오래 걸리는 작업이
+ * 플러시를 지연시키지 않습니다. 복구({@link #recover()})는 지연에 민감하지 않아 공용 스케줄러에서 실행합니다.</p>
+ *
+ * <p>메트릭: {@code answer.buffer.flushed}, {@code answer.buffer.recovered}, {@code answer.buffer.poison},
+ * {@code answer.buffer.dead_lettered}, {@code answer.buffer.lag}(적재 → DB 반영까지 걸린 시간)</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "answer.write-behind.enabled", havingValue = "true")
+public class AnswerStreamFlusher {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper redisObjectMapper;
+    private final AnswerBulkRepository answerBulkRepository;
+    private final SessionRepository sessionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AnswerWriteBuffer answerWriteBuffer;
+    private final String group;
+    private final String consumerName;
+    private final int batchSize;
+    private final Duration claimIdle;
+    private final long maxDeliveries;
+    private final String deadLetterKey;
+    private final long flushIntervalMs;
+    private final ScheduledExecutorService flushExecutor;
+
+    private final Counter flushedCounter;
+    private final Counter recoveredCounter;
+    private final Counter poisonCounter;
+    private final Counter deadLetteredCounter;
+    private final Timer lagTimer;
+
+    public AnswerStreamFlusher(
+            RedisTemplate<String, String> redisTemplate,
+            @Qualifier("redisObjectMapper") ObjectMapper redisObjectMapper,
+            AnswerBulkRepository answerBulkRepository,
+            SessionRepository sessionRepository,
+            TransactionTemplate transactionTemplate,
+            AnswerWriteBuffer answerWriteBuffer,
+            MeterRegistry meterRegistry,
+            @Value("${answer.write-behind.group:answer-flusher}") String group,
+            @Value("${answer.write-behind.batch-size:500}") int batchSize,
+            @Value("${answer.write-behind.claim-idle:30s}") Duration claimIdle,
+            @Value("${answer.write-behind.max-deliveries:5}") long maxDeliveries,
+            @Value("${answer.write-behind.dead-letter-key:answers:stream:dlq}") String deadLetterKey,
+            @Value("${answer.write-behind.flush-interval-ms:200}") long flushIntervalMs
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisObjectMapper = redisObjectMapper;
+        this.answerBulkRepository = answerBulkRepository;
+        this.sessionRepository = sessionRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.answerWriteBuffer = answerWriteBuffer;
+        this.group = group;
+        this.consumerName = "flusher-" + UUID.randomUUID().toString().substring(0, 8);
+        this.batchSize = batchSize;
+        this.claimIdle = claimIdle;
+        this.maxDeliveries = maxDeliveries;
+        this.deadLetterKey = deadLetterKey;
+        this.flushIntervalMs = flushIntervalMs;
+        this.flushExecutor = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("answer-flush").factory());
+        ExecutorServiceMetrics.monitor(meterRegistry, flushExecutor, "answer-flush");
+
+        this.flushedCounter = Counter.builder("answer.buffer.flushed").register(meterRegistry);
+        this.recoveredCounter = Counter.builder("answer.buffer.recovered").register(meterRegistry);
+        this.poisonCounter = Counter.builder("answer.buffer.poison").register(meterRegistry);
+        this.deadLetteredCounter = Counter.builder("answer.buffer.dead_lettered").register(meterRegistry);
+        this.lagTimer = Timer.builder("answer.buffer.lag").register(meterRegistry);
+    }
+
+    @PostConstruct
+    void createGroup() {
+        try {
+            // 스트림이 없으면 함께 생성 (MKSTREAM)
+            streamOps().createGroup(answerWriteBuffer.getStreamKey(), ReadOffset.from("0"), group);
+        } catch (Exception e) {
+            // 이미 그룹이 있으면 BUSYGROUP 오류 → 무시
+            log.debug("답변 스트림 컨슈머 그룹 생성 생략: {}", e.getMessage());
+        }
+        flushExecutor.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flushExecutor.shutdown();
+    }
+
+    /**
+     * 새 엔트리를 읽어 DB에 반영합니다. 한 번에 batch-size건을 넘게 쌓여 있으면 다음 주기에 이어서 처리합니다.
+     */
+    @SuppressWarnings("unchecked") // StreamOffset 가변 인자
+    public void flush() {
+        try {
+            List<MapRecord<String, String, String>> records = streamOps().read(
+                    Consumer.from(group, consumerName),
+                    StreamReadOptions.empty().count(batchSize),
+                    StreamOffset.create(answerWriteBuffer.getStreamKey(), ReadOffset.lastConsumed())
+            );
+            if (records != null && !records.isEmpty()) {
+                // 처음 전달된 엔트리
+                flushedCounter.increment(write(records, Map.of()));
+            }
+            Long size = streamOps().size(answerWriteBuffer.getStreamKey());
+            answerWriteBuffer.updateBacklog(size == null ? 0 : size);
+        } catch (Exception e) {
+            // ACK하지 않은 엔트리는 pending으로 남아 recover()에서 재처리
+            log.warn("답변 스트림 플러시 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 오래 ACK되지 않은 엔트리(죽은 컨슈머 또는 플러시 실패분)를 가져와 다시 씁니다.
+     */
+    @Scheduled(fixedDelayString = "${answer.write-behind.recover-interval-ms:10000}")
+    public void recover() {
+        try {
+            PendingMessages pending = streamOps().pending(
+                    answerWriteBuffer.getStreamKey(), group, Range.unbounded(), batchSize);
+
+            List<RecordId> staleIds = new ArrayList<>();
+            Map<RecordId, Long> deliveries = new HashMap<>();
+            for (PendingMessage message : pending) {
+                if (message.getElapsedTimeSinceLastDelivery().compareTo(claimIdle) >= 0) {
+                    staleIds.add(message.getId());
+                    // 이번 XCLAIM으로 한 번 더 전달됨
+                    deliveries.put(message.getId(), message.getTotalDeliveryCount() + 1);
+                }
+            }
+            if (staleIds.isEmpty()) {
+                return;
+            }
+
+            List<MapRecord<String, String, String>> claimed = streamOps().claim(
+                    answerWriteBuffer.getStreamKey(), group, consumerName, claimIdle, staleIds.toArray(RecordId[]::new));
+            if (!claimed.isEmpty()) {
+                int written = write(claimed, deliveries);
+                recoveredCounter.increment(written);
+                log.info("미반영 답변 {}건 복구", written);
+            }
+        } catch (Exception e) {
+            log.warn("답변 스트림 복구 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 엔트리를 DB에 쓰고, 저장했거나 데드레터로 옮긴 엔트리만 ACK/삭제합니다.
+     *
+     * @param deliveries 엔트리별 전달 횟수 (없으면 첫 전달)
+     * @return 저장한 답변 수
+     */
+    private int write(List<MapRecord<String, String, String>> records, Map<RecordId, Long> deliveries) {
+        List<MapRecord<String, String, String>> parsed = new ArrayList<>(records.size());
+        List<String> entryIds = new ArrayList<>(records.size());
+        List<BufferedAnswer> answers = new ArrayList<>(records.size());
+        List<RecordId> doneIds = new ArrayList<>(records.size());
+
+        for (MapRecord<String, String, String> record : records) {
+            try {
+                answers.add(redisObjectMapper.readValue(
+                        record.getValue().get(AnswerWriteBuffer.PAYLOAD_FIELD), BufferedAnswer.class));
+                entryIds.add(record.getValue().getOrDefault(AnswerWriteBuffer.ENTRY_ID_FIELD, record.getId().getValue()));
+                parsed.add(record);
+            } catch (Exception e) {
+                // 해석할 수 없는 엔트리는 재시도해도 실패하므로 바로 데드레터로 이동
+                poisonCounter.increment();
+                deadLetter(record, e);
+                doneIds.add(record.getId());
+            }
+        }
+
+        int written = 0;
+        if (!answers.isEmpty()) {
+            try {
+                Set<Integer> closed = insertForOpenSessions(entryIds, answers);
+                written = answers.size() - closed.size();
+                for (int i = 0; i < parsed.size(); i++) {
+                    if (closed.contains(i)) {
+                        deadLetter(parsed.get(i), new IllegalStateException("진행 중이 아닌 세션의 답변"));
+                    }
+                    doneIds.add(parsed.get(i).getId());
+                }
+            } catch (DataAccessException e) {
+                // 배치 중 한 행 때문에 전체가 실패했을 수 있으므로 한 행씩 다시 시도
+                log.warn("답변 배치 INSERT 실패, 한 행씩 재시도: size={}, {}", answers.size(), e.getMessage());
+                for (int i = 0; i < parsed.size(); i++) {
+                    MapRecord<String, String, String> record = parsed.get(i);
+                    try {
+                        if (insertForOpenSessions(List.of(entryIds.get(i)), List.of(answers.get(i))).isEmpty()) {
+                            written++;
+                        } else {
+                            deadLetter(record, new IllegalStateException("진행 중이 아닌 세션의 답변"));
+                        }
+                        doneIds.add(record.getId());
+                    } catch (DataAccessException rowError) {
+                        if (deliveries.getOrDefault(record.getId(), 1L) >= maxDeliveries) {
+                            deadLetter(record, rowError);
+                            doneIds.add(record.getId());
+                        }
+                        // 그 외에는 pending으로 남겨 recover()에서 다시 시도 (일시적인 DB 장애 대비)
+                    }
+                }
+            }
+        }
+
+        if (!doneIds.isEmpty()) {
+            RecordId[] ids = doneIds.toArray(RecordId[]::new);
+            streamOps().acknowledge(answerWriteBuffer.getStreamKey(), group, ids);
+            streamOps().delete(answerWriteBuffer.getStreamKey(), ids);
+        }
+
+        long now = System.currentTimeMillis();
+        for (RecordId id : doneIds) {
+            lagTimer.record(Math.max(0, now - id.getTimestamp()), TimeUnit.MILLISECONDS);
+        }
+        return written;
+    }
+
+    /**
+     * 진행 중인 세션의 답변만 한 트랜잭션에서 INSERT 합니다.
+     * 세션 행의 공유 락은 커밋까지 유지되므로, 그동안 같은 세션의 종료는 기다립니다.
+     *
+     * @return 세션이 종료·삭제되어 저장하지 않은 답변의 인덱스
+     */
+    private Set<Integer> insertForOpenSessions(List<String> entryIds, List<BufferedAnswer> answers) {
+        return transactionTemplate.execute(status -> {
+            Set<Long> sessionIds = new HashSet<>();
+            answers.forEach(answer -> sessionIds.add(answer.sessionId()));
+            Set<Long> openIds = new HashSet<>();
+            for (Session session : sessionRepository.lockInProgress(sessionIds)) {
+                openIds.add(session.getId());
+            }
+
+            List<String> openEntryIds = new ArrayList<>(answers.size());
+            List<BufferedAnswer> openAnswers = new ArrayList<>(answers.size());
+            Set<Integer> closed = new HashSet<>();
+            for (int i = 0; i < answers.size(); i++) {
+                if (openIds.contains(answers.get(i).sessionId())) {
+                    openEntryIds.add(entryIds.get(i));
+                    openAnswers.add(answers.get(i));
+                } else {
+                    closed.add(i);
+                }
+            }
+            if (!openAnswers.isEmpty()) {
+                answerBulkRepository.insertBuffered(openEntryIds, openAnswers);
+            }
+            return closed;
+        });
+    }
+
+    /**
+     * 저장할 수 없는 엔트리를 원본 필드와 실패 사유와 함께 데드레터 스트림에 보관합니다.
+     */
+    private void deadLetter(MapRecord<String, String, String> record, Exception cause) {
+        Map<String, String> fields = new HashMap<>(record.getValue());
+        fields.put("sourceId", record.getId().getValue());
+        fields.put("error", String.valueOf(cause.getMessage()));
+        streamOps().add(StreamRecords.newRecord().in(deadLetterKey).ofMap(fields));
+        deadLetteredCounter.increment();
+        log.error("답변 엔트리를 데드레터로 이동: id={}, reason={}", record.getId(), cause.getMessage());
+    }
+
+    private StreamOperations<String, String, String> streamOps() {
+        return redisTemplate.opsForStream();
+    }
+}
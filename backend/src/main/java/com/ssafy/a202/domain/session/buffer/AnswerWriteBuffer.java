@@ -0,0 +1,172 @@
+package com.ssafy.a202.domain.session.buffer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 답변 write-behind 버퍼 (Redis Stream)
+ *
+ * <p>{@code answer.write-behind.enabled=true}일 때 답변을 MySQL 대신 Redis Stream({@code XADD})에 적재하고
+ * 스트림 엔트리 ID를 접수 번호로 돌려줍니다. 실제 INSERT는 {@link AnswerStreamFlusher}가 배치로 수행합니다.</p>
+ *
+ * <p>백프레셔: 플러셔가 측정한 미처리 엔트리 수가 {@code answer.write-behind.max-backlog} 이상이거나
+ * Redis 적재에 실패하면 {@link Optional#empty()}를 반환하고, 호출 측은 동기 INSERT로 처리합니다.</p>
+ */
+@Slf4j
+@Component
+public class AnswerWriteBuffer {
+
+    public static final String PAYLOAD_FIELD = "payload";
+    // 스트림 ID 대신 사용할 고유 키 (이전 버전이 스트림에도 적재하던 라이브 세션 답변: live-{세션 ID}-{순번})
+    public static final String ENTRY_ID_FIELD = "entryId";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper redisObjectMapper;
+    private final boolean enabled;
+    private final String streamKey;
+    private final long maxBacklog;
+    private final int pendingScanLimit;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter enqueuedCounter;
+    private final Counter fallbackCounter;
+
+    public AnswerWriteBuffer(
+            RedisTemplate<String, String> redisTemplate,
+            @Qualifier("redisObjectMapper") ObjectMapper redisObjectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${answer.write-behind.enabled:false}") boolean enabled,
+            @Value("${answer.write-behind.stream-key:answers:stream}") String streamKey,
+            @Value("${answer.write-behind.max-backlog:50000}") long maxBacklog,
+            @Value("${answer.write-behind.pending-scan-limit:5000}") int pendingScanLimit
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisObjectMapper = redisObjectMapper;
+        this.enabled = enabled;
+        this.streamKey = streamKey;
+        this.maxBacklog = maxBacklog;
+        this.pendingScanLimit = pendingScanLimit;
+
+        this.enqueuedCounter = Counter.builder("answer.buffer.enqueued").register(meterRegistry);
+        this.fallbackCounter = Counter.builder("answer.buffer.fallback").register(meterRegistry);
+        Gauge.builder("answer.buffer.backlog", backlog, AtomicLong::get).register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getStreamKey() {
+        return streamKey;
+    }
+
+    /**
+     * 답변을 스트림에 적재합니다.
+     *
+     * @return 스트림 엔트리 ID(접수 번호). 버퍼가 가득 찼거나 Redis 적재에 실패하면 empty
+     */
+    public Optional<String> offer(BufferedAnswer answer) {
+        if (backlog.get() >= maxBacklog) {
+            fallbackCounter.increment();
+            log.warn("답변 버퍼 적체로 동기 저장으로 전환: backlog={}", backlog.get());
+            return Optional.empty();
+        }
+        try {
+            String payload = redisObjectMapper.writeValueAsString(answer);
+            RecordId recordId = redisTemplate.opsForStream().add(
+                    StreamRecords.newRecord().in(streamKey).ofMap(Map.of(PAYLOAD_FIELD, payload)));
+            if (recordId == null) {
+                fallbackCounter.increment();
+                return Optional.empty();
+            }
+            backlog.incrementAndGet();
+            enqueuedCounter.increment();
+            return Optional.of(recordId.getValue());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("답변 직렬화 실패", e);
+        } catch (Exception e) {
+            fallbackCounter.increment();
+            log.warn("답변 버퍼 적재 실패, 동기 저장으로 전환: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 (스트림에 남아 있는) 답변의 세션 ID 목록을 조회합니다.
+     * 방치 세션 정리처럼 MySQL의 답변만 보고 판단하는 작업이 반영 전 답변을 놓치지 않도록 하기 위함입니다.
+     *
+     * @param limit 조회할 최대 엔트리 수
+     * @return 세션 ID 목록 (버퍼가 꺼져 있으면 빈 목록). 엔트리가 limit보다 많거나 조회에 실패하면 empty
+     */
+    public Optional<Set<Long>> pendingSessionIds(int limit) {
+        if (!enabled) {
+            return Optional.of(Set.of());
+        }
+        try {
+            Long size = redisTemplate.opsForStream().size(streamKey);
+            if (size == null || size == 0) {
+                return Optional.of(Set.of());
+            }
+            if (size > limit) {
+                return Optional.empty();
+            }
+            List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+                    .range(streamKey, Range.unbounded(), Limit.limit().count(limit));
+            Set<Long> sessionIds = new HashSet<>();
+            if (records != null) {
+                for (MapRecord<String, Object, Object> record : records) {
+                    Object payload = record.getValue().get(PAYLOAD_FIELD);
+                    if (payload != null) {
+                        JsonNode sessionId = redisObjectMapper.readTree(payload.toString()).get("sessionId");
+                        if (sessionId != null && sessionId.canConvertToLong()) {
+                            sessionIds.add(sessionId.asLong());
+                        }
+                    }
+                }
+            }
+            return Optional.of(sessionIds);
+        } catch (Exception e) {
+            log.warn("답변 스트림 조회 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 세션의 답변이 스트림에 남아 있을 수 있는지 확인합니다. (세션 종료 전 집계가 반영 전 답변을 놓치지 않도록)
+     *
+     * @return 남은 답변이 있거나, 스트림이 {@code answer.write-behind.pending-scan-limit}보다 길거나 조회에 실패해 알 수 없으면 true
+     */
+    public boolean mayHavePending(Long sessionId) {
+        return pendingSessionIds(pendingScanLimit)
+                .map(sessionIds -> sessionIds.contains(sessionId))
+                .orElse(true);
+    }
+
+    /**
+     * 플러셔가 측정한 스트림 길이로 적체량을 갱신합니다.
+     */
+    void updateBacklog(long size) {
+        backlog.set(size);
+    }
+}
@@ -0,0 +1,26 @@
+package com.ssafy.a202.domain.session.buffer;
+
+import com.ssafy.a202.domain.session.dto.GradedAnswer;
+
+/**
+ * DB 반영 전 Redis(write-behind 스트림, 라이브 세션 목록)에 머무는 답변 한 건
+ *
+ * @param sessionId         답변이 속한 세션 ID
+ * @param scenarioVersionId 세션이 플레이 중인 시나리오 버전 ID
+ * @param answer            서버가 채점한 답변 내용
+ * @param submittedAt       서버가 답변을 접수한 시각 (epoch millis, 저장 시 created_at으로 사용)
+ */
+public record BufferedAnswer(
+        Long sessionId,
+        Long scenarioVersionId,
+        GradedAnswer answer,
+        Long submittedAt
+) {
+    public static BufferedAnswer of(Long sessionId, Long scenarioVersionId, GradedAnswer answer) {
+        return new BufferedAnswer(sessionId, scenarioVersionId, answer, System.currentTimeMillis());
+    }
+
+    public BufferedAnswer withScenarioVersionId(Long scenarioVersionId) {
+        return new BufferedAnswer(sessionId, scenarioVersionId, answer, submittedAt);
+    }
+}
@@ -0,0 +1,49 @@
+package com.ssafy.a202.domain.session.buffer;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * write-behind 답변 제출용 진행 중 세션 캐시 (로컬)
+ *
+ * <p>라이브 상태가 없는 세션의 답변을 버퍼에 적재할 때, 답변마다 MySQL에서 세션 상태를 확인하지 않도록
+ * 진행 중임을 확인한 세션의 시나리오 버전 ID를 {@code answer.write-behind.open-session-ttl} 동안 보관합니다.</p>
+ *
+ * <p>세션이 이 노드에서 종료되면 바로 제거되지만, 다른 노드에서 종료된 경우에는 TTL 동안 답변이 더 접수될 수 있습니다.</p>
+ */
+@Component
+public class OpenSessionCache {
+
+    private final Cache<Long, OpenSession> cache;
+
+    public OpenSessionCache(
+            @Value("${answer.write-behind.open-session-ttl:5s}") Duration ttl
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 캐시에 없으면 loader로 확인합니다. loader가 예외를 던지면(종료·삭제된 세션) 캐시하지 않습니다.
+     */
+    public OpenSession get(Long sessionId, Function<Long, OpenSession> loader) {
+        return cache.get(sessionId, loader);
+    }
+
+    public void invalidate(Long sessionId) {
+        cache.invalidate(sessionId);
+    }
+
+    /**
+     * @param scenarioVersionId 버전 도입 이전 세션이면 null
+     */
+    public record OpenSession(Long sessionId, Long scenarioVersionId) {
+    }
+}
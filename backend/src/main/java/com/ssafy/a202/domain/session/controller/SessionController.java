@@ -1,20 +1,34 @@
 package com.ssafy.a202.domain.session.controller;
 
+import com.ssafy.a202.common.annotation.UserId;
 import com.ssafy.a202.common.entity.ApiResponse;
 import com.ssafy.a202.common.entity.ApiResponseEntity;
+import com.ssafy.a202.common.entity.CursorResponse;
 import com.ssafy.a202.common.entity.SuccessCode;
+import com.ssafy.a202.domain.session.dto.request.AnswerBulkRequest;
 import com.ssafy.a202.domain.session.dto.request.AnswerCreateRequest;
 import com.ssafy.a202.domain.session.dto.request.SessionStartRequest;
+import com.ssafy.a202.domain.session.dto.response.AnswerBulkResponse;
 import com.ssafy.a202.domain.session.dto.response.AnswerResponse;
+import com.ssafy.a202.domain.session.dto.response.SessionHistoryResponse;
 import com.ssafy.a202.domain.session.dto.response.SessionResponse;
+import com.ssafy.a202.domain.session.export.StudentAnswerCsvExporter;
 import com.ssafy.a202.domain.session.service.AnswerService;
+import com.ssafy.a202.domain.session.service.SessionHistoryService;
 import com.ssafy.a202.domain.session.service.SessionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.nio.charset.StandardCharsets;
 
 @RestController
 @RequiredArgsConstructor
@@ -24,6 +38,8 @@ public class SessionController {
 
     private final SessionService sessionService;
     private final AnswerService answerService;
+    private final SessionHistoryService sessionHistoryService;
+    private final StudentAnswerCsvExporter studentAnswerCsvExporter;
 
     @Operation(summary = "세션 시작", description = "학생이 시나리오 체험을 시작합니다.")
     @PostMapping("/start")
@@ -62,7 +78,7 @@ public class SessionController {
         );
     }
 
-    @Operation(summary = "답변 제출", description = "세션 내에서 학생의 답변을 저장합니다.")
+    @Operation(summary = "답변 제출", description = "세션 내에서 학생의 답변을 저장합니다. 라이브 세션 또는 write-behind 모드에서는 202와 접수 번호(receiptId)를 반환하고 나중에 저장됩니다.")
     @PostMapping("/{sessionId}/answers")
     public ResponseEntity<ApiResponse<AnswerResponse>> createAnswer(
             @Parameter(description = "답변을 제출할 세션 ID", required = true, example = "1")
@@ -70,6 +86,12 @@ public class SessionController {
             @RequestBody AnswerCreateRequest request
     ) {
         AnswerResponse response = answerService.create(sessionId, request);
+        if (response.isBuffered()) {
+            return ApiResponseEntity.accepted(
+                    SuccessCode.ANSWER_ACCEPTED,
+                    response
+            );
+        }
         return ApiResponseEntity.created(
                 "/api/sessions/"  + sessionId + "/answers/" + response.answerId(),
                 SuccessCode.ANSWER_CREATE_SUCCESS,
@@ -77,4 +99,71 @@ public class SessionController {
         );
     }
 
+    @Operation(summary = "답변 일괄 제출", description = "여러 세션의 답변을 한 번에 저장합니다. 항목별 저장 결과를 요청 순서대로 반환하므로 실패한 항목만 재전송하면 됩니다.")
+    @PostMapping("/answers/bulk")
+    public ResponseEntity<ApiResponse<AnswerBulkResponse>> createAnswers(
+            @RequestBody AnswerBulkRequest request
+    ) {
+        AnswerBulkResponse response = answerService.createBulk(request);
+        return ApiResponseEntity.success(
+                SuccessCode.ANSWER_BULK_CREATE_SUCCESS,
+                response
+        );
+    }
+
+    @Operation(summary = "학생 세션 이력 조회", description = "학생 한 명의 세션 이력을 커서 기반으로 최신순 조회합니다.")
+    @GetMapping("/history/students/{studentId}")
+    public ResponseEntity<ApiResponse<CursorResponse<SessionHistoryResponse>>> getStudentHistory(
+            @Parameter(hidden = true) @UserId Long userId,
+            @Parameter(description = "학생 ID", required = true, example = "1")
+            @PathVariable Long studentId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorResponse<SessionHistoryResponse> response = sessionHistoryService.getStudentHistory(userId, studentId, cursor, size);
+        return ApiResponseEntity.success(
+                SuccessCode.SESSION_HISTORY_GET_SUCCESS,
+                response
+        );
+    }
+
+    @Operation(summary = "담당 학생 세션 이력 조회", description = "담당 학생 전체(ORG_ADMIN은 기관 전체)의 세션 이력을 커서 기반으로 최신순 조회합니다.")
+    @GetMapping("/history")
+    public ResponseEntity<ApiResponse<CursorResponse<SessionHistoryResponse>>> getTeacherHistory(
+            @Parameter(hidden = true) @UserId Long userId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorResponse<SessionHistoryResponse> response = sessionHistoryService.getTeacherHistory(userId, cursor, size);
+        return ApiResponseEntity.success(
+                SuccessCode.SESSION_HISTORY_GET_SUCCESS,
+                response
+        );
+    }
+
+    @Operation(summary = "학생 답변 이력 내보내기", description = "학생의 전체 답변 이력을 CSV로 내려받습니다. gzip=true이면 .csv.gz로 압축합니다.")
+    @GetMapping("/history/students/{studentId}/export")
+    public WebAsyncTask<Void> exportStudentAnswers(
+            @Parameter(hidden = true) @UserId Long userId,
+            @Parameter(description = "학생 ID", required = true, example = "1")
+            @PathVariable Long studentId,
+            @Parameter(description = "gzip 압축 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response
+    ) {
+        String fileName = sessionHistoryService.prepareAnswerExport(userId, studentId) + (gzip ? ".csv.gz" : ".csv");
+        // 동시 내보내기 수를 넘으면 여기서 503 (파일 헤더를 쓰기 전에 거부)
+        WebAsyncTask<Void> task = studentAnswerCsvExporter.writeAsync(studentId, response, gzip);
+
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName, StandardCharsets.UTF_8).build().toString());
+        response.setContentType(gzip
+                ? "application/gzip"
+                : new MediaType("text", "csv", StandardCharsets.UTF_8).toString());
+        return task;
+    }
 }
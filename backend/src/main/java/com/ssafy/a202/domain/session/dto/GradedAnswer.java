@@ -0,0 +1,44 @@
+package com.ssafy.a202.domain.session.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.ssafy.a202.domain.session.dto.request.AnswerCreateRequest;
+
+/**
+ * 서버가 채점을 마친 답변 한 건
+ *
+ * <p>클라이언트 요청({@link AnswerCreateRequest})과 분리해, 정답 번호와 정답 여부는 서버가 정한 값만 담습니다.
+ * Redis 버퍼(write-behind 스트림, 라이브 세션 목록)에 JSON으로 저장되며,
+ * 이전 형식(요청 DTO)으로 적재된 엔트리도 읽을 수 있도록 모르는 필드는 무시합니다.</p>
+ *
+ * @param correctOptionNo 시나리오 버전 기준 정답 옵션 번호
+ * @param isCorrect       선택한 옵션이 정답인지 여부
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record GradedAnswer(
+        Long sequenceId,
+        int seqNo,
+        int correctOptionNo,
+        int selectedOptionNo,
+        boolean isCorrect,
+        int attemptNo,
+        String audioS3Key,
+        String transcribedText,
+        double similarityScore
+) {
+    public static GradedAnswer of(AnswerCreateRequest request, int correctOptionNo) {
+        return new GradedAnswer(
+                request.sequenceId(),
+                request.seqNo(),
+                correctOptionNo,
+                request.selectedOptionNo(),
+                request.selectedOptionNo() == correctOptionNo,
+                request.attemptNo(),
+                request.audioS3Key(),
+                request.transcribedText(),
+                request.similarityScore()
+        );
+    }
+}
@@ -0,0 +1,15 @@
+package com.ssafy.a202.domain.session.dto;
+
+/**
+ * 세션 종료 시 MySQL에 한 번 기록하는 답변 집계
+ *
+ * @param answerCount       제출한 답변 수
+ * @param correctCount      정답 수
+ * @param averageSimilarity 평균 유사도 점수 (답변이 없으면 null)
+ */
+public record SessionAnswerStats(
+        long answerCount,
+        long correctCount,
+        Double averageSimilarity
+) {
+}
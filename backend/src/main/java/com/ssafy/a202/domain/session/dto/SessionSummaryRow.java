@@ -0,0 +1,28 @@
+package com.ssafy.a202.domain.session.dto;
+
+import com.ssafy.a202.domain.session.entity.SessionStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * 세션 목록 조회 행 (시나리오 제목/썸네일/카테고리 포함)
+ *
+ * <p>답변 집계는 종료 시 세션 행에 기록된 값이므로 답변 행을 읽지 않습니다 (진행 중 세션은 null).
+ * 제목과 썸네일은 세션이 플레이한 시나리오 버전 → 버전 도입 이전 스냅샷 → 현재 시나리오 순으로 채웁니다.</p>
+ */
+public record SessionSummaryRow(
+        Long sessionId,
+        Long studentId,
+        String studentName,
+        Long scenarioId,
+        String scenarioTitle,
+        String thumbnailS3Key,
+        String categoryName,
+        SessionStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime endedAt,
+        Integer answerCount,
+        Integer correctCount,
+        Double averageSimilarity
+) {
+}
@@ -0,0 +1,25 @@
+package com.ssafy.a202.domain.session.dto.request;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+@Schema(description = "답변 일괄 제출 요청 (여러 세션의 답변을 한 번에 전송)")
+public record AnswerBulkRequest(
+        @Schema(description = "제출할 답변 목록 (최대 500건)", requiredMode = Schema.RequiredMode.REQUIRED)
+        List<Item> answers
+) {
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    @Schema(description = "일괄 제출 항목")
+    public record Item(
+            @Schema(description = "답변을 제출할 세션 ID", example = "1", requiredMode = Schema.RequiredMode.REQUIRED)
+            Long sessionId,
+
+            @Schema(description = "답변 내용", requiredMode = Schema.RequiredMode.REQUIRED)
+            AnswerCreateRequest answer
+    ) {
+    }
+}
@@ -4,6 +4,12 @@ import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+/**
+ * 답변 제출 요청
+ *
+ * <p>질문·옵션 텍스트와 정답 여부는 받지 않습니다. 텍스트는 시나리오 버전에서 조회하고,
+ * 채점은 서버가 합니다. (이전 클라이언트가 보내는 해당 필드는 무시됩니다)</p>
+ */
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
 @Schema(description = "답변 제출 저장 요청")
 public record AnswerCreateRequest(
@@ -13,30 +19,9 @@ public record AnswerCreateRequest(
         @Schema(description = "시퀀스 번호", example = "1")
         int seqNo,
 
-        @Schema(description = "시퀀스 질문 내용", example = "마트 점원에게 뭐라고 말해야 할까요?")
-        String seqQuestion,
-
-        @Schema(description = "정답 옵션 번호", example = "2")
-        int correctOptionNo,
-
-        @Schema(description = "정답 옵션 텍스트", example = "안녕하세요")
-        String correctOptionText,
-
-        @Schema(description = "정답 옵션 오디오 S3 키", example = "options/audio/correct123.mp3")
-        String correctOptionS3Key,
-
         @Schema(description = "선택한 옵션 번호", example = "2")
         int selectedOptionNo,
 
-        @Schema(description = "선택한 옵션 텍스트", example = "안녕하세요")
-        String selectedOptionText,
-
-        @Schema(description = "선택한 옵션 오디오 S3 키", example = "options/audio/selected123.mp3")
-        String selectedOptionS3Key,
-
-        @Schema(description = "정답 여부", example = "true")
-        boolean isCorrect,
-
         @Schema(description = "n번째 시도", example = "1", minimum = "1")
         int attemptNo,
 
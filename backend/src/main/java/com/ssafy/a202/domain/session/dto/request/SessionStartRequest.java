@@ -2,9 +2,14 @@ package com.ssafy.a202.domain.session.dto.request;
 
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
 import com.fasterxml.jackson.databind.annotation.JsonNaming;
-import com.ssafy.a202.domain.session.dto.ScenarioSnapshot;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+/**
+ * 세션 시작 요청
+ *
+ * <p>시나리오 내용은 서버가 최신 시나리오 버전으로 결정하므로 받지 않습니다.
+ * (이전 클라이언트가 보내는 {@code scenario_snapshot}은 무시됩니다)</p>
+ */
 @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
 @Schema(description = "세션 시작 요청")
 public record SessionStartRequest(
@@ -12,9 +17,6 @@ public record SessionStartRequest(
         Long studentId,
 
         @Schema(description = "시나리오 ID", example = "5", requiredMode = Schema.RequiredMode.REQUIRED)
-        Long scenarioId,
-
-        @Schema(description = "시나리오 스냅샷 정보", requiredMode = Schema.RequiredMode.REQUIRED)
-        ScenarioSnapshot scenarioSnapshot
+        Long scenarioId
 ) {
 }
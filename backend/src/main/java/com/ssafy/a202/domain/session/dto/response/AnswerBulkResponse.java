@@ -0,0 +1,43 @@
+package com.ssafy.a202.domain.session.dto.response;
+
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.ssafy.a202.common.exception.ErrorCode;
+
+import java.util.List;
+
+/**
+ * 답변 일괄 제출 결과
+ *
+ * <p>{@code results}는 요청 순서와 같으며, 클라이언트는 {@code saved=false}인 항목만 재전송하면 됩니다.</p>
+ */
+@JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record AnswerBulkResponse(
+        int requestedCount,
+        int savedCount,
+        int failedCount,
+        List<ItemResult> results
+) {
+    @JsonNaming(PropertyNamingStrategies.SnakeCaseStrategy.class)
+    public record ItemResult(
+            int index,
+            Long sessionId,
+            boolean saved,
+            Long answerId,
+            String errorCode,
+            String message
+    ) {
+        public static ItemResult saved(int index, Long sessionId, Long answerId) {
+            return new ItemResult(index, sessionId, true, answerId, null, null);
+        }
+
+        public static ItemResult failed(int index, Long sessionId, ErrorCode errorCode) {
+            return new ItemResult(index, sessionId, false, null, errorCode.name(), errorCode.getMessage());
+        }
+    }
+
+    public static AnswerBulkResponse of(List<ItemResult> results) {
+        int saved = (int) results.stream().filter(ItemResult::saved).count();
+        return new AnswerBulkResponse(results.size(), saved, results.size() - saved, results);
+    }
+}
@@ -1,13 +1,31 @@
 package com.ssafy.a202.domain.session.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.ssafy.a202.domain.session.entity.Answer;
 
 public record AnswerResponse(
-        Long answerId
+        Long answerId,
+        String receiptId
 ) {
     public static AnswerResponse of(Answer answer) {
         return new AnswerResponse(
-                answer.getId()
+                answer.getId(),
+                null
         );
     }
+
+    /**
+     * write-behind 버퍼에 접수된 경우: 답변 ID 대신 접수 번호(스트림 엔트리 ID)를 반환합니다.
+     */
+    public static AnswerResponse buffered(String receiptId) {
+        return new AnswerResponse(
+                null,
+                receiptId
+        );
+    }
+
+    @JsonIgnore
+    public boolean isBuffered() {
+        return receiptId != null;
+    }
 }
@@ -0,0 +1,40 @@
+package com.ssafy.a202.domain.session.dto.response;
+
+import com.ssafy.a202.domain.session.dto.SessionSummaryRow;
+import com.ssafy.a202.domain.session.entity.SessionStatus;
+
+import java.time.LocalDateTime;
+
+public record SessionHistoryResponse(
+        Long sessionId,
+        Long studentId,
+        String studentName,
+        Long scenarioId,
+        String scenarioTitle,
+        String thumbnailUrl,
+        String categoryName,
+        SessionStatus status,
+        Integer answerCount,
+        Integer correctCount,
+        Double averageSimilarity,
+        LocalDateTime createdAt,
+        LocalDateTime endedAt
+) {
+    public static SessionHistoryResponse of(SessionSummaryRow row, String thumbnailUrl) {
+        return new SessionHistoryResponse(
+                row.sessionId(),
+                row.studentId(),
+                row.studentName(),
+                row.scenarioId(),
+                row.scenarioTitle(),
+                thumbnailUrl,
+                row.categoryName(),
+                row.status(),
+                row.answerCount(),
+                row.correctCount(),
+                row.averageSimilarity(),
+                row.createdAt(),
+                row.endedAt()
+        );
+    }
+}
@@ -1,6 +1,6 @@
 package com.ssafy.a202.domain.session.entity;
 
-import com.ssafy.a202.domain.session.dto.request.AnswerCreateRequest;
+import com.ssafy.a202.domain.session.dto.GradedAnswer;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -9,7 +9,11 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "answers")
+@Table(
+        name = "answers",
+        uniqueConstraints = @UniqueConstraint(name = "uk_answers_buffer_entry_id", columnNames = "buffer_entry_id"),
+        indexes = @Index(name = "idx_answers_inserted_at", columnList = "inserted_at")
+)
 @Getter
 @Builder
 @AllArgsConstructor
@@ -25,21 +29,26 @@ public class Answer {
     @JoinColumn(name = "session_id", nullable = false)
     private Session session;
 
+    /**
+     * 답변이 속한 시나리오 버전. 질문/옵션 텍스트는 버전에서 조회합니다.
+     */
+    private Long scenarioVersionId;
+
     private Long sequenceId;
 
     @Column(nullable = false)
     private int seqNo;
 
-    @Column(nullable = false)
-    private String seqQuestion;
-
     @Column(nullable = false)
     private int correctOptionNo;
-    private String correctOptionText;
-    private String correctOptionS3Key;
 
     @Column(nullable = false)
     private int selectedOptionNo;
+
+    // 시나리오 버전 도입 이전 답변의 텍스트 스냅샷 (신규 답변에서는 채우지 않음)
+    private String seqQuestion;
+    private String correctOptionText;
+    private String correctOptionS3Key;
     private String selectedOptionText;
     private String selectedOptionS3Key;
 
@@ -49,6 +58,12 @@ public class Answer {
     @Column(nullable = false)
     private Integer attemptNo;
 
+    /**
+     * write-behind 모드로 저장된 경우의 Redis Stream 엔트리 ID (중복 플러시 방지용)
+     */
+    @Column(length = 32)
+    private String bufferEntryId;
+
     private String audioS3Key;
     private String transcribedText;
     private double similarityScore;
@@ -57,25 +72,31 @@ public class Answer {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    /**
+     * 행이 실제로 INSERT 된 시각 (DB 기본값으로만 채움)
+     *
+     * <p>write-behind·라이브 경로는 {@code created_at}에 제출 시각을 넣으므로 저장 시점보다 이를 수 있습니다.
+     * 분석 집계의 변경 감지는 이 컬럼을 기준으로 합니다.</p>
+     */
+    @Column(name = "inserted_at", insertable = false, updatable = false,
+            columnDefinition = "datetime(6) default current_timestamp(6)")
+    private LocalDateTime insertedAt;
+
     private LocalDateTime deletedAt;
 
-    public static Answer of(Session session, AnswerCreateRequest request) {
+    public static Answer of(Session session, GradedAnswer graded) {
         return Answer.builder()
                 .session(session)
-                .sequenceId(request.sequenceId())
-                .seqNo(request.seqNo())
-                .seqQuestion(request.seqQuestion())
-                .correctOptionNo(request.correctOptionNo())
-                .correctOptionText(request.correctOptionText())
-                .correctOptionS3Key(request.correctOptionS3Key())
-                .selectedOptionNo(request.selectedOptionNo())
-                .selectedOptionText(request.selectedOptionText())
-                .selectedOptionS3Key(request.selectedOptionS3Key())
-                .isCorrect(request.isCorrect())
-                .attemptNo(request.attemptNo())
-                .audioS3Key(request.audioS3Key())
-                .transcribedText(request.transcribedText())
-                .similarityScore(request.similarityScore())
+                .scenarioVersionId(session.getScenarioVersionId())
+                .sequenceId(graded.sequenceId())
+                .seqNo(graded.seqNo())
+                .correctOptionNo(graded.correctOptionNo())
+                .selectedOptionNo(graded.selectedOptionNo())
+                .isCorrect(graded.isCorrect())
+                .attemptNo(graded.attemptNo())
+                .audioS3Key(graded.audioS3Key())
+                .transcribedText(graded.transcribedText())
+                .similarityScore(graded.similarityScore())
                 .build();
     }
 
@@ -1,13 +1,27 @@
 package com.ssafy.a202.domain.session.entity;
 
 import com.ssafy.a202.common.entity.BaseTimeEntity;
-import com.ssafy.a202.domain.session.dto.request.SessionStartRequest;
+import com.ssafy.a202.domain.scenario.dto.ScenarioVersionRef;
+import com.ssafy.a202.domain.session.dto.SessionAnswerStats;
 import com.ssafy.a202.domain.student.entity.Student;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
-@Table(name = "sessions")
+@Table(
+        name = "sessions",
+        indexes = {
+                @Index(name = "idx_sessions_status_id", columnList = "session_status, id"),
+                @Index(name = "idx_sessions_student_deleted_created", columnList = "student_id, deleted_at, created_at, id"),
+                @Index(name = "idx_sessions_user_deleted_created", columnList = "user_id, deleted_at, created_at, id"),
+                @Index(name = "idx_sessions_org_deleted_created", columnList = "org_id, deleted_at, created_at, id"),
+                @Index(name = "idx_sessions_deleted_created", columnList = "deleted_at, created_at, id"),
+                @Index(name = "idx_sessions_created_at", columnList = "created_at"),
+                @Index(name = "idx_sessions_updated_at", columnList = "updated_at")
+        }
+)
 @Getter
 @Builder
 @AllArgsConstructor
@@ -21,44 +35,67 @@ public class Session extends BaseTimeEntity {
     private Long studentId;
     private Long scenarioId;
 
+    /**
+     * 학생의 담임 교사, 기관 (교사/기관별 이력을 인덱스 순서로 조회하기 위한 비정규화).
+     * 담임이 바뀌면 {@code SessionRepository#reassignTeacher}로 함께 바꿉니다.
+     */
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "org_id")
+    private Long organizationId;
+
+    /**
+     * 플레이한 시나리오 버전. 시나리오 텍스트는 버전에만 저장되고 세션은 ID만 참조합니다.
+     */
+    private Long scenarioVersionId;
+
     @Column(nullable = false)
     private String stdFullName;
 
-    @Column(nullable = false)
+    // 시나리오 버전 도입 이전 세션의 스냅샷 (신규 세션에서는 채우지 않음)
     private String scnTitle;
 
-    @Column(nullable = false)
     private String scnDescription;
 
     private String scnThumbnailS3Key;
 
     private String scnBackgroundS3Key;
 
-    @Column(nullable = false)
     private String scnDifficultyLevel;
 
     @Column(nullable = false)
     @Enumerated(EnumType.STRING)
     private SessionStatus sessionStatus;
 
-    public void finish() {
-        this.sessionStatus = SessionStatus.COMPLETED;
-    }
+    // 종료 시 한 번 기록하는 답변 집계 (집계 도입 이전 세션과 진행 중 세션은 null)
+    private Integer answerCount;
+
+    private Integer correctCount;
+
+    private Double averageSimilarity;
+
+    private LocalDateTime endedAt;
 
-    public void abort() {
-        this.sessionStatus = SessionStatus.ABORTED;
+    /**
+     * 세션을 종료 상태로 바꾸고 답변 집계를 기록합니다.
+     */
+    public void end(SessionStatus status, SessionAnswerStats stats) {
+        this.sessionStatus = status;
+        this.answerCount = (int) stats.answerCount();
+        this.correctCount = (int) stats.correctCount();
+        this.averageSimilarity = stats.averageSimilarity();
+        this.endedAt = LocalDateTime.now();
     }
 
-    public static Session of(Student student, SessionStartRequest request) {
+    public static Session of(Student student, ScenarioVersionRef scenarioVersion) {
         return Session.builder()
-                .scenarioId(request.scenarioId())
+                .scenarioId(scenarioVersion.scenarioId())
+                .scenarioVersionId(scenarioVersion.id())
                 .studentId(student.getId())
+                .userId(student.getUser().getId())
+                .organizationId(student.getOrganization().getId())
                 .stdFullName(student.getFullName())
-                .scnTitle(request.scenarioSnapshot().scnTitle())
-                .scnDescription(request.scenarioSnapshot().scnDescription())
-                .scnThumbnailS3Key(request.scenarioSnapshot().scnThumbnailS3Key())
-                .scnBackgroundS3Key(request.scenarioSnapshot().scnBackgroundS3Key())
-                .scnDifficultyLevel(request.scenarioSnapshot().scnDifficultyLevel())
                 .sessionStatus(SessionStatus.IN_PROGRESS)
                 .build();
     }
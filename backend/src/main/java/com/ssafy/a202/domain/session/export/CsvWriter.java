@@ -0,0 +1,65 @@
+package com.ssafy.a202.domain.session.export;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * RFC 4180 형식의 CSV 행 작성기
+ *
+ * <p>쉼표, 따옴표, 줄바꿈이 포함된 값만 따옴표로 감싸고 내부 따옴표는 두 번 씁니다.
+ * 스프레드시트에서 수식으로 해석되지 않도록 {@code = + - @}, 탭, CR로 시작하는 문자열 앞에는 {@code '}를 붙입니다. (OWASP CSV Injection)
+ * 버퍼링과 flush는 전달받은 {@link Writer}에 맡깁니다.</p>
+ */
+class CsvWriter {
+
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final Writer writer;
+
+    CsvWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    void writeRow(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeValue(values[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeValue(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (value instanceof String && !text.isEmpty() && FORMULA_PREFIXES.indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (!needsQuoting(text)) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static boolean needsQuoting(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,162 @@
+package com.ssafy.a202.domain.session.export;
+
+import com.ssafy.a202.common.exception.CustomException;
+import com.ssafy.a202.common.exception.ErrorCode;
+import com.ssafy.a202.domain.session.repository.AnswerExportRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.WebAsyncTask;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 학생 답변 이력 CSV 내보내기
+ *
+ * <p>{@link AnswerExportRepository}가 한 행씩 넘겨주는 결과를 바로 응답 스트림에 씁니다.
+ * 메모리에는 버퍼({@value #BUFFER_SIZE}바이트)와 현재 행만 남으므로 이력이 수년치여도 힙 사용량이 일정합니다.</p>
+ *
+ * <p>엑셀에서 한글이 깨지지 않도록 UTF-8 BOM을 붙이며, 요청 시 gzip으로 압축합니다.</p>
+ *
+ * <p>내보내기는 다른 비동기 요청보다 오래 걸리므로 전역 비동기 제한 시간 대신
+ * {@code export.timeout}을 가진 {@link WebAsyncTask}로 실행합니다.</p>
+ *
+ * <p>내보내기 하나가 끝날 때까지 DB 커넥션 하나를 점유하므로 동시 실행 수를 {@code export.max-concurrent}로 제한합니다.
+ * 자리가 없으면 기다리지 않고 503({@link ErrorCode#ANSWER_EXPORT_BUSY})으로 거부해 커넥션 풀이 고갈되지 않게 합니다.
+ * 메트릭: {@code export.answers.rows}, {@code export.answers.rejected}</p>
+ */
+@Slf4j
+@Component
+public class StudentAnswerCsvExporter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String[] HEADER = {
+            "session_id", "session_started_at", "session_ended_at", "session_status", "scenario_id", "scenario_title",
+            "seq_no", "attempt_no", "selected_option_no", "correct_option_no", "is_correct", "similarity_score",
+            "transcribed_text", "answered_at"
+    };
+
+    private final AnswerExportRepository answerExportRepository;
+    private final Duration timeout;
+    private final Semaphore permits;
+    private final Counter exportedRowCounter;
+    private final Counter rejectedCounter;
+
+    public StudentAnswerCsvExporter(
+            AnswerExportRepository answerExportRepository,
+            MeterRegistry meterRegistry,
+            @Value("${export.timeout:10m}") Duration timeout,
+            @Value("${export.max-concurrent:2}") int maxConcurrent
+    ) {
+        this.answerExportRepository = answerExportRepository;
+        this.timeout = timeout;
+        this.permits = new Semaphore(maxConcurrent);
+        this.exportedRowCounter = Counter.builder("export.answers.rows").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("export.answers.rejected").register(meterRegistry);
+    }
+
+    /**
+     * 실행 자리를 잡고 응답 스트림에 CSV를 쓰는 비동기 작업을 만듭니다. 헤더는 작업을 반환하기 전에 설정해야 합니다.
+     *
+     * @throws CustomException 동시 내보내기 수가 가득 찬 경우
+     */
+    public WebAsyncTask<Void> writeAsync(Long studentId, HttpServletResponse response, boolean gzip) {
+        if (!permits.tryAcquire()) {
+            rejectedCounter.increment();
+            throw new CustomException(ErrorCode.ANSWER_EXPORT_BUSY);
+        }
+        // 작업과 요청 완료 콜백 중 먼저 가져간 쪽이 자리를 반납 (작업이 실행되지 못한 경우 대비)
+        AtomicBoolean claimed = new AtomicBoolean();
+        WebAsyncTask<Void> task = new WebAsyncTask<>(timeout.toMillis(), () -> {
+            if (!claimed.compareAndSet(false, true)) {
+                return null;
+            }
+            try {
+                write(studentId, response.getOutputStream(), gzip);
+            } finally {
+                permits.release();
+            }
+            return null;
+        });
+        task.onCompletion(() -> {
+            if (claimed.compareAndSet(false, true)) {
+                permits.release();
+            }
+        });
+        return task;
+    }
+
+    /**
+     * 학생의 전체 답변 이력을 CSV로 씁니다.
+     *
+     * @param out  응답 스트림 (닫지 않음)
+     * @param gzip gzip 압축 여부
+     */
+    public void write(Long studentId, OutputStream out, boolean gzip) throws IOException {
+        GZIPOutputStream gzipOut = gzip ? new GZIPOutputStream(out, BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(gzip ? gzipOut : out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        CsvWriter csv = new CsvWriter(writer);
+
+        long startedAt = System.nanoTime();
+        long[] rows = {0};
+
+        writer.write('\uFEFF'); // UTF-8 BOM
+        csv.writeRow((Object[]) HEADER);
+        try {
+            answerExportRepository.streamStudentAnswers(studentId, rs -> {
+                try {
+                    csv.writeRow(
+                            rs.getLong("session_id"),
+                            toText(rs.getTimestamp("session_started_at")),
+                            toText(rs.getTimestamp("session_ended_at")),
+                            rs.getString("session_status"),
+                            rs.getObject("scenario_id"),
+                            rs.getString("scenario_title"),
+                            rs.getInt("seq_no"),
+                            rs.getObject("attempt_no"),
+                            rs.getInt("selected_option_no"),
+                            rs.getInt("correct_option_no"),
+                            rs.getBoolean("is_correct"),
+                            rs.getDouble("similarity_score"),
+                            rs.getString("transcribed_text"),
+                            toText(rs.getTimestamp("answered_at"))
+                    );
+                } catch (IOException e) {
+                    // 클라이언트 연결 종료 등 → 리포지토리가 쿼리를 취소하고 커서를 닫음
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            exportedRowCounter.increment(rows[0]);
+        }
+
+        writer.flush();
+        if (gzipOut != null) {
+            gzipOut.finish();
+        }
+        log.info("답변 이력 내보내기: studentId={}, rows={}, gzip={}, elapsed={}ms",
+                studentId, rows[0], gzip, (System.nanoTime() - startedAt) / 1_000_000);
+    }
+
+    private static String toText(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime().toString();
+    }
+}
@@ -0,0 +1,347 @@
+package com.ssafy.a202.domain.session.live;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.a202.domain.session.buffer.BufferedAnswer;
+import com.ssafy.a202.domain.session.entity.Session;
+import com.ssafy.a202.domain.session.entity.SessionStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 진행 중인 세션의 Redis 상태 저장소
+ *
+ * <p>세션이 시작되면 상태를 Redis에 올리고, 진행 중 답변은 요청마다 MySQL에 쓰지 않고 Redis에 쌓습니다.
+ * 세션 종료(완료/중단) 시 한 번에 MySQL로 옮기므로 DB 부하가 클릭 수가 아니라 세션 수에 비례합니다.</p>
+ *
+ * <ul>
+ *   <li>{@code session:live:{id}} (Hash): status, studentId, scenarioId, scenarioVersionId, startedAt,
+ *       lastActivityAt, closingAt, answerCount, correctCount, {@code attempts:{sequenceId}}</li>
+ *   <li>{@code session:live:{id}:answers} (List): 답변 JSON ({@link BufferedAnswer}), 종료 시 한 번에 저장</li>
+ * </ul>
+ *
+ * <p>내구성: 진행 중 답변은 Redis 목록에만 있으므로 Redis는 AOF 등으로 영속화해 운영해야 합니다.
+ * 목록은 답변이 추가될 때마다 {@code session.live-state.ttl}로 연장되고, 방치된 세션은 TTL보다 훨씬 짧은
+ * {@code session.sweeper.idle-timeout} 이후 정리 작업이 중단 처리하면서 목록을 MySQL에 옮깁니다.
+ * 종료 중 노드가 죽어도 목록은 {@code CLOSING} 상태와 함께 남아 있어 다시 종료할 수 있고,
+ * 저장 시 {@code live-{세션 ID}-{순번}}을 고유 키로 쓰므로 다시 저장해도 중복되지 않습니다.</p>
+ *
+ * <p>상태 확인과 변경은 Lua 스크립트로 원자적으로 처리합니다. 종료 중에는 상태를 {@code CLOSING}으로 바꿔
+ * 추가 답변을 막고, DB 반영이 실패하면 {@link #reopen(Long)}으로 되돌립니다. 종료하던 노드가 죽어
+ * {@code CLOSING}이 {@code session.live-state.closing-timeout} 넘게 남아 있으면 다시 종료할 수 있습니다.
+ * Redis에 상태가 없으면(비활성화, 만료, 장애) 호출 측은 기존 MySQL 경로로 처리합니다.</p>
+ */
+@Slf4j
+@Component
+public class LiveSessionStore {
+
+    private static final String KEY_PREFIX = "session:live:";
+    private static final String ANSWERS_SUFFIX = ":answers";
+    private static final String CLOSING = "CLOSING";
+
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+            local status = redis.call('HGET', KEYS[1], 'status')
+            if not status then return -2 end
+            if status ~= 'IN_PROGRESS' then return -1 end
+            local size = redis.call('RPUSH', KEYS[2], ARGV[1])
+            redis.call('HINCRBY', KEYS[1], 'answerCount', 1)
+            if ARGV[2] == '1' then redis.call('HINCRBY', KEYS[1], 'correctCount', 1) end
+            redis.call('HINCRBY', KEYS[1], ARGV[3], 1)
+            redis.call('HSET', KEYS[1], 'lastActivityAt', ARGV[5])
+            redis.call('EXPIRE', KEYS[1], ARGV[4])
+            redis.call('EXPIRE', KEYS[2], ARGV[4])
+            return size
+            """, Long.class);
+
+    // CLOSING이라도 closing-timeout(ARGV[2])이 지났으면 종료하던 노드가 죽은 것으로 보고 다시 종료
+    private static final RedisScript<Long> CLOSE_SCRIPT = new DefaultRedisScript<>("""
+            local status = redis.call('HGET', KEYS[1], 'status')
+            if not status then return -2 end
+            if status == 'CLOSING' then
+                local closingAt = tonumber(redis.call('HGET', KEYS[1], 'closingAt') or '0')
+                if tonumber(ARGV[1]) - closingAt < tonumber(ARGV[2]) then return -1 end
+            elseif status ~= 'IN_PROGRESS' then
+                return -1
+            end
+            redis.call('HSET', KEYS[1], 'status', 'CLOSING', 'closingAt', ARGV[1])
+            return 1
+            """, Long.class);
+
+    private static final RedisScript<Long> REOPEN_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], 'status') == 'CLOSING' then
+                redis.call('HSET', KEYS[1], 'status', 'IN_PROGRESS')
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper redisObjectMapper;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Duration closingTimeout;
+
+    // 세션 → 시나리오 버전 ID (세션 동안 바뀌지 않으므로 로컬에 보관해 채점 시 Redis 왕복을 줄임)
+    private final Cache<Long, Long> scenarioVersionIds;
+
+    public LiveSessionStore(
+            RedisTemplate<String, String> redisTemplate,
+            @Qualifier("redisObjectMapper") ObjectMapper redisObjectMapper,
+            @Value("${session.live-state.enabled:false}") boolean enabled,
+            @Value("${session.live-state.ttl:6h}") Duration ttl,
+            @Value("${session.live-state.closing-timeout:60s}") Duration closingTimeout
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.redisObjectMapper = redisObjectMapper;
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.closingTimeout = closingTimeout;
+        this.scenarioVersionIds = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(ttl)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 새로 시작된 세션의 상태를 Redis에 올립니다. 실패하면 해당 세션은 MySQL 경로로 처리됩니다.
+     */
+    public void start(Session session) {
+        if (!enabled) {
+            return;
+        }
+        String now = String.valueOf(System.currentTimeMillis());
+        try {
+            String key = hashKey(session.getId());
+            redisTemplate.opsForHash().putAll(key, Map.of(
+                    "status", SessionStatus.IN_PROGRESS.name(),
+                    "studentId", String.valueOf(session.getStudentId()),
+                    "scenarioId", String.valueOf(session.getScenarioId()),
+                    "scenarioVersionId", String.valueOf(session.getScenarioVersionId()),
+                    "startedAt", now,
+                    "lastActivityAt", now,
+                    "answerCount", "0",
+                    "correctCount", "0"
+            ));
+            redisTemplate.expire(key, ttl);
+            scenarioVersionIds.put(session.getId(), session.getScenarioVersionId());
+        } catch (Exception e) {
+            log.warn("라이브 세션 상태 저장 실패, MySQL 경로로 처리: sessionId={}, {}", session.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 라이브 상태가 있는 세션의 시나리오 버전 ID를 조회합니다.
+     *
+     * @return 버전 ID, 라이브 상태가 없거나 버전이 없는 세션이면 empty
+     */
+    public Optional<Long> scenarioVersionIdOf(Long sessionId) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        Long cached = scenarioVersionIds.getIfPresent(sessionId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        try {
+            Object value = redisTemplate.opsForHash().get(hashKey(sessionId), "scenarioVersionId");
+            if (value == null || "null".equals(value)) {
+                return Optional.empty();
+            }
+            Long versionId = Long.valueOf(value.toString());
+            scenarioVersionIds.put(sessionId, versionId);
+            return Optional.of(versionId);
+        } catch (Exception e) {
+            log.warn("라이브 세션 버전 조회 실패, MySQL 경로로 처리: sessionId={}, {}", sessionId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 여러 세션의 마지막 활동 시각을 파이프라인 한 번으로 조회합니다.
+     *
+     * @return 라이브 상태가 있는 세션만 담은 맵 (세션 ID → epoch millis).
+     *         Redis 조회에 실패하면 어떤 세션이 라이브인지 알 수 없으므로 empty
+     */
+    public Optional<Map<Long, Long>> lastActivityOf(List<Long> sessionIds) {
+        Map<Long, Long> result = new HashMap<>();
+        if (!enabled || sessionIds.isEmpty()) {
+            return Optional.of(result);
+        }
+        byte[] field = "lastActivityAt".getBytes(StandardCharsets.UTF_8);
+        try {
+            List<Object> values = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long sessionId : sessionIds) {
+                    connection.hashCommands().hGet(hashKey(sessionId).getBytes(StandardCharsets.UTF_8), field);
+                }
+                return null;
+            });
+            for (int i = 0; i < sessionIds.size(); i++) {
+                Object value = values.get(i);
+                if (value != null) {
+                    result.put(sessionIds.get(i), Long.valueOf(value.toString()));
+                }
+            }
+            return Optional.of(result);
+        } catch (Exception e) {
+            log.warn("라이브 세션 활동 시각 조회 실패: size={}, {}", sessionIds.size(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 진행 중인 세션에 답변을 추가합니다. 상태 확인과 추가는 원자적으로 처리됩니다.
+     *
+     * @return 추가 결과와 (성공 시) 세션 내 답변 순번
+     */
+    public AppendResult append(Long sessionId, BufferedAnswer answer) {
+        if (!enabled) {
+            return AppendResult.missing();
+        }
+        try {
+            Long result = redisTemplate.execute(
+                    APPEND_SCRIPT,
+                    List.of(hashKey(sessionId), answersKey(sessionId)),
+                    redisObjectMapper.writeValueAsString(answer),
+                    answer.answer().isCorrect() ? "1" : "0",
+                    "attempts:" + answer.answer().sequenceId(),
+                    String.valueOf(ttl.toSeconds()),
+                    String.valueOf(answer.submittedAt())
+            );
+            return AppendResult.from(result);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("답변 직렬화 실패", e);
+        } catch (Exception e) {
+            log.warn("라이브 세션 답변 추가 실패, MySQL 경로로 처리: sessionId={}, {}", sessionId, e.getMessage());
+            return AppendResult.missing();
+        }
+    }
+
+    /**
+     * 세션을 종료 중({@code CLOSING}) 상태로 바꾸고 쌓인 답변을 반환합니다.
+     * 이후 추가 답변은 거부됩니다. 오래된 {@code CLOSING} 상태는 다시 종료할 수 있습니다.
+     *
+     * <p>답변은 Redis에만 있으므로 Redis 오류는 상태 없음({@code MISSING})으로 보지 않고
+     * {@code UNAVAILABLE}을 반환합니다. (MySQL만으로 종료하면 목록의 답변이 빠진 채 집계됨)</p>
+     */
+    public CloseResult close(Long sessionId) {
+        if (!enabled) {
+            return new CloseResult(State.MISSING, List.of());
+        }
+        Long result;
+        try {
+            result = redisTemplate.execute(CLOSE_SCRIPT, List.of(hashKey(sessionId)),
+                    String.valueOf(System.currentTimeMillis()), String.valueOf(closingTimeout.toMillis()));
+        } catch (Exception e) {
+            log.warn("라이브 세션 종료 처리 실패: sessionId={}, {}", sessionId, e.getMessage());
+            return new CloseResult(State.UNAVAILABLE, List.of());
+        }
+        if (result == null || result == -2) {
+            return new CloseResult(State.MISSING, List.of());
+        }
+        if (result == -1) {
+            return new CloseResult(State.NOT_IN_PROGRESS, List.of());
+        }
+        try {
+            return new CloseResult(State.OK, readAnswers(sessionId));
+        } catch (Exception e) {
+            log.warn("라이브 세션 답변 조회 실패: sessionId={}, {}", sessionId, e.getMessage());
+            reopen(sessionId);
+            return new CloseResult(State.UNAVAILABLE, List.of());
+        }
+    }
+
+    /**
+     * 종료 중 DB 반영이 실패했을 때 세션을 다시 진행 중으로 되돌립니다.
+     */
+    public void reopen(Long sessionId) {
+        try {
+            redisTemplate.execute(REOPEN_SCRIPT, List.of(hashKey(sessionId)));
+        } catch (Exception e) {
+            log.warn("라이브 세션 복구 실패: sessionId={}, {}", sessionId, e.getMessage());
+        }
+    }
+
+    /**
+     * DB 반영이 끝난 세션의 Redis 상태를 제거합니다.
+     */
+    public void remove(Long sessionId) {
+        scenarioVersionIds.invalidate(sessionId);
+        try {
+            redisTemplate.delete(List.of(hashKey(sessionId), answersKey(sessionId)));
+        } catch (Exception e) {
+            // 남은 키는 TTL로 만료
+            log.warn("라이브 세션 상태 삭제 실패: sessionId={}, {}", sessionId, e.getMessage());
+        }
+    }
+
+    private List<BufferedAnswer> readAnswers(Long sessionId) throws JsonProcessingException {
+        List<String> values = redisTemplate.opsForList().range(answersKey(sessionId), 0, -1);
+        List<BufferedAnswer> answers = new ArrayList<>();
+        if (values == null) {
+            return answers;
+        }
+        for (String value : values) {
+            answers.add(redisObjectMapper.readValue(value, BufferedAnswer.class));
+        }
+        return answers;
+    }
+
+    private static String hashKey(Long sessionId) {
+        return KEY_PREFIX + sessionId;
+    }
+
+    private static String answersKey(Long sessionId) {
+        return KEY_PREFIX + sessionId + ANSWERS_SUFFIX;
+    }
+
+    public enum State {
+        /** Redis 상태에 반영됨 */
+        OK,
+        /** 진행 중이 아님 (완료, 중단, 다른 요청이 종료 중) */
+        NOT_IN_PROGRESS,
+        /** Redis에 상태가 없음 → MySQL 경로로 처리 */
+        MISSING,
+        /** Redis 오류로 상태를 확인할 수 없음 (종료만 해당, 다시 시도해야 함) */
+        UNAVAILABLE
+    }
+
+    public record AppendResult(State state, long sequence) {
+
+        static AppendResult missing() {
+            return new AppendResult(State.MISSING, 0);
+        }
+
+        static AppendResult from(Long result) {
+            if (result == null || result == -2) {
+                return missing();
+            }
+            if (result == -1) {
+                return new AppendResult(State.NOT_IN_PROGRESS, 0);
+            }
+            return new AppendResult(State.OK, result);
+        }
+    }
+
+    public record CloseResult(State state, List<BufferedAnswer> answers) {
+    }
+}
@@ -0,0 +1,155 @@
+package com.ssafy.a202.domain.session.repository;
+
+import com.ssafy.a202.domain.session.buffer.BufferedAnswer;
+import com.ssafy.a202.domain.session.dto.GradedAnswer;
+import com.ssafy.a202.domain.session.entity.Answer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 답변을 다중 행 INSERT로 저장하는 리포지토리
+ *
+ * <p>{@code GenerationType.IDENTITY} 때문에 Hibernate가 INSERT를 배치로 묶지 못하므로,
+ * {@value #CHUNK_SIZE}행 단위의 {@code INSERT ... VALUES (...), (...)} 한 문장으로 저장하고
+ * 생성 키를 입력 순서대로 돌려줍니다.</p>
+ *
+ * <p>JPA 트랜잭션과 같은 커넥션을 사용하므로 반드시 트랜잭션 안에서 호출해야 합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnswerBulkRepository {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String COLUMNS = "(session_id, scenario_version_id, sequence_id, seq_no, correct_option_no, "
+            + "selected_option_no, is_correct, attempt_no, audios3key, transcribed_text, similarity_score, created_at)";
+    private static final int COLUMN_COUNT = 12;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 답변 목록을 일괄 저장하고, 입력 순서와 같은 순서의 답변 ID 목록을 반환합니다.
+     */
+    public List<Long> insertAll(List<Answer> answers) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Long> ids = new ArrayList<>(answers.size());
+
+        for (int from = 0; from < answers.size(); from += CHUNK_SIZE) {
+            List<Answer> chunk = answers.subList(from, Math.min(from + CHUNK_SIZE, answers.size()));
+            String sql = "INSERT INTO answers " + COLUMNS + " VALUES " + placeholders(chunk.size());
+
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+                int i = 1;
+                for (Answer answer : chunk) {
+                    ps.setLong(i++, answer.getSession().getId());
+                    setNullableLong(ps, i++, answer.getScenarioVersionId());
+                    setNullableLong(ps, i++, answer.getSequenceId());
+                    ps.setInt(i++, answer.getSeqNo());
+                    ps.setInt(i++, answer.getCorrectOptionNo());
+                    ps.setInt(i++, answer.getSelectedOptionNo());
+                    ps.setBoolean(i++, answer.isCorrect());
+                    ps.setInt(i++, answer.getAttemptNo());
+                    setNullableString(ps, i++, answer.getAudioS3Key());
+                    setNullableString(ps, i++, answer.getTranscribedText());
+                    ps.setDouble(i++, answer.getSimilarityScore());
+                    ps.setTimestamp(i++, now);
+                }
+                return ps;
+            }, keyHolder);
+
+            for (Map<String, Object> row : keyHolder.getKeyList()) {
+                ids.add(((Number) row.values().iterator().next()).longValue());
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Redis 버퍼(write-behind 스트림, 라이브 세션)에서 읽은 답변을 일괄 저장합니다.
+     *
+     * <p>{@code buffer_entry_id} 유니크 키에 걸리는 행은 무시하므로(ON DUPLICATE KEY),
+     * 같은 스트림 엔트리를 여러 번 플러시해도 한 번만 저장됩니다.
+     * {@code created_at}은 플러시 시각이 아니라 답변 접수 시각({@code submittedAt}, 없으면 스트림 엔트리 ID의 시각)을 사용합니다.</p>
+     *
+     * @param entryIds 버퍼 엔트리 ID 목록 (answers와 같은 길이)
+     * @param answers  저장할 답변 목록
+     */
+    public void insertBuffered(List<String> entryIds, List<BufferedAnswer> answers) {
+        for (int from = 0; from < answers.size(); from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, answers.size());
+            List<String> idChunk = entryIds.subList(from, to);
+            List<BufferedAnswer> chunk = answers.subList(from, to);
+            String sql = "INSERT INTO answers (buffer_entry_id, " + COLUMNS.substring(1) + " VALUES "
+                    + placeholders(chunk.size(), COLUMN_COUNT + 1)
+                    + " ON DUPLICATE KEY UPDATE buffer_entry_id = buffer_entry_id";
+
+            jdbcTemplate.update(sql, ps -> {
+                int i = 1;
+                for (int k = 0; k < chunk.size(); k++) {
+                    BufferedAnswer buffered = chunk.get(k);
+                    GradedAnswer answer = buffered.answer();
+                    ps.setString(i++, idChunk.get(k));
+                    ps.setLong(i++, buffered.sessionId());
+                    setNullableLong(ps, i++, buffered.scenarioVersionId());
+                    setNullableLong(ps, i++, answer.sequenceId());
+                    ps.setInt(i++, answer.seqNo());
+                    ps.setInt(i++, answer.correctOptionNo());
+                    ps.setInt(i++, answer.selectedOptionNo());
+                    ps.setBoolean(i++, answer.isCorrect());
+                    ps.setInt(i++, answer.attemptNo());
+                    setNullableString(ps, i++, answer.audioS3Key());
+                    setNullableString(ps, i++, answer.transcribedText());
+                    ps.setDouble(i++, answer.similarityScore());
+                    ps.setTimestamp(i++, new Timestamp(buffered.submittedAt() != null
+                            ? buffered.submittedAt()
+                            : entryTimestamp(idChunk.get(k))));
+                }
+            });
+        }
+    }
+
+    // 스트림 엔트리 ID 형식: <밀리초 타임스탬프>-<시퀀스>
+    private static long entryTimestamp(String entryId) {
+        return Long.parseLong(entryId.substring(0, entryId.indexOf('-')));
+    }
+
+    private static String placeholders(int rows) {
+        return placeholders(rows, COLUMN_COUNT);
+    }
+
+    private static String placeholders(int rows, int columns) {
+        String row = "(" + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+        return String.join(", ", Collections.nCopies(rows, row));
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.BIGINT);
+        } else {
+            ps.setLong(index, value);
+        }
+    }
+
+    private static void setNullableString(PreparedStatement ps, int index, String value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.VARCHAR);
+        } else {
+            ps.setString(index, value);
+        }
+    }
+}
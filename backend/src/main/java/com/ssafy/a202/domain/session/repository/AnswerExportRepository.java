@@ -0,0 +1,86 @@
+package com.ssafy.a202.domain.session.repository;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * 학생 답변 이력을 전진 전용 커서로 읽는 리포지토리 (내보내기용)
+ *
+ * <p>MySQL Connector/J는 기본적으로 결과 전체를 메모리에 올리므로, fetch size를 {@link Integer#MIN_VALUE}로 지정해
+ * 행 단위 스트리밍 모드로 읽습니다. 결과는 엔티티로 만들지 않고 {@link RowCallbackHandler}로 한 행씩 넘기므로
+ * 행 수와 관계없이 메모리 사용량이 일정합니다.</p>
+ *
+ * <p>fetch size만 다르게 하려고 별도 {@link JdbcTemplate} 인스턴스를 쓰지만 커넥션은 공용 풀에서 가져옵니다.
+ * 스트리밍하는 동안 커넥션 하나를 계속 점유하므로, 동시 내보내기 수는
+ * {@link com.ssafy.a202.domain.session.export.StudentAnswerCsvExporter}가 {@code export.max-concurrent}로 제한합니다.</p>
+ *
+ * <p>스트리밍 모드의 {@link ResultSet}은 닫을 때 남은 행을 끝까지 읽어 버리므로, 처리 도중 예외가 나면
+ * (클라이언트 연결 종료 등) 먼저 {@link java.sql.Statement#cancel()}로 서버의 쿼리를 중단한 뒤 닫습니다.</p>
+ */
+@Repository
+public class AnswerExportRepository {
+
+    private static final String STUDENT_ANSWERS_SQL = """
+            SELECT s.id AS session_id,
+                   s.created_at AS session_started_at,
+                   s.ended_at AS session_ended_at,
+                   s.session_status,
+                   s.scenario_id,
+                   COALESCE(v.title, s.scn_title, sc.title) AS scenario_title,
+                   a.seq_no,
+                   a.attempt_no,
+                   a.selected_option_no,
+                   a.correct_option_no,
+                   a.is_correct,
+                   a.similarity_score,
+                   a.transcribed_text,
+                   a.created_at AS answered_at
+            FROM sessions s
+            JOIN answers a ON a.session_id = s.id AND a.deleted_at IS NULL
+            LEFT JOIN scenario_versions v ON v.id = s.scenario_version_id
+            LEFT JOIN scenarios sc ON sc.id = s.scenario_id
+            WHERE s.student_id = ?
+              AND s.deleted_at IS NULL
+            ORDER BY s.created_at, s.id, a.id
+            """;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public AnswerExportRepository(
+            DataSource dataSource,
+            @Value("${export.fetch-size:" + Integer.MIN_VALUE + "}") int fetchSize
+    ) {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    /**
+     * 학생의 모든 답변을 세션 시작 순, 답변 순으로 한 행씩 전달합니다.
+     */
+    public void streamStudentAnswers(Long studentId, RowCallbackHandler handler) {
+        streamingJdbcTemplate.execute(STUDENT_ANSWERS_SQL, (PreparedStatement ps) -> {
+            ps.setLong(1, studentId);
+            ResultSet rs = ps.executeQuery();
+            try {
+                while (rs.next()) {
+                    handler.processRow(rs);
+                }
+            } catch (SQLException | RuntimeException e) {
+                // 남은 행을 읽지 않도록 서버 쿼리를 먼저 중단
+                ps.cancel();
+                throw e;
+            } finally {
+                JdbcUtils.closeResultSet(rs);
+            }
+            return null;
+        });
+    }
+}
@@ -1,7 +1,21 @@
 package com.ssafy.a202.domain.session.repository;
 
+import com.ssafy.a202.domain.session.dto.SessionAnswerStats;
 import com.ssafy.a202.domain.session.entity.Answer;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface AnswerRepository extends JpaRepository<Answer, Long> {
+
+    /**
+     * 세션의 답변 집계 (세션 종료 시 라이브 답변을 저장한 뒤 호출)
+     */
+    @Query("""
+            select new com.ssafy.a202.domain.session.dto.SessionAnswerStats(
+                count(a), coalesce(sum(case when a.isCorrect = true then 1 else 0 end), 0), avg(a.similarityScore))
+            from Answer a
+            where a.session.id = :sessionId and a.deletedAt is null
+            """)
+    SessionAnswerStats aggregateBySessionId(@Param("sessionId") Long sessionId);
 }
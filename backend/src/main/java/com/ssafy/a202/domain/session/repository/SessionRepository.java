@@ -1,10 +1,242 @@
 package com.ssafy.a202.domain.session.repository;
 
+import com.ssafy.a202.domain.session.dto.SessionSummaryRow;
 import com.ssafy.a202.domain.session.entity.Session;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface SessionRepository extends JpaRepository<Session, Long> {
     Optional<Session> findByIdAndDeletedAtIsNull(Long sessionId);
+
+    /**
+     * 종료용 조회: 세션 행에 쓰기 락을 잡아 같은 세션을 동시에 종료하는 요청(사용자, 정리 작업)을 직렬화합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from Session s where s.id = :sessionId and s.deletedAt is null")
+    Optional<Session> findForCloseById(@Param("sessionId") Long sessionId);
+
+    List<Session> findAllByIdInAndDeletedAtIsNull(Collection<Long> sessionIds);
+
+    /**
+     * 답변 플러시용: 주어진 세션 중 진행 중인 세션을 공유 락으로 조회합니다.
+     * 같은 트랜잭션에서 답변을 INSERT 하는 동안 종료({@link #findForCloseById})가 끼어들지 못합니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("""
+            select s from Session s
+            where s.id in :sessionIds
+              and s.sessionStatus = com.ssafy.a202.domain.session.entity.SessionStatus.IN_PROGRESS
+              and s.deletedAt is null
+            """)
+    List<Session> lockInProgress(@Param("sessionIds") Collection<Long> sessionIds);
+
+    /**
+     * 학생의 기간 내 세션 목록을 시작 시각 순으로 조회합니다.
+     */
+    @Query("""
+            select new com.ssafy.a202.domain.session.dto.SessionSummaryRow(
+                s.id, s.studentId, s.stdFullName, s.scenarioId,
+                coalesce(v.title, s.scnTitle, sc.title),
+                coalesce(v.thumbnailS3Key, s.scnThumbnailS3Key, sc.thumbnailS3Key),
+                c.name, s.sessionStatus, s.createdAt, s.endedAt,
+                s.answerCount, s.correctCount, s.averageSimilarity)
+            from Session s
+            left join ScenarioVersion v on v.id = s.scenarioVersionId
+            left join Scenario sc on sc.id = s.scenarioId
+            left join sc.category c
+            where s.studentId = :studentId
+              and s.deletedAt is null
+              and s.createdAt >= :from and s.createdAt < :to
+            order by s.createdAt, s.id
+            """)
+    List<SessionSummaryRow> findSummariesByStudentId(@Param("studentId") Long studentId,
+                                                     @Param("from") LocalDateTime from,
+                                                     @Param("to") LocalDateTime to);
+
+    /**
+     * 학생의 세션 이력을 (createdAt, id)보다 이전부터 최신순으로 조회합니다.
+     * (student_id, deleted_at, created_at, id) 인덱스 범위를 역순으로 읽으므로 페이지 위치와 관계없이 비용이 일정합니다.
+     */
+    @Query("""
+            select new com.ssafy.a202.domain.session.dto.SessionSummaryRow(
+                s.id, s.studentId, s.stdFullName, s.scenarioId,
+                coalesce(v.title, s.scnTitle, sc.title),
+                coalesce(v.thumbnailS3Key, s.scnThumbnailS3Key, sc.thumbnailS3Key),
+                c.name, s.sessionStatus, s.createdAt, s.endedAt,
+                s.answerCount, s.correctCount, s.averageSimilarity)
+            from Session s
+            left join ScenarioVersion v on v.id = s.scenarioVersionId
+            left join Scenario sc on sc.id = s.scenarioId
+            left join sc.category c
+            where s.studentId = :studentId
+              and s.deletedAt is null
+              and (:cursorCreatedAt is null
+                   or s.createdAt < :cursorCreatedAt
+                   or (s.createdAt = :cursorCreatedAt and s.id < :cursorId))
+            order by s.createdAt desc, s.id desc
+            """)
+    List<SessionSummaryRow> findHistoryByStudentId(
+            @Param("studentId") Long studentId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    /**
+     * 교사가 담당하는 학생들의 세션 이력을 최신순으로 조회합니다.
+     * (user_id, deleted_at, created_at, id) 인덱스 범위를 역순으로 읽고, 삭제된 학생의 세션만 PK 조회로 걸러냅니다.
+     */
+    @Query("""
+            select new com.ssafy.a202.domain.session.dto.SessionSummaryRow(
+                s.id, s.studentId, s.stdFullName, s.scenarioId,
+                coalesce(v.title, s.scnTitle, sc.title),
+                coalesce(v.thumbnailS3Key, s.scnThumbnailS3Key, sc.thumbnailS3Key),
+                c.name, s.sessionStatus, s.createdAt, s.endedAt,
+                s.answerCount, s.correctCount, s.averageSimilarity)
+            from Session s
+            left join ScenarioVersion v on v.id = s.scenarioVersionId
+            left join Scenario sc on sc.id = s.scenarioId
+            left join sc.category c
+            where s.userId = :userId
+              and s.deletedAt is null
+              and (:cursorCreatedAt is null
+                   or s.createdAt < :cursorCreatedAt
+                   or (s.createdAt = :cursorCreatedAt and s.id < :cursorId))
+              and exists (select st.id from Student st where st.id = s.studentId and st.deletedAt is null)
+            order by s.createdAt desc, s.id desc
+            """)
+    List<SessionSummaryRow> findHistoryByUserId(
+            @Param("userId") Long userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    /**
+     * 기관 소속 학생들의 세션 이력을 최신순으로 조회합니다. ((org_id, deleted_at, created_at, id) 인덱스 사용)
+     */
+    @Query("""
+            select new com.ssafy.a202.domain.session.dto.SessionSummaryRow(
+                s.id, s.studentId, s.stdFullName, s.scenarioId,
+                coalesce(v.title, s.scnTitle, sc.title),
+                coalesce(v.thumbnailS3Key, s.scnThumbnailS3Key, sc.thumbnailS3Key),
+                c.name, s.sessionStatus, s.createdAt, s.endedAt,
+                s.answerCount, s.correctCount, s.averageSimilarity)
+            from Session s
+            left join ScenarioVersion v on v.id = s.scenarioVersionId
+            left join Scenario sc on sc.id = s.scenarioId
+            left join sc.category c
+            where s.organizationId = :organizationId
+              and s.deletedAt is null
+              and (:cursorCreatedAt is null
+                   or s.createdAt < :cursorCreatedAt
+                   or (s.createdAt = :cursorCreatedAt and s.id < :cursorId))
+              and exists (select st.id from Student st where st.id = s.studentId and st.deletedAt is null)
+            order by s.createdAt desc, s.id desc
+            """)
+    List<SessionSummaryRow> findHistoryByOrganizationId(
+            @Param("organizationId") Long organizationId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    /**
+     * 전체 세션 이력을 최신순으로 조회합니다. ((deleted_at, created_at, id) 인덱스 사용)
+     */
+    @Query("""
+            select new com.ssafy.a202.domain.session.dto.SessionSummaryRow(
+                s.id, s.studentId, s.stdFullName, s.scenarioId,
+                coalesce(v.title, s.scnTitle, sc.title),
+                coalesce(v.thumbnailS3Key, s.scnThumbnailS3Key, sc.thumbnailS3Key),
+                c.name, s.sessionStatus, s.createdAt, s.endedAt,
+                s.answerCount, s.correctCount, s.averageSimilarity)
+            from Session s
+            left join ScenarioVersion v on v.id = s.scenarioVersionId
+            left join Scenario sc on sc.id = s.scenarioId
+            left join sc.category c
+            where s.deletedAt is null
+              and (:cursorCreatedAt is null
+                   or s.createdAt < :cursorCreatedAt
+                   or (s.createdAt = :cursorCreatedAt and s.id < :cursorId))
+              and exists (select st.id from Student st where st.id = s.studentId and st.deletedAt is null)
+            order by s.createdAt desc, s.id desc
+            """)
+    List<SessionSummaryRow> findHistory(
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    /**
+     * 학생의 담임 교사가 바뀌면 비정규화한 세션의 교사 ID도 함께 바꿉니다.
+     */
+    @Modifying
+    @Query("update Session s set s.userId = :userId where s.studentId = :studentId")
+    int reassignTeacher(@Param("studentId") Long studentId, @Param("userId") Long userId);
+
+    /**
+     * 방치 후보 세션 ID를 ID 순으로 조회합니다 (cutoff 이전에 시작된 진행 중 세션, {@code afterId} 이후부터).
+     */
+    @Query("""
+            select s.id from Session s
+            where s.sessionStatus = com.ssafy.a202.domain.session.entity.SessionStatus.IN_PROGRESS
+              and s.deletedAt is null
+              and s.createdAt < :cutoff
+              and s.id > :afterId
+            order by s.id
+            """)
+    List<Long> findStaleCandidateIds(@Param("cutoff") LocalDateTime cutoff,
+                                     @Param("afterId") Long afterId,
+                                     Pageable pageable);
+
+    /**
+     * 후보 중 cutoff 이후 답변이 없는 진행 중 세션을 골라 쓰기 락을 잡습니다.
+     * 같은 트랜잭션에서 {@link #abortInProgress}와 학생 일간 집계가 정확히 이 세션들만 대상으로 하도록 ID를 돌려줍니다.
+     */
+    @Query(value = """
+            SELECT s.id FROM sessions s
+            WHERE s.id IN (:ids)
+              AND s.session_status = 'IN_PROGRESS'
+              AND s.deleted_at IS NULL
+              AND NOT EXISTS (SELECT 1 FROM answers a
+                              WHERE a.session_id = s.id AND a.created_at >= :cutoff)
+            FOR UPDATE
+            """, nativeQuery = true)
+    List<Long> lockStaleIds(@Param("ids") Collection<Long> ids,
+                            @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * 락을 잡은 진행 중 세션들을 한 문장으로 중단 처리하고 답변 집계를 기록합니다.
+     *
+     * @return 중단된 세션 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            UPDATE sessions s
+            SET s.session_status = 'ABORTED',
+                s.ended_at = :now,
+                s.updated_at = :now,
+                s.answer_count = (SELECT COUNT(*) FROM answers a
+                                  WHERE a.session_id = s.id AND a.deleted_at IS NULL),
+                s.correct_count = (SELECT COUNT(*) FROM answers a
+                                   WHERE a.session_id = s.id AND a.deleted_at IS NULL AND a.is_correct = TRUE),
+                s.average_similarity = (SELECT AVG(a.similarity_score) FROM answers a
+                                        WHERE a.session_id = s.id AND a.deleted_at IS NULL)
+            WHERE s.id IN (:ids)
+              AND s.session_status = 'IN_PROGRESS'
+              AND s.deleted_at IS NULL
+            """, nativeQuery = true)
+    int abortInProgress(@Param("ids") Collection<Long> ids,
+                        @Param("now") LocalDateTime now);
 }
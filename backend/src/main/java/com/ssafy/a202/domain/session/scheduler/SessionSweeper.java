@@ -0,0 +1,212 @@
+package com.ssafy.a202.domain.session.scheduler;
+
+import com.ssafy.a202.common.exception.CustomException;
+import com.ssafy.a202.common.lock.RedisLock;
+import com.ssafy.a202.domain.session.buffer.AnswerWriteBuffer;
+import com.ssafy.a202.domain.session.live.LiveSessionStore;
+import com.ssafy.a202.domain.session.repository.SessionRepository;
+import com.ssafy.a202.domain.session.service.SessionService;
+import com.ssafy.a202.domain.student.repository.StudentDailyStatRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 방치된 진행 중 세션 정리 작업
+ *
+ * <p>태블릿을 닫아 종료되지 않은 세션은 {@code IN_PROGRESS}로 계속 남아 통계를 왜곡하고 라이브 상태를 늘립니다.
+ * 마지막 활동이 {@code session.sweeper.idle-timeout} 이전인 세션을 찾아 중단 처리합니다.</p>
+ *
+ * <ul>
+ *   <li>후보는 ID 순으로 {@code session.sweeper.chunk-size}건씩 조회합니다.</li>
+ *   <li>Redis 라이브 상태가 있는 세션은 {@code lastActivityAt}으로 판단하고, 방치된 경우
+ *       {@link SessionService#abort(Long)}로 쌓인 답변까지 저장합니다. 종료 중({@code CLOSING})에 멈춘 세션도
+ *       {@code session.live-state.closing-timeout}이 지나면 이 경로로 다시 종료됩니다.</li>
+ *   <li>나머지는 마지막 답변 시각을 조건으로 한 UPDATE 한 문장으로 청크 단위 중단 처리하고,
+ *       같은 트랜잭션에서 학생 일간 집계에 반영합니다. write-behind 스트림에 아직 반영되지 않은 답변이 있는 세션은
+ *       MySQL만으로는 마지막 활동을 알 수 없으므로 제외합니다.</li>
+ *   <li>Redis 조회에 실패한 청크는 라이브 여부를 알 수 없으므로 건너뛰고 다음 실행에서 다시 판단합니다.
+ *       세션 하나의 중단이 실패해도 나머지 세션은 계속 처리합니다.</li>
+ * </ul>
+ *
+ * <p>{@link RedisLock}으로 클러스터에서 한 노드만 실행합니다.
+ * 메트릭: {@code session.sweeper.scanned}, {@code session.sweeper.aborted}(source=db|live), {@code session.sweeper.run}</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "session.sweeper.enabled", havingValue = "true")
+public class SessionSweeper {
+
+    private static final String LOCK_NAME = "session-sweeper";
+
+    private final SessionRepository sessionRepository;
+    private final SessionService sessionService;
+    private final LiveSessionStore liveSessionStore;
+    private final AnswerWriteBuffer answerWriteBuffer;
+    private final StudentDailyStatRepository studentDailyStatRepository;
+    private final RedisLock redisLock;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration idleTimeout;
+    private final int chunkSize;
+    private final Duration lockLease;
+    private final int maxUnflushedScan;
+
+    private final Counter scannedCounter;
+    private final Counter dbAbortedCounter;
+    private final Counter liveAbortedCounter;
+    private final Timer runTimer;
+
+    public SessionSweeper(
+            SessionRepository sessionRepository,
+            SessionService sessionService,
+            LiveSessionStore liveSessionStore,
+            AnswerWriteBuffer answerWriteBuffer,
+            StudentDailyStatRepository studentDailyStatRepository,
+            RedisLock redisLock,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${session.sweeper.idle-timeout:30m}") Duration idleTimeout,
+            @Value("${session.sweeper.chunk-size:500}") int chunkSize,
+            @Value("${session.sweeper.lock-lease:5m}") Duration lockLease,
+            @Value("${session.sweeper.max-unflushed-scan:5000}") int maxUnflushedScan
+    ) {
+        this.sessionRepository = sessionRepository;
+        this.sessionService = sessionService;
+        this.liveSessionStore = liveSessionStore;
+        this.answerWriteBuffer = answerWriteBuffer;
+        this.studentDailyStatRepository = studentDailyStatRepository;
+        this.redisLock = redisLock;
+        this.transactionTemplate = transactionTemplate;
+        this.idleTimeout = idleTimeout;
+        this.chunkSize = chunkSize;
+        this.lockLease = lockLease;
+        this.maxUnflushedScan = maxUnflushedScan;
+
+        this.scannedCounter = Counter.builder("session.sweeper.scanned").register(meterRegistry);
+        this.dbAbortedCounter = Counter.builder("session.sweeper.aborted")
+                .tag("source", "db")
+                .register(meterRegistry);
+        this.liveAbortedCounter = Counter.builder("session.sweeper.aborted")
+                .tag("source", "live")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("session.sweeper.run").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${session.sweeper.interval-ms:60000}")
+    public void sweep() {
+        Optional<String> token = redisLock.tryAcquire(LOCK_NAME, lockLease);
+        if (token.isEmpty()) {
+            return;
+        }
+        try {
+            runTimer.record(this::sweepAll);
+        } finally {
+            redisLock.release(LOCK_NAME, token.get());
+        }
+    }
+
+    private void sweepAll() {
+        long startedAt = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minus(idleTimeout);
+        long cutoffMillis = cutoff.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+        long scanned = 0;
+        long dbAborted = 0;
+        long liveAborted = 0;
+        long skipped = 0;
+        int chunks = 0;
+        long afterId = 0;
+
+        while (System.nanoTime() - startedAt < lockLease.toNanos()) {
+            List<Long> ids = sessionRepository.findStaleCandidateIds(cutoff, afterId, PageRequest.of(0, chunkSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+            afterId = ids.get(ids.size() - 1);
+            scanned += ids.size();
+            chunks++;
+
+            // 라이브 상태가 있는 세션은 Redis의 마지막 활동 시각으로 판단
+            Optional<Map<Long, Long>> lastActivity = liveSessionStore.lastActivityOf(ids);
+            if (lastActivity.isEmpty()) {
+                skipped += ids.size();
+                continue;
+            }
+            // 스트림에 남은 답변은 MySQL에 없으므로, 그런 세션은 DB 경로로 판단하지 않음
+            Optional<Set<Long>> unflushed = answerWriteBuffer.pendingSessionIds(maxUnflushedScan);
+            List<Long> dbIds = new ArrayList<>(ids.size());
+            for (Long id : ids) {
+                Long lastActivityAt = lastActivity.get().get(id);
+                if (lastActivityAt != null) {
+                    if (lastActivityAt < cutoffMillis && abortLive(id)) {
+                        liveAborted++;
+                    }
+                } else if (unflushed.isPresent() && !unflushed.get().contains(id)) {
+                    dbIds.add(id);
+                } else {
+                    skipped++;
+                }
+            }
+
+            if (!dbIds.isEmpty()) {
+                try {
+                    Integer updated = transactionTemplate.execute(status -> {
+                        List<Long> staleIds = sessionRepository.lockStaleIds(dbIds, cutoff);
+                        if (staleIds.isEmpty()) {
+                            return 0;
+                        }
+                        int aborted = sessionRepository.abortInProgress(staleIds, now);
+                        studentDailyStatRepository.accumulateAborted(staleIds, now);
+                        return aborted;
+                    });
+                    dbAborted += updated == null ? 0 : updated;
+                } catch (Exception e) {
+                    // 이 청크는 롤백되었으므로 다음 실행에서 다시 판단
+                    skipped += dbIds.size();
+                    log.warn("방치 세션 청크 중단 실패: size={}, {}", dbIds.size(), e.getMessage());
+                }
+            }
+        }
+
+        scannedCounter.increment(scanned);
+        dbAbortedCounter.increment(dbAborted);
+        liveAbortedCounter.increment(liveAborted);
+
+        long elapsedMillis = Duration.ofNanos(System.nanoTime() - startedAt).toMillis();
+        log.info("방치 세션 정리: scanned={}, aborted(db)={}, aborted(live)={}, skipped={}, chunks={}, elapsed={}ms, throughput={}/s",
+                scanned, dbAborted, liveAborted, skipped, chunks, elapsedMillis,
+                elapsedMillis == 0 ? scanned : scanned * 1000 / elapsedMillis);
+    }
+
+    private boolean abortLive(Long sessionId) {
+        try {
+            sessionService.abort(sessionId);
+            return true;
+        } catch (CustomException e) {
+            // 그 사이 종료되었거나 다른 요청이 종료 중인 세션
+            log.debug("라이브 세션 중단 생략: sessionId={}, {}", sessionId, e.getErrorCode());
+            return false;
+        } catch (Exception e) {
+            // DB·Redis 오류 등: 이 세션만 건너뛰고 다음 실행에서 다시 시도
+            log.warn("라이브 세션 중단 실패: sessionId={}, {}", sessionId, e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.ssafy.a202.domain.session.service;
+
+import com.ssafy.a202.common.exception.CustomException;
+import com.ssafy.a202.common.exception.ErrorCode;
+import com.ssafy.a202.domain.scenario.cache.AnswerKeyIndex;
+import com.ssafy.a202.domain.session.dto.GradedAnswer;
+import com.ssafy.a202.domain.session.dto.request.AnswerCreateRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서버 측 답변 채점기
+ *
+ * <p>{@link AnswerKeyIndex}의 정답으로 채점해 {@link GradedAnswer}를 만듭니다.
+ * 인덱스는 메모리에 있으므로 채점에 DB 조회가 없습니다.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class AnswerGrader {
+
+    private final AnswerKeyIndex answerKeyIndex;
+
+    /**
+     * 세션이 플레이 중인 시나리오 버전 기준으로 답변을 채점합니다.
+     *
+     * @throws CustomException 버전이 없는 (버전 도입 이전) 세션이거나 버전에 없는 시퀀스인 경우
+     */
+    public GradedAnswer grade(Long scenarioVersionId, AnswerCreateRequest request) {
+        if (scenarioVersionId == null) {
+            // 채점 기준이 없으므로 받지 않음 (새 세션을 시작하면 버전이 지정됨)
+            throw new CustomException(ErrorCode.SESSION_VERSION_MISSING);
+        }
+        int correctOptionNo = answerKeyIndex.correctOptionNo(scenarioVersionId, request.sequenceId())
+                .orElseThrow(() -> new CustomException(ErrorCode.ANSWER_SEQUENCE_MISMATCH));
+        return GradedAnswer.of(request, correctOptionNo);
+    }
+}
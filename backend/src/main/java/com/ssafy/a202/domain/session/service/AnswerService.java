@@ -2,38 +2,192 @@ package com.ssafy.a202.domain.session.service;
 
 import com.ssafy.a202.common.exception.CustomException;
 import com.ssafy.a202.common.exception.ErrorCode;
+import com.ssafy.a202.domain.session.buffer.AnswerWriteBuffer;
+import com.ssafy.a202.domain.session.buffer.BufferedAnswer;
+import com.ssafy.a202.domain.session.buffer.OpenSessionCache;
+import com.ssafy.a202.domain.session.dto.GradedAnswer;
+import com.ssafy.a202.domain.session.dto.request.AnswerBulkRequest;
 import com.ssafy.a202.domain.session.dto.request.AnswerCreateRequest;
+import com.ssafy.a202.domain.session.dto.response.AnswerBulkResponse;
 import com.ssafy.a202.domain.session.dto.response.AnswerResponse;
 import com.ssafy.a202.domain.session.entity.Answer;
 import com.ssafy.a202.domain.session.entity.Session;
 import com.ssafy.a202.domain.session.entity.SessionStatus;
+import com.ssafy.a202.domain.session.live.LiveSessionStore;
+import com.ssafy.a202.domain.session.repository.AnswerBulkRepository;
 import com.ssafy.a202.domain.session.repository.AnswerRepository;
 import com.ssafy.a202.domain.session.repository.SessionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class AnswerService {
 
+    private static final int MAX_BULK_SIZE = 500;
+
     private final AnswerRepository answerRepository;
     private final SessionRepository sessionRepository;
+    private final AnswerBulkRepository answerBulkRepository;
+    private final AnswerWriteBuffer answerWriteBuffer;
+    private final LiveSessionStore liveSessionStore;
+    private final TransactionTemplate transactionTemplate;
+    private final AnswerGrader answerGrader;
+    private final OpenSessionCache openSessionCache;
 
-    // todo : isCorrect를 클라이언트가 보내기 때문에 정답 여부를 조작할 수 있음.(기술 부채. 파이썬 서버를 내부 서버끼리 소통하도록 합쳐야함)
-    @Transactional
+    /**
+     * 답변을 제출합니다.
+     *
+     * <p>Redis에 라이브 세션 상태가 있으면 상태 확인과 답변 추가를 Redis에서만 처리하고(MySQL 미사용),
+     * 답변은 세션 종료 시 한 번에 저장됩니다. 라이브 상태가 없으면 write-behind 버퍼에 적재하고,
+     * 버퍼를 쓸 수 없으면 기존처럼 MySQL에서 처리합니다.</p>
+     *
+     * <p>정답 여부는 클라이언트 값 대신 {@link AnswerGrader}로 서버에서 채점합니다.</p>
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AnswerResponse create(Long sessionId, AnswerCreateRequest request) {
+        Optional<Long> scenarioVersionId = liveSessionStore.scenarioVersionIdOf(sessionId);
+        if (scenarioVersionId.isEmpty()) {
+            return createBufferedOrInDatabase(sessionId, request);
+        }
+
+        GradedAnswer graded = answerGrader.grade(scenarioVersionId.get(), request);
+        LiveSessionStore.AppendResult live = liveSessionStore.append(
+                sessionId, BufferedAnswer.of(sessionId, scenarioVersionId.get(), graded));
+        return switch (live.state()) {
+            case OK -> AnswerResponse.buffered("live-" + sessionId + "-" + live.sequence());
+            case NOT_IN_PROGRESS -> throw new CustomException(ErrorCode.SESSION_UPDATE_DENIED);
+            case MISSING, UNAVAILABLE -> createBufferedOrInDatabase(sessionId, request);
+        };
+    }
+
+    /**
+     * 라이브 상태가 없는 세션의 답변 처리
+     *
+     * <p>write-behind 모드에서는 {@link OpenSessionCache}로 세션 상태를 확인해 MySQL 조회 없이 Redis Stream에 적재합니다.
+     * 버퍼가 꺼져 있거나 가득 찼으면 MySQL에서 상태를 확인하고 동기 저장합니다.</p>
+     */
+    private AnswerResponse createBufferedOrInDatabase(Long sessionId, AnswerCreateRequest request) {
+        if (answerWriteBuffer.isEnabled()) {
+            OpenSessionCache.OpenSession open = openSessionCache.get(sessionId, this::loadOpenSession);
+            GradedAnswer graded = answerGrader.grade(open.scenarioVersionId(), request);
+            Optional<String> receiptId = answerWriteBuffer.offer(
+                    BufferedAnswer.of(sessionId, open.scenarioVersionId(), graded));
+            if (receiptId.isPresent()) {
+                return AnswerResponse.buffered(receiptId.get());
+            }
+        }
+        return transactionTemplate.execute(status -> createInDatabase(sessionId, request));
+    }
+
+    private OpenSessionCache.OpenSession loadOpenSession(Long sessionId) {
+        Session session = findInProgressSession(sessionId);
+        return new OpenSessionCache.OpenSession(session.getId(), session.getScenarioVersionId());
+    }
+
+    /**
+     * MySQL에서 세션 상태를 확인하고 답변을 동기 저장
+     */
+    private AnswerResponse createInDatabase(Long sessionId, AnswerCreateRequest request) {
+        Session session = findInProgressSession(sessionId);
+        GradedAnswer graded = answerGrader.grade(session.getScenarioVersionId(), request);
+
+        Answer answer = Answer.of(session, graded);
+        answerRepository.save(answer);
+
+        return AnswerResponse.of(answer);
+    }
+
+    private Session findInProgressSession(Long sessionId) {
         Session session = sessionRepository.findByIdAndDeletedAtIsNull(sessionId)
                 .orElseThrow(() -> new CustomException(ErrorCode.SESSION_NOT_FOUND));
 
         if (session.getSessionStatus() != SessionStatus.IN_PROGRESS) {
             throw new CustomException(ErrorCode.SESSION_UPDATE_DENIED);
         }
+        return session;
+    }
 
-        Answer answer = Answer.of(session, request);
-        answerRepository.save(answer);
+    /**
+     * 여러 세션의 답변을 한 번에 저장합니다.
+     *
+     * <p>세션 상태는 요청에 포함된 세션 ID 전체를 한 번의 IN 쿼리로 검증하고,
+     * 통과한 답변만 {@link AnswerBulkRepository}로 일괄 INSERT 합니다.
+     * 일부 항목이 실패해도 나머지는 저장되며, 항목별 결과를 요청 순서대로 반환합니다.</p>
+     */
+    @Transactional
+    public AnswerBulkResponse createBulk(AnswerBulkRequest request) {
+        List<AnswerBulkRequest.Item> items = request.answers() == null ? List.of() : request.answers();
+        if (items.size() > MAX_BULK_SIZE) {
+            throw new CustomException(ErrorCode.ANSWER_BULK_TOO_LARGE);
+        }
 
-        return AnswerResponse.of(answer);
+        // 1. 세션 상태를 한 번에 조회
+        Set<Long> sessionIds = new HashSet<>();
+        for (AnswerBulkRequest.Item item : items) {
+            if (item.sessionId() != null) {
+                sessionIds.add(item.sessionId());
+            }
+        }
+        Map<Long, Session> sessions = new HashMap<>();
+        if (!sessionIds.isEmpty()) {
+            for (Session session : sessionRepository.findAllByIdInAndDeletedAtIsNull(sessionIds)) {
+                sessions.put(session.getId(), session);
+            }
+        }
+
+        // 2. 항목별 검증, 통과한 답변만 저장 대상으로 수집
+        AnswerBulkResponse.ItemResult[] results = new AnswerBulkResponse.ItemResult[items.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<Answer> accepted = new ArrayList<>();
+
+        for (int i = 0; i < items.size(); i++) {
+            AnswerBulkRequest.Item item = items.get(i);
+            if (item.sessionId() == null || item.answer() == null) {
+                results[i] = AnswerBulkResponse.ItemResult.failed(i, item.sessionId(), ErrorCode.VALIDATION_FAILED);
+                continue;
+            }
+            Session session = sessions.get(item.sessionId());
+            if (session == null) {
+                results[i] = AnswerBulkResponse.ItemResult.failed(i, item.sessionId(), ErrorCode.SESSION_NOT_FOUND);
+                continue;
+            }
+            if (session.getSessionStatus() != SessionStatus.IN_PROGRESS) {
+                results[i] = AnswerBulkResponse.ItemResult.failed(i, item.sessionId(), ErrorCode.SESSION_UPDATE_DENIED);
+                continue;
+            }
+            GradedAnswer graded;
+            try {
+                graded = answerGrader.grade(session.getScenarioVersionId(), item.answer());
+            } catch (CustomException e) {
+                results[i] = AnswerBulkResponse.ItemResult.failed(i, item.sessionId(), e.getErrorCode());
+                continue;
+            }
+            acceptedIndexes.add(i);
+            accepted.add(Answer.of(session, graded));
+        }
+
+        // 3. 다중 행 INSERT
+        if (!accepted.isEmpty()) {
+            List<Long> answerIds = answerBulkRepository.insertAll(accepted);
+            for (int k = 0; k < acceptedIndexes.size(); k++) {
+                int index = acceptedIndexes.get(k);
+                results[index] = AnswerBulkResponse.ItemResult.saved(index, items.get(index).sessionId(), answerIds.get(k));
+            }
+        }
+
+        return AnswerBulkResponse.of(List.of(results));
     }
 }
@@ -0,0 +1,116 @@
+package com.ssafy.a202.domain.session.service;
+
+import com.ssafy.a202.common.entity.CursorResponse;
+import com.ssafy.a202.common.entity.KeysetCursor;
+import com.ssafy.a202.common.exception.CustomException;
+import com.ssafy.a202.common.exception.ErrorCode;
+import com.ssafy.a202.common.roleAop.PermissionAction;
+import com.ssafy.a202.common.roleAop.studentPermission.CheckStudentPermission;
+import com.ssafy.a202.domain.presignedUrl.client.S3Client;
+import com.ssafy.a202.domain.session.dto.SessionSummaryRow;
+import com.ssafy.a202.domain.session.dto.response.SessionHistoryResponse;
+import com.ssafy.a202.domain.session.repository.SessionRepository;
+import com.ssafy.a202.domain.student.entity.Student;
+import com.ssafy.a202.domain.student.repository.StudentRepository;
+import com.ssafy.a202.domain.user.entity.User;
+import com.ssafy.a202.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 세션 이력 조회
+ *
+ * <p>세션 요약은 세션 행에 기록된 종료 집계만 사용하고 답변 행은 읽지 않습니다.
+ * 페이징은 (createdAt, id) 키셋 커서를 사용합니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SessionHistoryService {
+
+    private final SessionRepository sessionRepository;
+    private final UserRepository userRepository;
+    private final StudentRepository studentRepository;
+    private final S3Client s3Client;
+
+    /**
+     * 학생 한 명의 세션 이력을 최신순으로 조회합니다.
+     */
+    @CheckStudentPermission(PermissionAction.VIEW)
+    public CursorResponse<SessionHistoryResponse> getStudentHistory(Long userId, Long studentId, String cursor, int size) {
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        int pageSize = Math.clamp(size, 1, CursorResponse.MAX_SIZE);
+
+        // 다음 페이지 존재 여부 판단을 위해 한 건 더 조회
+        List<SessionSummaryRow> rows = sessionRepository.findHistoryByStudentId(
+                studentId,
+                keysetCursor == null ? null : keysetCursor.createdAt(),
+                keysetCursor == null ? null : keysetCursor.id(),
+                PageRequest.of(0, pageSize + 1)
+        );
+        return toCursorResponse(rows, pageSize);
+    }
+
+    /**
+     * 담당 학생 전체의 세션 이력을 최신순으로 조회합니다.
+     * 조회 범위: ADMIN 전체, ORG_ADMIN 소속 기관, TEACHER 담당 학생
+     */
+    public CursorResponse<SessionHistoryResponse> getTeacherHistory(Long userId, String cursor, int size) {
+        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        int pageSize = Math.clamp(size, 1, CursorResponse.MAX_SIZE);
+
+        LocalDateTime cursorCreatedAt = keysetCursor == null ? null : keysetCursor.createdAt();
+        Long cursorId = keysetCursor == null ? null : keysetCursor.id();
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<SessionSummaryRow> rows = switch (user.getRole()) {
+            case TEACHER -> sessionRepository.findHistoryByUserId(userId, cursorCreatedAt, cursorId, limit);
+            case ORG_ADMIN -> sessionRepository.findHistoryByOrganizationId(
+                    user.getOrganization().getId(), cursorCreatedAt, cursorId, limit);
+            case ADMIN -> sessionRepository.findHistory(cursorCreatedAt, cursorId, limit);
+        };
+        return toCursorResponse(rows, pageSize);
+    }
+
+    /**
+     * 답변 이력 내보내기 권한을 확인하고 내려받을 파일 이름(확장자 제외)을 반환합니다.
+     * 실제 내보내기는 응답 스트림에서 트랜잭션 밖에서 진행됩니다.
+     */
+    @CheckStudentPermission(PermissionAction.VIEW)
+    public String prepareAnswerExport(Long userId, Long studentId) {
+        Student student = studentRepository.findByIdAndDeletedAtIsNull(studentId)
+                .orElseThrow(() -> new CustomException(ErrorCode.STUDENT_NOT_FOUND));
+        return student.getFullName() + "_답변이력_" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    private CursorResponse<SessionHistoryResponse> toCursorResponse(List<SessionSummaryRow> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        List<SessionHistoryResponse> responseList = new ArrayList<>();
+        for (SessionSummaryRow row : rows) {
+            String thumbnailUrl = row.thumbnailS3Key() == null ? null : s3Client.getPublicS3Url(row.thumbnailS3Key());
+            responseList.add(SessionHistoryResponse.of(row, thumbnailUrl));
+        }
+
+        KeysetCursor nextCursor = null;
+        if (hasNext) {
+            SessionSummaryRow last = rows.get(rows.size() - 1);
+            nextCursor = KeysetCursor.of(last.createdAt(), last.sessionId());
+        }
+        return CursorResponse.of(responseList, pageSize, nextCursor, null);
+    }
+}
@@ -2,16 +2,32 @@ package com.ssafy.a202.domain.session.service;
 
 import com.ssafy.a202.common.exception.CustomException;
 import com.ssafy.a202.common.exception.ErrorCode;
+import com.ssafy.a202.domain.scenario.dto.ScenarioVersionRef;
+import com.ssafy.a202.domain.scenario.service.ScenarioVersionService;
+import com.ssafy.a202.domain.session.buffer.AnswerWriteBuffer;
+import com.ssafy.a202.domain.session.buffer.BufferedAnswer;
+import com.ssafy.a202.domain.session.buffer.OpenSessionCache;
+import com.ssafy.a202.domain.session.dto.SessionAnswerStats;
 import com.ssafy.a202.domain.session.dto.request.SessionStartRequest;
 import com.ssafy.a202.domain.session.dto.response.SessionResponse;
 import com.ssafy.a202.domain.session.entity.Session;
 import com.ssafy.a202.domain.session.entity.SessionStatus;
+import com.ssafy.a202.domain.session.live.LiveSessionStore;
+import com.ssafy.a202.domain.session.repository.AnswerBulkRepository;
+import com.ssafy.a202.domain.session.repository.AnswerRepository;
 import com.ssafy.a202.domain.session.repository.SessionRepository;
 import com.ssafy.a202.domain.student.entity.Student;
+import com.ssafy.a202.domain.student.repository.StudentDailyStatRepository;
 import com.ssafy.a202.domain.student.repository.StudentRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +36,13 @@ public class SessionService {
 
     private final SessionRepository sessionRepository;
     private final StudentRepository studentRepository;
+    private final ScenarioVersionService scenarioVersionService;
+    private final AnswerRepository answerRepository;
+    private final AnswerBulkRepository answerBulkRepository;
+    private final LiveSessionStore liveSessionStore;
+    private final StudentDailyStatRepository studentDailyStatRepository;
+    private final OpenSessionCache openSessionCache;
+    private final AnswerWriteBuffer answerWriteBuffer;
 
     @Transactional
     public SessionResponse create(SessionStartRequest request) {
@@ -27,32 +50,116 @@ public class SessionService {
         Student student = studentRepository.findByIdAndDeletedAtIsNull(request.studentId())
                 .orElseThrow(() -> new CustomException(ErrorCode.STUDENT_NOT_FOUND));
 
-        Session session = Session.of(student, request);
+        // 클라이언트 스냅샷 대신 서버가 최신 시나리오 버전을 결정
+        ScenarioVersionRef scenarioVersion = scenarioVersionService.resolveLatest(request.scenarioId());
+
+        Session session = Session.of(student, scenarioVersion);
         sessionRepository.save(session);
+        studentDailyStatRepository.increaseStarted(
+                student.getId(), session.getCreatedAt().toLocalDate(), LocalDateTime.now());
+
+        // 커밋 후 Redis에 진행 상태를 올림 (이후 답변 제출은 MySQL을 거치지 않음)
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                liveSessionStore.start(session);
+            }
+        });
 
         return SessionResponse.of(session);
     }
 
     @Transactional
     public void finish(Long sessionId) {
-        Session session = sessionRepository.findByIdAndDeletedAtIsNull(sessionId)
-                .orElseThrow(() -> new CustomException(ErrorCode.SESSION_NOT_FOUND));
-        if (session.getSessionStatus() != SessionStatus.IN_PROGRESS) {
-            throw new CustomException(ErrorCode.SESSION_FINISH_FAIL);
-        }
-        session.finish();
+        close(sessionId, SessionStatus.COMPLETED, ErrorCode.SESSION_FINISH_FAIL);
     }
 
     @Transactional
     public void abort(Long sessionId) {
-        Session session = sessionRepository.findByIdAndDeletedAtIsNull(sessionId)
+        close(sessionId, SessionStatus.ABORTED, ErrorCode.SESSION_ABORT_FAIL);
+    }
+
+    /**
+     * 세션을 종료하고 답변과 집계를 MySQL에 한 번에 기록합니다.
+     *
+     * <p>Redis 라이브 상태가 있으면 상태를 {@code CLOSING}으로 바꿔 추가 답변을 막은 뒤,
+     * 쌓인 답변을 일괄 INSERT 합니다. 커밋되면 Redis 상태를 지우고, 롤백되면 다시 진행 중으로 되돌립니다.
+     * 라이브 상태가 없으면(비활성화, 라이브 상태 저장 실패) 답변은 write-behind 스트림이나 MySQL로 저장된 것입니다.
+     * Redis 오류로 라이브 상태를 확인할 수 없으면 목록의 답변이 빠지지 않도록 종료를 거부합니다.</p>
+     *
+     * <p>집계는 MySQL에서 계산하므로, write-behind 스트림에 이 세션의 답변이 남아 있으면(또는 확인할 수 없으면)
+     * 반영될 때까지 종료를 거부합니다. 종료 후 다른 노드가 {@link OpenSessionCache}로 받은 답변은
+     * 플러셔가 세션 상태를 확인해 데드레터로 옮기므로 종료된 세션에 저장되지 않습니다.
+     * 세션 행은 쓰기 락으로 조회하므로 같은 세션을 동시에 종료해도 한 요청만 반영됩니다.</p>
+     *
+     * <p>종료와 함께 학생 일간 집계에 세션 결과와 답변 집계를 더합니다.</p>
+     */
+    private void close(Long sessionId, SessionStatus target, ErrorCode failCode) {
+        Session session = sessionRepository.findForCloseById(sessionId)
                 .orElseThrow(() -> new CustomException(ErrorCode.SESSION_NOT_FOUND));
 
-        if (session.getSessionStatus() == SessionStatus.COMPLETED ||
-                session.getSessionStatus() == SessionStatus.ABORTED) {
-            throw new CustomException(ErrorCode.SESSION_ABORT_FAIL);
+        openSessionCache.invalidate(sessionId);
+        if (session.getSessionStatus() == SessionStatus.IN_PROGRESS && answerWriteBuffer.mayHavePending(sessionId)) {
+            throw new CustomException(ErrorCode.SESSION_ANSWERS_PENDING);
         }
+        LiveSessionStore.CloseResult live = liveSessionStore.close(sessionId);
+        switch (live.state()) {
+            case NOT_IN_PROGRESS -> throw new CustomException(failCode);
+            case UNAVAILABLE -> throw new CustomException(ErrorCode.SESSION_STATE_UNAVAILABLE);
+            case MISSING -> {
+                if (session.getSessionStatus() != SessionStatus.IN_PROGRESS) {
+                    throw new CustomException(failCode);
+                }
+            }
+            case OK -> {
+                if (session.getSessionStatus() != SessionStatus.IN_PROGRESS) {
+                    // MySQL에서 이미 종료된 세션의 남은 라이브 상태
+                    liveSessionStore.remove(sessionId);
+                    throw new CustomException(failCode);
+                }
+                registerLiveCleanup(sessionId);
+                persistLiveAnswers(session, live.answers());
+            }
+        }
+        SessionAnswerStats stats = answerRepository.aggregateBySessionId(sessionId);
+
+        session.end(target, stats);
+        studentDailyStatRepository.accumulateEnded(
+                session.getStudentId(),
+                session.getCreatedAt().toLocalDate(),
+                target == SessionStatus.COMPLETED ? 1 : 0,
+                target == SessionStatus.ABORTED ? 1 : 0,
+                (int) stats.answerCount(),
+                (int) stats.correctCount(),
+                stats.averageSimilarity() == null ? 0 : stats.averageSimilarity() * stats.answerCount(),
+                LocalDateTime.now()
+        );
+    }
+
+    private void persistLiveAnswers(Session session, List<BufferedAnswer> answers) {
+        if (answers.isEmpty()) {
+            return;
+        }
+        List<String> entryIds = new ArrayList<>(answers.size());
+        List<BufferedAnswer> rows = new ArrayList<>(answers.size());
+        for (int i = 0; i < answers.size(); i++) {
+            // 재시도 시 중복 저장되지 않도록 세션 내 순번을 고유 키로 사용
+            entryIds.add("live-" + session.getId() + "-" + (i + 1));
+            rows.add(answers.get(i).withScenarioVersionId(session.getScenarioVersionId()));
+        }
+        answerBulkRepository.insertBuffered(entryIds, rows);
+    }
 
-        session.abort();
+    private void registerLiveCleanup(Long sessionId) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    liveSessionStore.remove(sessionId);
+                } else {
+                    liveSessionStore.reopen(sessionId);
+                }
+            }
+        });
     }
 }
@@ -3,11 +3,15 @@ package com.ssafy.a202.domain.student.controller;
 import com.ssafy.a202.common.annotation.UserId;
 import com.ssafy.a202.common.entity.ApiResponse;
 import com.ssafy.a202.common.entity.ApiResponseEntity;
+import com.ssafy.a202.common.entity.CursorResponse;
 import com.ssafy.a202.common.entity.PageResponse;
 import com.ssafy.a202.common.entity.SuccessCode;
 import com.ssafy.a202.domain.student.dto.request.StudentRequest;
+import com.ssafy.a202.domain.student.dto.response.DailySessionsResponse;
+import com.ssafy.a202.domain.student.dto.response.MonthlyCalendarResponse;
 import com.ssafy.a202.domain.student.dto.response.StudentCreateResponse;
 import com.ssafy.a202.domain.student.dto.response.StudentPreviewResponse;
+import com.ssafy.a202.domain.student.service.StudentCalendarService;
 import com.ssafy.a202.domain.student.service.StudentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,9 +20,12 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
+
 @RestController
 @RequestMapping("/students")
 @RequiredArgsConstructor
@@ -26,6 +33,7 @@ import org.springframework.web.bind.annotation.*;
 public class StudentController {
 
     private final StudentService studentService;
+    private final StudentCalendarService studentCalendarService;
 
     @Operation(summary = "학생 생성", description = "새로운 학생을 등록합니다.")
     // todo: csv, excel 등 파일 일괄 등록 기능도 있음.
@@ -56,6 +64,56 @@ public class StudentController {
         );
     }
 
+    @Operation(summary = "학생 목록 커서 조회", description = "학생 목록을 커서 기반으로 최신순 조회합니다. 전체 개수는 withTotal=true일 때만 계산합니다.")
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorResponse<StudentPreviewResponse>>> getStudentsByCursor(
+            @Parameter(hidden = true) @UserId Long userId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "전체 개수 포함 여부", example = "false")
+            @RequestParam(defaultValue = "false") boolean withTotal
+    ) {
+        CursorResponse<StudentPreviewResponse> response = studentService.getStudentsByCursor(userId, cursor, size, withTotal);
+        return ApiResponseEntity.success(
+                SuccessCode.STUDENT_GET_LIST_SUCCESS,
+                response
+        );
+    }
+
+    @Operation(summary = "월간 학습 달력 조회", description = "담당(기관) 학생들의 날짜별 세션 수를 일간 집계에서 조회합니다.")
+    @GetMapping("/calendar/monthly")
+    public ResponseEntity<ApiResponse<MonthlyCalendarResponse>> getMonthlyCalendar(
+            @Parameter(hidden = true) @UserId Long userId,
+            @Parameter(description = "연도", required = true, example = "2025")
+            @RequestParam int year,
+            @Parameter(description = "월 (1~12)", required = true, example = "11")
+            @RequestParam int month
+    ) {
+        MonthlyCalendarResponse response = studentCalendarService.getMonthly(userId, year, month);
+        return ApiResponseEntity.success(
+                SuccessCode.STUDENT_CALENDAR_MONTHLY_GET_SUCCESS,
+                response
+        );
+    }
+
+    @Operation(summary = "일간 세션 목록 조회", description = "학생의 특정 날짜 세션 목록을 조회합니다.")
+    @GetMapping("/calendar/daily-sessions")
+    public ResponseEntity<ApiResponse<DailySessionsResponse>> getDailySessions(
+            @Parameter(hidden = true) @UserId Long userId,
+            @Parameter(description = "학생 ID", required = true, example = "1")
+            @RequestParam Long studentId,
+            @Parameter(description = "조회 날짜", required = true, example = "2025-11-05")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date
+    ) {
+        DailySessionsResponse response = studentCalendarService.getDailySessions(userId, studentId, date);
+        return ApiResponseEntity.success(
+                SuccessCode.STUDENT_CALENDAR_DAILY_GET_SUCCESS,
+                response
+        );
+    }
+
     @Operation(summary = "학생 정보 수정", description = "기존 학생의 정보를 수정합니다.")
     @PutMapping("/{studentId}")
     public ResponseEntity<ApiResponse<Void>> updateStudent(
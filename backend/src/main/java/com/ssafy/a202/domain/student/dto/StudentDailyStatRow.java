@@ -0,0 +1,19 @@
+package com.ssafy.a202.domain.student.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 학생 일간 집계 조회 행 (집계 + 학생 이름)
+ */
+public record StudentDailyStatRow(
+        LocalDate statDate,
+        Long studentId,
+        String studentName,
+        int sessionsStarted,
+        int sessionsCompleted,
+        int sessionsAborted,
+        int answerCount,
+        int correctCount,
+        double similaritySum
+) {
+}
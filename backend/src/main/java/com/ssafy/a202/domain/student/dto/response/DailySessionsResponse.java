@@ -0,0 +1,44 @@
+package com.ssafy.a202.domain.student.dto.response;
+
+import com.ssafy.a202.domain.session.dto.SessionSummaryRow;
+import com.ssafy.a202.domain.session.entity.SessionStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record DailySessionsResponse(
+        Long studentId,
+        String studentName,
+        LocalDate date,
+        List<SessionItem> sessions,
+        int totalCount
+) {
+    public record SessionItem(
+            Long sessionId,
+            Long scenarioId,
+            String scenarioTitle,
+            String thumbnailUrl,
+            String categoryName,
+            SessionStatus status,
+            LocalDateTime createdAt,
+            LocalDateTime completedAt
+    ) {
+        public static SessionItem of(SessionSummaryRow row, String thumbnailUrl) {
+            return new SessionItem(
+                    row.sessionId(),
+                    row.scenarioId(),
+                    row.scenarioTitle(),
+                    thumbnailUrl,
+                    row.categoryName(),
+                    row.status(),
+                    row.createdAt(),
+                    row.endedAt()
+            );
+        }
+    }
+
+    public static DailySessionsResponse of(Long studentId, String studentName, LocalDate date, List<SessionItem> sessions) {
+        return new DailySessionsResponse(studentId, studentName, date, sessions, sessions.size());
+    }
+}
@@ -0,0 +1,74 @@
+package com.ssafy.a202.domain.student.dto.response;
+
+import com.ssafy.a202.domain.student.dto.StudentDailyStatRow;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public record MonthlyCalendarResponse(
+        int year,
+        int month,
+        List<DailyStat> dailyStats,
+        int totalDays
+) {
+    public record DailyStat(
+            LocalDate date,
+            List<StudentSession> studentSessions,
+            int totalSessionCount
+    ) {
+    }
+
+    public record StudentSession(
+            Long studentId,
+            String studentName,
+            int sessionCount,
+            int completedCount,
+            int abortedCount,
+            int answerCount,
+            int correctCount,
+            Double averageSimilarity
+    ) {
+        public static StudentSession of(StudentDailyStatRow row) {
+            return new StudentSession(
+                    row.studentId(),
+                    row.studentName(),
+                    // 집계 도입 전에 시작되어 백필 전에 종료된 세션은 시작 수에 없으므로 종료 수로 보정
+                    Math.max(row.sessionsStarted(), row.sessionsCompleted() + row.sessionsAborted()),
+                    row.sessionsCompleted(),
+                    row.sessionsAborted(),
+                    row.answerCount(),
+                    row.correctCount(),
+                    row.answerCount() == 0 ? null : row.similaritySum() / row.answerCount()
+            );
+        }
+    }
+
+    /**
+     * 날짜 순으로 정렬된 집계 행을 날짜별로 묶습니다. 세션이 없는 날은 포함하지 않습니다.
+     */
+    public static MonthlyCalendarResponse of(int year, int month, List<StudentDailyStatRow> rows) {
+        List<DailyStat> dailyStats = new ArrayList<>();
+
+        int i = 0;
+        while (i < rows.size()) {
+            LocalDate date = rows.get(i).statDate();
+            List<StudentSession> studentSessions = new ArrayList<>();
+            int total = 0;
+
+            while (i < rows.size() && rows.get(i).statDate().equals(date)) {
+                StudentDailyStatRow row = rows.get(i++);
+                StudentSession studentSession = StudentSession.of(row);
+                if (studentSession.sessionCount() == 0) {
+                    continue;
+                }
+                studentSessions.add(studentSession);
+                total += studentSession.sessionCount();
+            }
+            if (!studentSessions.isEmpty()) {
+                dailyStats.add(new DailyStat(date, studentSessions, total));
+            }
+        }
+        return new MonthlyCalendarResponse(year, month, dailyStats, dailyStats.size());
+    }
+}
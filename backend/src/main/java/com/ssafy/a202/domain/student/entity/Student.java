@@ -9,7 +9,14 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "students")
+@Table(
+        name = "students",
+        indexes = {
+                @Index(name = "idx_students_deleted_created", columnList = "deleted_at, created_at, id"),
+                @Index(name = "idx_students_org_deleted_created", columnList = "org_id, deleted_at, created_at, id"),
+                @Index(name = "idx_students_user_deleted_created", columnList = "user_id, deleted_at, created_at, id")
+        }
+)
 @Getter
 @Builder
 @AllArgsConstructor
@@ -0,0 +1,65 @@
+package com.ssafy.a202.domain.student.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 학생별 일간 학습 집계 (세션 시작일 기준)
+ *
+ * <p>세션 시작/종료 시 {@code StudentDailyStatRepository}의 upsert로 증분 갱신되며,
+ * 달력과 대시보드는 원본 세션/답변 대신 이 행을 읽습니다.</p>
+ */
+@Entity
+@Table(
+        name = "student_daily_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_student_daily_stats", columnNames = {"student_id", "stat_date"}),
+        indexes = @Index(name = "idx_student_daily_stats_date", columnList = "stat_date, student_id")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StudentDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long studentId;
+
+    @Column(nullable = false)
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private int sessionsStarted;
+
+    @Column(nullable = false)
+    private int sessionsCompleted;
+
+    @Column(nullable = false)
+    private int sessionsAborted;
+
+    @Column(nullable = false)
+    private int answerCount;
+
+    @Column(nullable = false)
+    private int correctCount;
+
+    // 평균 유사도 = similaritySum / answerCount (증분 갱신을 위해 합계로 저장)
+    @Column(nullable = false)
+    private double similaritySum;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+
+    public Double getAverageSimilarity() {
+        return answerCount == 0 ? null : similaritySum / answerCount;
+    }
+}
@@ -0,0 +1,156 @@
+package com.ssafy.a202.domain.student.repository;
+
+import com.ssafy.a202.domain.student.dto.StudentDailyStatRow;
+import com.ssafy.a202.domain.student.entity.StudentDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 학생 일간 집계 리포지토리
+ *
+ * <p>갱신은 모두 {@code INSERT ... ON DUPLICATE KEY UPDATE}로 처리해, 행이 없으면 만들고 있으면 증분만 더합니다.
+ * 같은 (학생, 날짜) 행을 동시에 갱신해도 DB가 행 단위로 직렬화하므로 값이 유실되지 않습니다.</p>
+ */
+public interface StudentDailyStatRepository extends JpaRepository<StudentDailyStat, Long> {
+
+    /**
+     * 세션 시작 1건을 반영합니다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO student_daily_stats
+                (student_id, stat_date, sessions_started, sessions_completed, sessions_aborted,
+                 answer_count, correct_count, similarity_sum, created_at, updated_at)
+            VALUES (:studentId, :statDate, 1, 0, 0, 0, 0, 0, :now, :now)
+            ON DUPLICATE KEY UPDATE
+                sessions_started = sessions_started + 1,
+                updated_at = :now
+            """, nativeQuery = true)
+    void increaseStarted(@Param("studentId") Long studentId,
+                         @Param("statDate") LocalDate statDate,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * 세션 종료 1건과 그 세션의 답변 집계를 반영합니다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO student_daily_stats
+                (student_id, stat_date, sessions_started, sessions_completed, sessions_aborted,
+                 answer_count, correct_count, similarity_sum, created_at, updated_at)
+            VALUES (:studentId, :statDate, 0, :completed, :aborted, :answerCount, :correctCount, :similaritySum, :now, :now)
+            ON DUPLICATE KEY UPDATE
+                sessions_completed = sessions_completed + :completed,
+                sessions_aborted = sessions_aborted + :aborted,
+                answer_count = answer_count + :answerCount,
+                correct_count = correct_count + :correctCount,
+                similarity_sum = similarity_sum + :similaritySum,
+                updated_at = :now
+            """, nativeQuery = true)
+    void accumulateEnded(@Param("studentId") Long studentId,
+                         @Param("statDate") LocalDate statDate,
+                         @Param("completed") int completed,
+                         @Param("aborted") int aborted,
+                         @Param("answerCount") int answerCount,
+                         @Param("correctCount") int correctCount,
+                         @Param("similaritySum") double similaritySum,
+                         @Param("now") LocalDateTime now);
+
+    /**
+     * 한 번의 UPDATE로 중단 처리된 세션들을 학생/날짜별로 묶어 반영합니다.
+     * 대상은 호출자가 같은 트랜잭션에서 락을 잡고 중단한 세션 ID로만 정합니다.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO student_daily_stats
+                (student_id, stat_date, sessions_started, sessions_completed, sessions_aborted,
+                 answer_count, correct_count, similarity_sum, created_at, updated_at)
+            SELECT s.student_id, DATE(s.created_at), 0, 0, COUNT(*),
+                   COALESCE(SUM(s.answer_count), 0), COALESCE(SUM(s.correct_count), 0),
+                   COALESCE(SUM(s.answer_count * s.average_similarity), 0), :now, :now
+            FROM sessions s
+            WHERE s.id IN (:sessionIds)
+            GROUP BY s.student_id, DATE(s.created_at)
+            ON DUPLICATE KEY UPDATE
+                sessions_aborted = sessions_aborted + VALUES(sessions_aborted),
+                answer_count = answer_count + VALUES(answer_count),
+                correct_count = correct_count + VALUES(correct_count),
+                similarity_sum = similarity_sum + VALUES(similarity_sum),
+                updated_at = VALUES(updated_at)
+            """, nativeQuery = true)
+    void accumulateAborted(@Param("sessionIds") Collection<Long> sessionIds,
+                           @Param("now") LocalDateTime now);
+
+    /**
+     * [from, to) 기간에 시작된 세션으로 일간 집계 행을 원본에서 다시 계산해 덮어씁니다. (집계 도입 이전 이력 백필용)
+     *
+     * <p>증분 갱신과 같은 기준으로 계산합니다: 시작한 세션은 모두 세고, 답변은 종료된 세션의 것만 셉니다.
+     * 진행 중인 세션의 답변은 나중에 종료될 때 증분으로 더해집니다.</p>
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO student_daily_stats
+                (student_id, stat_date, sessions_started, sessions_completed, sessions_aborted,
+                 answer_count, correct_count, similarity_sum, created_at, updated_at)
+            SELECT s.student_id, DATE(s.created_at), COUNT(*),
+                   SUM(CASE WHEN s.session_status = 'COMPLETED' THEN 1 ELSE 0 END),
+                   SUM(CASE WHEN s.session_status = 'ABORTED' THEN 1 ELSE 0 END),
+                   COALESCE(SUM(x.answer_count), 0), COALESCE(SUM(x.correct_count), 0),
+                   COALESCE(SUM(x.similarity_sum), 0), :now, :now
+            FROM sessions s
+            LEFT JOIN (
+                SELECT a.session_id,
+                       COUNT(*) AS answer_count,
+                       SUM(CASE WHEN a.is_correct THEN 1 ELSE 0 END) AS correct_count,
+                       SUM(a.similarity_score) AS similarity_sum
+                FROM answers a
+                JOIN sessions s2 ON s2.id = a.session_id
+                WHERE s2.created_at >= :from AND s2.created_at < :to
+                  AND a.deleted_at IS NULL
+                GROUP BY a.session_id
+            ) x ON x.session_id = s.id AND s.session_status <> 'IN_PROGRESS'
+            WHERE s.created_at >= :from AND s.created_at < :to
+              AND s.student_id IS NOT NULL
+              AND s.deleted_at IS NULL
+            GROUP BY s.student_id, DATE(s.created_at)
+            ON DUPLICATE KEY UPDATE
+                sessions_started = VALUES(sessions_started),
+                sessions_completed = VALUES(sessions_completed),
+                sessions_aborted = VALUES(sessions_aborted),
+                answer_count = VALUES(answer_count),
+                correct_count = VALUES(correct_count),
+                similarity_sum = VALUES(similarity_sum),
+                updated_at = VALUES(updated_at)
+            """, nativeQuery = true)
+    int recompute(@Param("from") LocalDateTime from,
+                  @Param("to") LocalDateTime to,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * 기간 내 일간 집계를 학생 이름과 함께 조회합니다.
+     * organizationId, userId가 null이면 해당 조건은 적용하지 않습니다.
+     */
+    @Query("""
+            select new com.ssafy.a202.domain.student.dto.StudentDailyStatRow(
+                d.statDate, s.id, s.fullName, d.sessionsStarted, d.sessionsCompleted, d.sessionsAborted,
+                d.answerCount, d.correctCount, d.similaritySum)
+            from StudentDailyStat d
+            join Student s on s.id = d.studentId
+            where d.statDate between :from and :to
+              and s.deletedAt is null
+              and (:organizationId is null or s.organization.id = :organizationId)
+              and (:userId is null or s.user.id = :userId)
+            order by d.statDate, s.fullName, s.id
+            """)
+    List<StudentDailyStatRow> findRows(@Param("from") LocalDate from,
+                                       @Param("to") LocalDate to,
+                                       @Param("organizationId") Long organizationId,
+                                       @Param("userId") Long userId);
+}
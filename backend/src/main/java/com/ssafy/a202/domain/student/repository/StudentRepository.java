@@ -4,7 +4,11 @@ import com.ssafy.a202.domain.student.entity.Student;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface StudentRepository extends JpaRepository<Student, Long> {
@@ -16,4 +20,34 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     Page<Student> findByUserIdAndDeletedAtIsNull(Long userId, Pageable pageable);
 
     Optional<Student> findByIdAndDeletedAtIsNull(Long studentId);
+
+    /**
+     * 커서 페이징용: (createdAt, id) 보다 뒤에 있는 학생을 최신순으로 조회합니다.
+     * organizationId, userId가 null이면 해당 조건은 적용하지 않습니다.
+     */
+    @Query("""
+            select s from Student s
+            join fetch s.organization
+            join fetch s.user
+            where s.deletedAt is null
+              and (:organizationId is null or s.organization.id = :organizationId)
+              and (:userId is null or s.user.id = :userId)
+              and (:cursorCreatedAt is null
+                   or s.createdAt < :cursorCreatedAt
+                   or (s.createdAt = :cursorCreatedAt and s.id < :cursorId))
+            order by s.createdAt desc, s.id desc
+            """)
+    List<Student> findByCursor(
+            @Param("organizationId") Long organizationId,
+            @Param("userId") Long userId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    long countByDeletedAtIsNull();
+
+    long countByOrganizationIdAndDeletedAtIsNull(Long organizationId);
+
+    long countByUserIdAndDeletedAtIsNull(Long userId);
 }
@@ -0,0 +1,83 @@
+package com.ssafy.a202.domain.student.scheduler;
+
+import com.ssafy.a202.common.lock.RedisLock;
+import com.ssafy.a202.domain.student.repository.StudentDailyStatRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 학생 일간 집계 백필 작업 (일회성)
+ *
+ * <p>집계 도입 이전의 세션은 {@code student_daily_stats}에 없어서 달력에서 빠지거나,
+ * 도입 이후에 종료된 경우 시작 수 0인 행으로만 남습니다.
+ * {@code student.daily-stats.backfill.enabled=true}로 기동하면 [{@code from}, {@code to}) 기간을 하루씩
+ * 원본 세션/답변에서 다시 계산해 덮어씁니다. 같은 날짜를 다시 계산해도 결과가 같으므로 재실행해도 안전합니다.</p>
+ *
+ * <p>다시 계산하는 동안 같은 날짜의 세션이 종료되면 그 증분이 덮어써질 수 있으므로,
+ * 기본값은 어제까지만 계산합니다. {@link RedisLock}으로 클러스터에서 한 노드만 실행합니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "student.daily-stats.backfill.enabled", havingValue = "true")
+public class StudentDailyStatBackfill implements ApplicationRunner {
+
+    private static final String LOCK_NAME = "student-daily-stats-backfill";
+
+    private final StudentDailyStatRepository studentDailyStatRepository;
+    private final RedisLock redisLock;
+    private final TransactionTemplate transactionTemplate;
+    private final LocalDate from;
+    private final LocalDate to;
+    private final Duration lockLease;
+
+    public StudentDailyStatBackfill(
+            StudentDailyStatRepository studentDailyStatRepository,
+            RedisLock redisLock,
+            TransactionTemplate transactionTemplate,
+            @Value("${student.daily-stats.backfill.from}") LocalDate from,
+            @Value("${student.daily-stats.backfill.to:#{null}}") LocalDate to,
+            @Value("${student.daily-stats.backfill.lock-lease:1h}") Duration lockLease
+    ) {
+        this.studentDailyStatRepository = studentDailyStatRepository;
+        this.redisLock = redisLock;
+        this.transactionTemplate = transactionTemplate;
+        this.from = from;
+        this.to = to != null ? to : LocalDate.now();
+        this.lockLease = lockLease;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Optional<String> token = redisLock.tryAcquire(LOCK_NAME, lockLease);
+        if (token.isEmpty()) {
+            return;
+        }
+        try {
+            long startedAt = System.nanoTime();
+            long rows = 0;
+            int days = 0;
+            for (LocalDate date = from; date.isBefore(to); date = date.plusDays(1)) {
+                LocalDateTime dayStart = date.atStartOfDay();
+                // 하루씩 별도 트랜잭션으로 처리해 락 범위와 실패 시 재시도 범위를 줄임
+                Integer updated = transactionTemplate.execute(status -> studentDailyStatRepository.recompute(
+                        dayStart, dayStart.plusDays(1), LocalDateTime.now()));
+                rows += updated == null ? 0 : updated;
+                days++;
+            }
+            log.info("학생 일간 집계 백필: from={}, to={}, days={}, rows={}, elapsed={}ms",
+                    from, to, days, rows, Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        } finally {
+            redisLock.release(LOCK_NAME, token.get());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.ssafy.a202.domain.student.service;
+
+import com.ssafy.a202.domain.student.dto.response.DailySessionsResponse;
+import com.ssafy.a202.domain.student.dto.response.MonthlyCalendarResponse;
+
+import java.time.LocalDate;
+
+public interface StudentCalendarService {
+
+    MonthlyCalendarResponse getMonthly(Long userId, int year, int month);
+
+    DailySessionsResponse getDailySessions(Long userId, Long studentId, LocalDate date);
+}
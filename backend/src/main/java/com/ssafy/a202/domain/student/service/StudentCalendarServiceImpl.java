@@ -0,0 +1,86 @@
+package com.ssafy.a202.domain.student.service;
+
+import com.ssafy.a202.common.exception.CustomException;
+import com.ssafy.a202.common.exception.ErrorCode;
+import com.ssafy.a202.common.roleAop.PermissionAction;
+import com.ssafy.a202.common.roleAop.studentPermission.CheckStudentPermission;
+import com.ssafy.a202.domain.presignedUrl.client.S3Client;
+import com.ssafy.a202.domain.session.dto.SessionSummaryRow;
+import com.ssafy.a202.domain.session.repository.SessionRepository;
+import com.ssafy.a202.domain.student.dto.response.DailySessionsResponse;
+import com.ssafy.a202.domain.student.dto.response.MonthlyCalendarResponse;
+import com.ssafy.a202.domain.student.entity.Student;
+import com.ssafy.a202.domain.student.repository.StudentDailyStatRepository;
+import com.ssafy.a202.domain.student.repository.StudentRepository;
+import com.ssafy.a202.domain.user.entity.User;
+import com.ssafy.a202.domain.user.entity.UserRole;
+import com.ssafy.a202.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 학생 학습 달력 조회
+ *
+ * <p>월간 달력은 학생 일간 집계({@code student_daily_stats})만 읽으므로 학생 수 × 일 수 이하의 행만 조회합니다.
+ * 일간 세션 목록은 한 학생의 하루치 세션만 인덱스로 조회합니다.</p>
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StudentCalendarServiceImpl implements StudentCalendarService {
+
+    private final UserRepository userRepository;
+    private final StudentRepository studentRepository;
+    private final StudentDailyStatRepository studentDailyStatRepository;
+    private final SessionRepository sessionRepository;
+    private final S3Client s3Client;
+
+    @Override
+    public MonthlyCalendarResponse getMonthly(Long userId, int year, int month) {
+        User user = userRepository.findByIdAndDeletedAtIsNull(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        YearMonth yearMonth;
+        try {
+            yearMonth = YearMonth.of(year, month);
+        } catch (DateTimeException e) {
+            throw new CustomException(ErrorCode.VALIDATION_FAILED);
+        }
+
+        // 역할별 조회 범위: ADMIN 전체, ORG_ADMIN 소속 기관, TEACHER 담당 학생
+        Long organizationId = user.getRole() == UserRole.ORG_ADMIN ? user.getOrganization().getId() : null;
+        Long teacherId = user.getRole() == UserRole.TEACHER ? userId : null;
+
+        return MonthlyCalendarResponse.of(year, month, studentDailyStatRepository.findRows(
+                yearMonth.atDay(1),
+                yearMonth.atEndOfMonth(),
+                organizationId,
+                teacherId
+        ));
+    }
+
+    @CheckStudentPermission(PermissionAction.VIEW)
+    @Override
+    public DailySessionsResponse getDailySessions(Long userId, Long studentId, LocalDate date) {
+        Student student = studentRepository.findByIdAndDeletedAtIsNull(studentId)
+                .orElseThrow(() -> new CustomException(ErrorCode.STUDENT_NOT_FOUND));
+
+        List<SessionSummaryRow> rows = sessionRepository.findSummariesByStudentId(
+                studentId, date.atStartOfDay(), date.plusDays(1).atStartOfDay());
+
+        List<DailySessionsResponse.SessionItem> sessions = new ArrayList<>();
+        for (SessionSummaryRow row : rows) {
+            String thumbnailUrl = row.thumbnailS3Key() == null ? null : s3Client.getPublicS3Url(row.thumbnailS3Key());
+            sessions.add(DailySessionsResponse.SessionItem.of(row, thumbnailUrl));
+        }
+
+        return DailySessionsResponse.of(student.getId(), student.getFullName(), date, sessions);
+    }
+}
@@ -1,5 +1,6 @@
 package com.ssafy.a202.domain.student.service;
 
+import com.ssafy.a202.common.entity.CursorResponse;
 import com.ssafy.a202.common.entity.PageResponse;
 import com.ssafy.a202.common.roleAop.PermissionAction;
 import com.ssafy.a202.common.roleAop.studentPermission.CheckStudentPermission;
@@ -15,6 +16,8 @@ public interface StudentService {
 
     PageResponse<StudentPreviewResponse> getStudents(Long userId, Pageable pageable);
 
+    CursorResponse<StudentPreviewResponse> getStudentsByCursor(Long userId, String cursor, int size, boolean withTotal);
+
     @CheckStudentPermission(PermissionAction.UPDATE)
     @Transactional
     void update(Long userId, Long studentId, StudentRequest request);
@@ -1,10 +1,13 @@
 package com.ssafy.a202.domain.student.service;
 
+import com.ssafy.a202.common.entity.CursorResponse;
+import com.ssafy.a202.common.entity.KeysetCursor;
 import com.ssafy.a202.common.entity.PageResponse;
 import com.ssafy.a202.common.exception.CustomException;
 import com.ssafy.a202.common.exception.ErrorCode;
 import com.ssafy.a202.common.roleAop.PermissionAction;
 import com.ssafy.a202.common.roleAop.studentPermission.CheckStudentPermission;
+import com.ssafy.a202.domain.session.repository.SessionRepository;
 import com.ssafy.a202.domain.student.dto.request.StudentRequest;
 import com.ssafy.a202.domain.student.dto.response.StudentCreateResponse;
 import com.ssafy.a202.domain.student.dto.response.StudentPreviewResponse;
@@ -15,6 +18,7 @@ import com.ssafy.a202.domain.user.entity.UserRole;
 import com.ssafy.a202.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,6 +33,7 @@ public class StudentServiceImpl implements StudentService {
 
     private final UserRepository userRepository;
     private final StudentRepository studentRepository;
+    private final SessionRepository sessionRepository;
 
     @Transactional
     @Override
@@ -84,6 +89,54 @@ public class StudentServiceImpl implements StudentService {
         return PageResponse.of(studentPage, responseList);
     }
 
+    @Override
+    public CursorResponse<StudentPreviewResponse> getStudentsByCursor(Long userId, String cursor, int size, boolean withTotal) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        int pageSize = Math.clamp(size, 1, CursorResponse.MAX_SIZE);
+
+        // 역할별 조회 범위: ADMIN 전체, ORG_ADMIN 소속 기관, TEACHER 담당 학생
+        Long organizationId = user.getRole() == UserRole.ORG_ADMIN ? user.getOrganization().getId() : null;
+        Long teacherId = user.getRole() == UserRole.TEACHER ? userId : null;
+
+        // 다음 페이지 존재 여부 판단을 위해 한 건 더 조회
+        List<Student> students = studentRepository.findByCursor(
+                organizationId,
+                teacherId,
+                keysetCursor == null ? null : keysetCursor.createdAt(),
+                keysetCursor == null ? null : keysetCursor.id(),
+                PageRequest.of(0, pageSize + 1)
+        );
+        boolean hasNext = students.size() > pageSize;
+        if (hasNext) {
+            students = students.subList(0, pageSize);
+        }
+
+        List<StudentPreviewResponse> responseList = new ArrayList<>();
+        for (Student student : students) {
+            responseList.add(StudentPreviewResponse.of(student));
+        }
+
+        KeysetCursor nextCursor = null;
+        if (hasNext) {
+            Student last = students.get(students.size() - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getId());
+        }
+
+        Long totalElements = null;
+        if (withTotal) {
+            totalElements = switch (user.getRole()) {
+                case ADMIN -> studentRepository.countByDeletedAtIsNull();
+                case ORG_ADMIN -> studentRepository.countByOrganizationIdAndDeletedAtIsNull(organizationId);
+                case TEACHER -> studentRepository.countByUserIdAndDeletedAtIsNull(userId);
+            };
+        }
+
+        return CursorResponse.of(responseList, pageSize, nextCursor, totalElements);
+    }
+
     @CheckStudentPermission(PermissionAction.UPDATE)
     @Transactional
     @Override
@@ -118,6 +171,10 @@ public class StudentServiceImpl implements StudentService {
         }
 
         student.update(homeroomTeacher, request);
+        if (homeroomTeacher != null) {
+            // 세션에 비정규화한 담임 교사도 함께 변경 (교사별 이력 조회 기준)
+            sessionRepository.reassignTeacher(studentId, homeroomTeacher.getId());
+        }
     }
 
     @CheckStudentPermission(PermissionAction.DELETE)
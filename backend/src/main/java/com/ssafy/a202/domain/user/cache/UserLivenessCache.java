@@ -0,0 +1,148 @@
+package com.ssafy.a202.domain.user.cache;
+
+import com.ssafy.a202.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 삭제(탈퇴)된 사용자 캐시
+ *
+ * <p>인증 필터가 요청마다 {@code users} 행을 조회하지 않도록, 삭제된 사용자 ID 집합을
+ * Redis Set({@code auth:revoked-users})에 두고 각 노드가 로컬 스냅샷으로 들고 있습니다.
+ * 삭제된 사용자는 수가 적어 전체 집합을 메모리에 두어도 부담이 없습니다.</p>
+ *
+ * <p>동기화 작업이 한 번이라도 돌면 {@code auth:revoked-users:synced-at} 키가 생기며, 이 키가 있으면 집합이 비어 있어도
+ * (삭제된 사용자가 없음) Redis 값을 그대로 믿습니다. 키가 없을 때만 DB에서 직접 읽습니다.</p>
+ *
+ * <p>집합이 바뀌면 {@link #replaceAll(Collection)}이 Redis 키를 원자적으로 교체하고 Pub/Sub로 알려
+ * 다른 노드가 즉시 다시 읽습니다. 메시지가 유실되더라도 {@code auth.liveness.refresh-interval-ms}마다 다시 읽으므로
+ * 반영 지연은 그 주기를 넘지 않습니다. Redis 장애 시에는 마지막 스냅샷을 유지합니다.</p>
+ *
+ * <p>메트릭: {@code auth.revoked_users.size}, {@code auth.liveness.refresh{result=ok|fail}}</p>
+ */
+@Slf4j
+@Component
+public class UserLivenessCache {
+
+    private static final String KEY = "auth:revoked-users";
+    private static final String TMP_KEY = "auth:revoked-users:tmp";
+    private static final String SYNCED_AT_KEY = "auth:revoked-users:synced-at";
+    private static final String CHANGED_CHANNEL = "auth:revoked-users:changed";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final UserRepository userRepository;
+
+    private final Counter refreshOkCounter;
+    private final Counter refreshFailCounter;
+
+    // 읽기 전용 스냅샷을 통째로 교체 (요청 스레드는 락 없이 조회)
+    private volatile Set<Long> revokedUserIds = Set.of();
+
+    public UserLivenessCache(
+            RedisTemplate<String, String> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.userRepository = userRepository;
+
+        Gauge.builder("auth.revoked_users.size", this, cache -> cache.revokedUserIds.size())
+                .register(meterRegistry);
+        this.refreshOkCounter = Counter.builder("auth.liveness.refresh")
+                .tag("result", "ok")
+                .register(meterRegistry);
+        this.refreshFailCounter = Counter.builder("auth.liveness.refresh")
+                .tag("result", "fail")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void init() {
+        listenerContainer.addMessageListener((message, pattern) -> refresh(), new ChannelTopic(CHANGED_CHANNEL));
+        refresh();
+    }
+
+    /**
+     * 삭제된 사용자인지 확인합니다. DB나 Redis를 호출하지 않습니다.
+     */
+    public boolean isRevoked(Long userId) {
+        return revokedUserIds.contains(userId);
+    }
+
+    /**
+     * Redis에서 삭제된 사용자 집합을 다시 읽어 로컬 스냅샷을 교체합니다.
+     * 아직 한 번도 동기화되지 않아 동기화 시각 키가 없으면 DB에서 직접 읽습니다.
+     */
+    @Scheduled(fixedDelayString = "${auth.liveness.refresh-interval-ms:30000}")
+    public void refresh() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(SYNCED_AT_KEY))) {
+                revokedUserIds = Set.copyOf(userRepository.findDeletedIds());
+            } else {
+                Set<String> members = redisTemplate.opsForSet().members(KEY);
+                revokedUserIds = members == null
+                        ? Set.of()
+                        : members.stream().map(Long::valueOf).collect(Collectors.toUnmodifiableSet());
+            }
+            refreshOkCounter.increment();
+        } catch (Exception e) {
+            refreshFailCounter.increment();
+            log.warn("삭제된 사용자 캐시 갱신 실패, 이전 스냅샷 유지: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Redis의 삭제된 사용자 집합을 주어진 ID로 교체하고 다른 노드에 알립니다.
+     * 기존 집합과 같으면 동기화 시각만 남기고 교체하지 않습니다.
+     *
+     * @return 교체했으면 true
+     */
+    public boolean replaceAll(Collection<Long> userIds) {
+        Set<String> next = userIds.stream().map(String::valueOf).collect(Collectors.toSet());
+        Set<String> current = redisTemplate.opsForSet().members(KEY);
+        if (current != null && current.equals(next)) {
+            markSynced();
+            return false;
+        }
+
+        if (next.isEmpty()) {
+            redisTemplate.delete(KEY);
+        } else {
+            // 임시 키에 채운 뒤 RENAME으로 교체해 읽는 쪽이 중간 상태를 보지 않도록 함
+            redisTemplate.delete(TMP_KEY);
+            List<String> values = List.copyOf(next);
+            for (int from = 0; from < values.size(); from += 1_000) {
+                List<String> chunk = values.subList(from, Math.min(from + 1_000, values.size()));
+                redisTemplate.opsForSet().add(TMP_KEY, chunk.toArray(String[]::new));
+            }
+            redisTemplate.rename(TMP_KEY, KEY);
+        }
+        markSynced();
+
+        revokedUserIds = Set.copyOf(userIds);
+        redisTemplate.convertAndSend(CHANGED_CHANNEL, String.valueOf(next.size()));
+        return true;
+    }
+
+    // 빈 집합도 "동기화됨"으로 구분할 수 있도록 별도 키에 시각을 기록
+    private void markSynced() {
+        redisTemplate.opsForValue().set(SYNCED_AT_KEY, String.valueOf(System.currentTimeMillis()));
+    }
+}
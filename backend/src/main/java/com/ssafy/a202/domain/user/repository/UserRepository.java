@@ -2,7 +2,9 @@ package com.ssafy.a202.domain.user.repository;
 
 import com.ssafy.a202.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -14,4 +16,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByEmailAndDeletedAtIsNull(String email);
 
     Optional<User> findByIdAndDeletedAtIsNull(Long userId);
+
+    /**
+     * 삭제된 사용자 ID 목록 (인증 필터의 삭제 사용자 캐시 동기화용)
+     */
+    @Query("select u.id from User u where u.deletedAt is not null")
+    List<Long> findDeletedIds();
 }
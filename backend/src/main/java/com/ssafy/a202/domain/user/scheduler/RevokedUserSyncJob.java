@@ -0,0 +1,83 @@
+package com.ssafy.a202.domain.user.scheduler;
+
+import com.ssafy.a202.common.lock.RedisLock;
+import com.ssafy.a202.domain.user.cache.UserLivenessCache;
+import com.ssafy.a202.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 삭제된 사용자 동기화 작업
+ *
+ * <p>{@code users.deleted_at}이 채워진 사용자 ID를 읽어 {@link UserLivenessCache}의 Redis 집합과 맞춥니다.
+ * 관리 도구나 DB에서 직접 삭제/복구한 경우도 이 작업이 반영하므로, 삭제는 최대
+ * {@code auth.liveness.sync-interval-ms} 안에 모든 노드에 적용됩니다.</p>
+ *
+ * <p>{@link RedisLock}으로 클러스터에서 한 노드만 실행합니다.
+ * 메트릭: {@code auth.liveness.sync{changed=true|false}}</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "auth.liveness.sync-enabled", havingValue = "true")
+public class RevokedUserSyncJob {
+
+    private static final String LOCK_NAME = "revoked-user-sync";
+
+    private final UserRepository userRepository;
+    private final UserLivenessCache userLivenessCache;
+    private final RedisLock redisLock;
+    private final Duration lockLease;
+
+    private final Counter changedCounter;
+    private final Counter unchangedCounter;
+
+    public RevokedUserSyncJob(
+            UserRepository userRepository,
+            UserLivenessCache userLivenessCache,
+            RedisLock redisLock,
+            MeterRegistry meterRegistry,
+            @Value("${auth.liveness.lock-lease:1m}") Duration lockLease
+    ) {
+        this.userRepository = userRepository;
+        this.userLivenessCache = userLivenessCache;
+        this.redisLock = redisLock;
+        this.lockLease = lockLease;
+
+        this.changedCounter = Counter.builder("auth.liveness.sync")
+                .tag("changed", "true")
+                .register(meterRegistry);
+        this.unchangedCounter = Counter.builder("auth.liveness.sync")
+                .tag("changed", "false")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.liveness.sync-interval-ms:30000}")
+    public void sync() {
+        Optional<String> token = redisLock.tryAcquire(LOCK_NAME, lockLease);
+        if (token.isEmpty()) {
+            return;
+        }
+        try {
+            List<Long> deletedIds = userRepository.findDeletedIds();
+            if (userLivenessCache.replaceAll(deletedIds)) {
+                changedCounter.increment();
+                log.info("삭제된 사용자 동기화: revoked={}", deletedIds.size());
+            } else {
+                unchangedCounter.increment();
+            }
+        } catch (Exception e) {
+            log.warn("삭제된 사용자 동기화 실패: {}", e.getMessage());
+        } finally {
+            redisLock.release(LOCK_NAME, token.get());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.ssafy.a202.common.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JtiBloomFilterTest {
+
+    @Test
+    void 동시에_추가해도_추가한_값은_모두_포함된다() throws Exception {
+        int threads = 8;
+        int perThread = 20_000;
+        JtiBloomFilter filter = new JtiBloomFilter((long) threads * perThread, 0.01);
+        List<List<String>> batches = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            List<String> batch = new ArrayList<>(perThread);
+            for (int i = 0; i < perThread; i++) {
+                batch.add(UUID.randomUUID().toString());
+            }
+            batches.add(batch);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> futures = new ArrayList<>();
+            for (List<String> batch : batches) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    batch.forEach(filter::put);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        for (List<String> batch : batches) {
+            for (String jti : batch) {
+                assertThat(filter.mightContain(jti)).as(jti).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void 예상_항목_수만큼_채우면_오탐률이_목표_근처다() {
+        int capacity = 100_000;
+        double targetRate = 0.01;
+        JtiBloomFilter filter = new JtiBloomFilter(capacity, targetRate);
+        for (int i = 0; i < capacity; i++) {
+            filter.put(UUID.randomUUID().toString());
+        }
+
+        int probes = 200_000;
+        int falsePositives = 0;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+        double observed = (double) falsePositives / probes;
+
+        assertThat(observed).isLessThan(targetRate * 1.5);
+        assertThat(filter.expectedFalsePositiveRate()).isBetween(targetRate * 0.5, targetRate * 1.5);
+    }
+}
@@ -0,0 +1,123 @@
+package com.ssafy.a202.domain.scenario.service;
+
+import com.ssafy.a202.common.config.AuditingConfig;
+import com.ssafy.a202.domain.category.entity.Category;
+import com.ssafy.a202.domain.presignedUrl.client.S3Client;
+import com.ssafy.a202.domain.scenario.dto.response.ScenarioDetailResponse;
+import com.ssafy.a202.domain.scenario.entity.DifficultyLevel;
+import com.ssafy.a202.domain.scenario.entity.Option;
+import com.ssafy.a202.domain.scenario.entity.Scenario;
+import com.ssafy.a202.domain.scenario.entity.Sequence;
+import com.ssafy.a202.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({AuditingConfig.class, ScenarioDetailLoader.class})
+class ScenarioDetailLoaderTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private ScenarioDetailLoader scenarioDetailLoader;
+
+    @MockitoBean
+    private S3Client s3Client;
+
+    private User user;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        em.createNativeQuery("insert into organizations (id, org_name, created_at, updated_at) values (1, '테스트학교', now(), now())")
+                .executeUpdate();
+        em.createNativeQuery("insert into categories (id, name, created_at) values (1, '사회생활', now())")
+                .executeUpdate();
+        em.createNativeQuery("insert into users (id, org_id, username, password, full_name, email, role, created_at, updated_at) "
+                        + "values (1, 1, 'teacher', 'pw', '김선생', 't@school.com', 'TEACHER', now(), now())")
+                .executeUpdate();
+        user = em.find(User.class, 1L);
+        category = em.find(Category.class, 1L);
+    }
+
+    @Test
+    void 시퀀스_수와_관계없이_쿼리_수가_일정하다() {
+        long small = countStatementsForLoad(persistScenario(1, 4).getId());
+        long large = countStatementsForLoad(persistScenario(30, 4).getId());
+
+        assertThat(small).isEqualTo(2);
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void 삭제된_옵션은_제외하고_옵션이_없는_시퀀스는_빈_목록으로_조회한다() {
+        Scenario scenario = persistScenario(2, 2);
+        Sequence empty = persistSequence(scenario, 3);
+        em.createQuery("update Option o set o.deletedAt = current_timestamp where o.optionNo = 1")
+                .executeUpdate();
+        em.flush();
+        em.clear();
+
+        ScenarioDetailResponse response = scenarioDetailLoader.load(scenario.getId());
+
+        assertThat(response.sequences()).hasSize(3);
+        assertThat(response.sequences().get(0).options()).extracting("optionNo").containsExactly(2);
+        assertThat(response.sequences().get(2).sequenceId()).isEqualTo(empty.getId());
+        assertThat(response.sequences().get(2).options()).isEmpty();
+    }
+
+    private long countStatementsForLoad(Long scenarioId) {
+        em.flush();
+        em.clear();
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        scenarioDetailLoader.load(scenarioId);
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private Scenario persistScenario(int sequenceCount, int optionCount) {
+        Scenario scenario = Scenario.builder()
+                .user(user)
+                .category(category)
+                .title("마트에서 인사하기")
+                .description("설명")
+                .difficultyLevel(DifficultyLevel.EASY)
+                .build();
+        em.persist(scenario);
+
+        for (int seqNo = 1; seqNo <= sequenceCount; seqNo++) {
+            Sequence sequence = persistSequence(scenario, seqNo);
+            for (int optionNo = 1; optionNo <= optionCount; optionNo++) {
+                em.persist(Option.builder()
+                        .sequence(sequence)
+                        .optionNo(optionNo)
+                        .isCorrect(optionNo == 1)
+                        .optionText("옵션 " + optionNo)
+                        .build());
+            }
+        }
+        return scenario;
+    }
+
+    private Sequence persistSequence(Scenario scenario, int seqNo) {
+        Sequence sequence = Sequence.builder()
+                .scenario(scenario)
+                .seqNo(seqNo)
+                .question("질문 " + seqNo)
+                .build();
+        em.persist(sequence);
+        return sequence;
+    }
+}
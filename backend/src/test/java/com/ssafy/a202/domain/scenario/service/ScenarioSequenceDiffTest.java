@@ -0,0 +1,220 @@
+package com.ssafy.a202.domain.scenario.service;
+
+import com.ssafy.a202.common.config.AuditingConfig;
+import com.ssafy.a202.common.exception.CustomException;
+import com.ssafy.a202.common.exception.ErrorCode;
+import com.ssafy.a202.domain.presignedUrl.client.S3Client;
+import com.ssafy.a202.domain.scenario.cache.ScenarioDetailCache;
+import com.ssafy.a202.domain.scenario.dto.request.OptionRequest;
+import com.ssafy.a202.domain.scenario.dto.request.ScenarioRequest;
+import com.ssafy.a202.domain.scenario.dto.request.SequenceRequest;
+import com.ssafy.a202.domain.scenario.dto.response.ScenarioUpdateResponse;
+import com.ssafy.a202.domain.scenario.entity.DifficultyLevel;
+import com.ssafy.a202.domain.scenario.entity.Option;
+import com.ssafy.a202.domain.scenario.entity.Sequence;
+import com.ssafy.a202.domain.scenario.repository.ScenarioBulkRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import({AuditingConfig.class, ScenarioServiceImpl.class, ScenarioBulkRepository.class})
+class ScenarioSequenceDiffTest {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private ScenarioServiceImpl scenarioService;
+
+    @MockitoBean
+    private S3Client s3Client;
+
+    @MockitoBean
+    private ScenarioDetailLoader scenarioDetailLoader;
+
+    @MockitoBean
+    private ScenarioDetailCache scenarioDetailCache;
+
+    @MockitoBean
+    private ScenarioVersionService scenarioVersionService;
+
+    private Long scenarioId;
+
+    @BeforeEach
+    void setUp() {
+        em.createNativeQuery("insert into organizations (id, org_name, created_at, updated_at) values (1, '테스트학교', now(), now())")
+                .executeUpdate();
+        em.createNativeQuery("insert into categories (id, name, created_at) values (1, '사회생활', now())")
+                .executeUpdate();
+        em.createNativeQuery("insert into users (id, org_id, username, password, full_name, email, role, created_at, updated_at) "
+                        + "values (1, 1, 'teacher', 'pw', '김선생', 't@school.com', 'TEACHER', now(), now())")
+                .executeUpdate();
+
+        // 시퀀스 1~3, 각 옵션 1~3
+        scenarioId = scenarioService.create(1L, request(
+                sequence(1, "질문 1", 1, 2, 3),
+                sequence(2, "질문 2", 1, 2, 3),
+                sequence(3, "질문 3", 1, 2, 3)
+        )).scenarioId();
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 순서만_바꾸면_번호로_매칭되어_아무것도_바뀌지_않는다() {
+        Map<Integer, Long> before = aliveSequenceIds();
+
+        ScenarioUpdateResponse response = update(
+                sequence(3, "질문 3", 3, 1, 2),
+                sequence(1, "질문 1", 2, 3, 1),
+                sequence(2, "질문 2", 1, 2, 3)
+        );
+
+        assertThat(response.inserted()).isZero();
+        assertThat(response.updated()).isZero();
+        assertThat(response.deleted()).isZero();
+        assertThat(aliveSequenceIds()).isEqualTo(before);
+    }
+
+    @Test
+    void 같은_번호의_내용이_바뀌면_ID를_유지한_채_갱신한다() {
+        Map<Integer, Long> before = aliveSequenceIds();
+
+        ScenarioUpdateResponse response = update(
+                sequence(1, "바뀐 질문 1", 1, 2, 3),
+                sequence(2, "질문 2", 1, 2, 3),
+                new SequenceRequest(3, "질문 3", List.of(
+                        new OptionRequest(1, true, "바뀐 옵션", null),
+                        option(2),
+                        option(3)))
+        );
+
+        assertThat(response.updated()).isEqualTo(2);
+        assertThat(response.inserted()).isZero();
+        assertThat(response.deleted()).isZero();
+        assertThat(aliveSequenceIds()).isEqualTo(before);
+    }
+
+    @Test
+    void 요청에서_빠진_시퀀스와_옵션은_소프트_삭제한다() {
+        ScenarioUpdateResponse response = update(
+                sequence(1, "질문 1", 1, 2),
+                sequence(3, "질문 3", 1, 2, 3)
+        );
+
+        // 시퀀스 2 + 그 옵션 3개 + 시퀀스 1의 옵션 3
+        assertThat(response.deleted()).isEqualTo(5);
+        assertThat(aliveSequenceIds()).containsOnlyKeys(1, 3);
+        assertThat(aliveOptionNos(1)).containsExactly(1, 2);
+        assertThat(em.createQuery("select count(o) from Option o where o.deletedAt is not null", Long.class)
+                .getSingleResult()).isEqualTo(4);
+    }
+
+    @Test
+    void 요청에만_있는_시퀀스와_옵션은_추가한다() {
+        Map<Integer, Long> before = aliveSequenceIds();
+
+        ScenarioUpdateResponse response = update(
+                sequence(1, "질문 1", 1, 2, 3, 4),
+                sequence(2, "질문 2", 1, 2, 3),
+                sequence(3, "질문 3", 1, 2, 3),
+                sequence(4, "질문 4", 1, 2)
+        );
+
+        // 시퀀스 1의 옵션 4 + 시퀀스 4 + 그 옵션 2개
+        assertThat(response.inserted()).isEqualTo(4);
+        assertThat(response.deleted()).isZero();
+        assertThat(aliveSequenceIds()).containsAllEntriesOf(before).containsKey(4);
+        assertThat(aliveOptionNos(1)).containsExactly(1, 2, 3, 4);
+        assertThat(aliveOptionNos(4)).containsExactly(1, 2);
+    }
+
+    @Test
+    void 시퀀스_번호가_중복되면_거부한다() {
+        assertThatThrownBy(() -> update(
+                sequence(1, "질문 1", 1),
+                sequence(1, "또 질문 1", 1)
+        ))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode", "data")
+                .containsExactly(ErrorCode.SCENARIO_DUPLICATE_NUMBER, List.of("seq_no=1"));
+    }
+
+    @Test
+    void 한_시퀀스_안의_옵션_번호가_중복되면_거부한다() {
+        assertThatThrownBy(() -> update(
+                sequence(1, "질문 1", 1, 2),
+                sequence(2, "질문 2", 1, 2, 2)
+        ))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode", "data")
+                .containsExactly(ErrorCode.SCENARIO_DUPLICATE_NUMBER, List.of("seq_no=2,option_no=2"));
+    }
+
+    @Test
+    void 다른_시퀀스의_같은_옵션_번호는_중복이_아니다() {
+        ScenarioUpdateResponse response = update(
+                sequence(1, "질문 1", 1),
+                sequence(2, "질문 2", 1)
+        );
+
+        // 시퀀스 3 + 그 옵션 3개 + 시퀀스 1, 2의 옵션 2, 3
+        assertThat(response.deleted()).isEqualTo(8);
+        assertThat(aliveOptionNos(1)).containsExactly(1);
+        assertThat(aliveOptionNos(2)).containsExactly(1);
+    }
+
+    private ScenarioUpdateResponse update(SequenceRequest... sequences) {
+        ScenarioUpdateResponse response = scenarioService.update(1L, scenarioId, request(sequences));
+        em.flush();
+        em.clear();
+        return response;
+    }
+
+    private Map<Integer, Long> aliveSequenceIds() {
+        return em.createQuery("select s from Sequence s where s.scenario.id = :scenarioId and s.deletedAt is null", Sequence.class)
+                .setParameter("scenarioId", scenarioId)
+                .getResultStream()
+                .collect(Collectors.toMap(Sequence::getSeqNo, Sequence::getId));
+    }
+
+    private List<Integer> aliveOptionNos(int seqNo) {
+        return em.createQuery("select o from Option o where o.sequence.scenario.id = :scenarioId "
+                        + "and o.sequence.seqNo = :seqNo and o.sequence.deletedAt is null and o.deletedAt is null "
+                        + "order by o.optionNo", Option.class)
+                .setParameter("scenarioId", scenarioId)
+                .setParameter("seqNo", seqNo)
+                .getResultStream()
+                .map(Option::getOptionNo)
+                .toList();
+    }
+
+    private static ScenarioRequest request(SequenceRequest... sequences) {
+        return new ScenarioRequest(1L, "마트에서 인사하기", "설명", null, null, DifficultyLevel.EASY, List.of(sequences));
+    }
+
+    private static SequenceRequest sequence(int seqNo, String question, int... optionNos) {
+        List<OptionRequest> options = new ArrayList<>();
+        for (int optionNo : optionNos) {
+            options.add(option(optionNo));
+        }
+        return new SequenceRequest(seqNo, question, options);
+    }
+
+    private static OptionRequest option(int optionNo) {
+        return new OptionRequest(optionNo, optionNo == 1, "옵션 " + optionNo, null);
+    }
+}
@@ -0,0 +1,236 @@
+package com.ssafy.a202.domain.scenario.service;
+
+import com.ssafy.a202.common.config.AuditingConfig;
+import com.ssafy.a202.domain.category.entity.Category;
+import com.ssafy.a202.domain.presignedUrl.client.S3Client;
+import com.ssafy.a202.domain.scenario.cache.ScenarioDetailCache;
+import com.ssafy.a202.domain.scenario.dto.request.OptionRequest;
+import com.ssafy.a202.domain.scenario.dto.request.ScenarioRequest;
+import com.ssafy.a202.domain.scenario.dto.request.SequenceRequest;
+import com.ssafy.a202.domain.scenario.dto.response.ScenarioCreateResponse;
+import com.ssafy.a202.domain.scenario.entity.DifficultyLevel;
+import com.ssafy.a202.domain.scenario.entity.Option;
+import com.ssafy.a202.domain.scenario.entity.Scenario;
+import com.ssafy.a202.domain.scenario.entity.Sequence;
+import com.ssafy.a202.domain.scenario.repository.ScenarioBulkRepository;
+import com.ssafy.a202.domain.user.entity.User;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 시나리오 생성/수정의 쓰기 문장 수 측정 (시퀀스 20개 × 옵션 4개)
+ *
+ * <p>JdbcTemplate 다중 행 INSERT는 Hibernate 통계에 잡히지 않으므로 DataSource를 감싸 준비된 SQL을 직접 셉니다.
+ * 행 단위 {@code persist}로 같은 트리를 저장한 결과를 이전 방식의 기준값으로 함께 측정합니다.</p>
+ */
+@DataJpaTest
+@Import({AuditingConfig.class, ScenarioServiceImpl.class, ScenarioBulkRepository.class,
+        ScenarioWriteStatementCountTest.SqlCaptureConfig.class})
+class ScenarioWriteStatementCountTest {
+
+    private static final int SEQUENCES = 20;
+    private static final int OPTIONS = 4;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private ScenarioServiceImpl scenarioService;
+
+    @Autowired
+    private SqlCapture sqlCapture;
+
+    @MockitoBean
+    private S3Client s3Client;
+
+    @MockitoBean
+    private ScenarioDetailLoader scenarioDetailLoader;
+
+    @MockitoBean
+    private ScenarioDetailCache scenarioDetailCache;
+
+    @MockitoBean
+    private ScenarioVersionService scenarioVersionService;
+
+    private User user;
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        em.createNativeQuery("insert into organizations (id, org_name, created_at, updated_at) values (1, '테스트학교', now(), now())")
+                .executeUpdate();
+        em.createNativeQuery("insert into categories (id, name, created_at) values (1, '사회생활', now())")
+                .executeUpdate();
+        em.createNativeQuery("insert into users (id, org_id, username, password, full_name, email, role, created_at, updated_at) "
+                        + "values (1, 1, 'teacher', 'pw', '김선생', 't@school.com', 'TEACHER', now(), now())")
+                .executeUpdate();
+        user = em.find(User.class, 1L);
+        category = em.find(Category.class, 1L);
+        em.flush();
+    }
+
+    @Test
+    void 행_단위_저장은_행마다_INSERT가_나간다() {
+        sqlCapture.clear();
+
+        Scenario scenario = Scenario.from(user, category, request(SEQUENCES, OPTIONS, "질문"));
+        em.persist(scenario);
+        for (SequenceRequest seq : request(SEQUENCES, OPTIONS, "질문").sequences()) {
+            Sequence sequence = Sequence.from(scenario, seq);
+            em.persist(sequence);
+            for (OptionRequest opt : seq.options()) {
+                em.persist(Option.from(sequence, opt));
+            }
+        }
+        em.flush();
+
+        assertThat(sqlCapture.count("insert")).isEqualTo(1 + SEQUENCES + SEQUENCES * OPTIONS);
+    }
+
+    @Test
+    void 생성은_계층별_INSERT_한_번씩이다() {
+        sqlCapture.clear();
+
+        scenarioService.create(user.getId(), request(SEQUENCES, OPTIONS, "질문"));
+        em.flush();
+
+        // 시나리오 1 + 시퀀스 1 + 옵션 1
+        assertThat(sqlCapture.count("insert")).isEqualTo(3);
+        assertThat(countAlive("Option")).isEqualTo(SEQUENCES * OPTIONS);
+    }
+
+    @Test
+    void 같은_내용으로_수정하면_시퀀스와_옵션을_쓰지_않는다() {
+        ScenarioCreateResponse created = scenarioService.create(user.getId(), request(SEQUENCES, OPTIONS, "질문"));
+        em.flush();
+        em.clear();
+        sqlCapture.clear();
+
+        scenarioService.update(user.getId(), created.scenarioId(), request(SEQUENCES, OPTIONS, "질문"));
+        em.flush();
+
+        assertThat(sqlCapture.count("insert")).isZero();
+        // 시나리오 행(내용, 버전)만 갱신
+        assertThat(sqlCapture.count("update sequences")).isZero();
+        assertThat(sqlCapture.count("update options")).isZero();
+    }
+
+    @Test
+    void 시퀀스_하나를_추가하면_INSERT_두_번이다() {
+        ScenarioCreateResponse created = scenarioService.create(user.getId(), request(SEQUENCES, OPTIONS, "질문"));
+        em.flush();
+        em.clear();
+        sqlCapture.clear();
+
+        scenarioService.update(user.getId(), created.scenarioId(), request(SEQUENCES + 1, OPTIONS, "질문"));
+        em.flush();
+
+        // 시퀀스 1 + 옵션 1 (이전 방식은 전체 소프트 삭제 후 105행 INSERT)
+        assertThat(sqlCapture.count("insert")).isEqualTo(2);
+        assertThat(countAlive("Sequence")).isEqualTo(SEQUENCES + 1);
+    }
+
+    private long countAlive(String entity) {
+        em.flush();
+        return em.createQuery("select count(e) from " + entity + " e where e.deletedAt is null", Long.class)
+                .getSingleResult();
+    }
+
+    private static ScenarioRequest request(int sequenceCount, int optionCount, String question) {
+        List<SequenceRequest> sequences = new ArrayList<>();
+        for (int seqNo = 1; seqNo <= sequenceCount; seqNo++) {
+            List<OptionRequest> options = new ArrayList<>();
+            for (int optionNo = 1; optionNo <= optionCount; optionNo++) {
+                options.add(new OptionRequest(optionNo, optionNo == 1, "옵션 " + optionNo, null));
+            }
+            sequences.add(new SequenceRequest(seqNo, question + " " + seqNo, options));
+        }
+        return new ScenarioRequest(1L, "마트에서 인사하기", "설명", null, null, DifficultyLevel.EASY, sequences);
+    }
+
+    /**
+     * 커넥션에서 준비되는 SQL을 기록하는 DataSource 래퍼
+     */
+    static class SqlCapture {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        void clear() {
+            statements.clear();
+        }
+
+        long count(String prefix) {
+            return statements.stream().filter(sql -> sql.startsWith(prefix)).count();
+        }
+
+        DataSource wrap(DataSource target) {
+            return proxy(DataSource.class, target, (method, args, result) ->
+                    result instanceof Connection connection ? wrap(connection) : result);
+        }
+
+        private Connection wrap(Connection target) {
+            return proxy(Connection.class, target, (method, args, result) -> {
+                if (method.getName().startsWith("prepare") && args != null && args[0] instanceof String sql) {
+                    statements.add(sql.strip().toLowerCase(Locale.ROOT));
+                }
+                return result;
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, Interceptor interceptor) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+                try {
+                    return interceptor.afterCall(method, args, method.invoke(target, args));
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+
+        @FunctionalInterface
+        private interface Interceptor {
+            Object afterCall(Method method, Object[] args, Object result);
+        }
+    }
+
+    @TestConfiguration
+    static class SqlCaptureConfig {
+
+        @Bean
+        SqlCapture sqlCapture() {
+            return new SqlCapture();
+        }
+
+        @Bean
+        static BeanPostProcessor sqlCaptureDataSourceWrapper(ObjectProvider<SqlCapture> sqlCapture) {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? sqlCapture.getObject().wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+}